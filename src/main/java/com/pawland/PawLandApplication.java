@@ -4,14 +4,30 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.Map;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling
 @ConfigurationPropertiesScan
 public class PawLandApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(PawLandApplication.class, args);
+        SpringApplication application = new SpringApplication(PawLandApplication.class);
+        // 메트릭은 서비스 포트가 아닌 별도 관리 포트로만 노출, 외부 설정으로 덮어쓸 수 있음
+        application.setDefaultProperties(Map.of(
+            "management.server.port", "8081",
+            "management.endpoints.web.exposure.include", "health,prometheus",
+            "spring.jpa.open-in-view", "false",  // 영속성 컨텍스트는 PersistenceContextConfig 의 필터가 요청 전체에 걸쳐 열어 둠
+            // 1KB 보다 작은 응답은 압축해도 줄어드는 양보다 CPU 비용이 커서 그대로 보냄
+            "server.compression.enabled", "true",
+            "server.compression.min-response-size", "1KB",
+            "server.compression.mime-types", "application/json,application/x-ndjson,application/problem+json,text/html,text/plain,text/css,application/javascript",
+            "pawland.feed.enabled", "true"
+        ));
+        application.run(args);
     }
 
 }
@@ -11,7 +11,6 @@ import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.mail.MessagingException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,8 +22,6 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.io.UnsupportedEncodingException;
-
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.OK;
 
@@ -64,7 +61,7 @@ public class AuthController {
     @ApiResponse(responseCode = "201", description = "인증번호 요청 성공")
     @ApiResponse(responseCode = "500", description = "메일 전송 실패")
     @PostMapping(value = "/send-verification-code", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<ApiMessageResponse> sendVerificationCode(@Valid @RequestBody SendVerificationCodeRequest request) throws MessagingException, UnsupportedEncodingException {
+    public ResponseEntity<ApiMessageResponse> sendVerificationCode(@Valid @RequestBody SendVerificationCodeRequest request) {
         authFacade.sendVerificationCode(request.getEmail());
         return ResponseEntity
             .status(CREATED)
@@ -8,12 +8,10 @@ import com.pawland.global.domain.DefaultImage;
 import com.pawland.mail.service.MailVerificationService;
 import com.pawland.user.domain.User;
 import com.pawland.user.service.UserService;
-import jakarta.mail.MessagingException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
-import java.io.UnsupportedEncodingException;
 import java.util.Date;
 
 @Component
@@ -34,7 +32,7 @@ public class AuthFacade {
         userService.checkEmailDuplicate(email);
     }
 
-    public void sendVerificationCode(String email) throws MessagingException, UnsupportedEncodingException {
+    public void sendVerificationCode(String email) {
         mailVerificationService.sendVerificationCode(email);
     }
 
@@ -7,4 +7,6 @@ import java.util.List;
 public interface ChatMessageRepositoryCustom {
 
     List<ChatMessage> getChatMessageHistory(String roomId, String messageTime, int pageSize);
+
+    List<ChatMessage> getLastMessages(List<Long> roomIds);
 }
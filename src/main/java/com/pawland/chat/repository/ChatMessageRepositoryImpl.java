@@ -1,7 +1,9 @@
 package com.pawland.chat.repository;
 
 import com.pawland.chat.domain.ChatMessage;
+import com.pawland.chat.domain.QChatMessage;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -31,6 +33,22 @@ public class ChatMessageRepositoryImpl implements ChatMessageRepositoryCustom {
             .fetch();
     }
 
+    // 채팅방마다 가장 최근 메시지를 한 번에 조회, 같은 시각의 메시지가 여럿이면 모두 돌려줌
+    @Override
+    public List<ChatMessage> getLastMessages(List<Long> roomIds) {
+        QChatMessage latest = new QChatMessage("latest");
+        return jpaQueryFactory
+            .selectFrom(chatMessage)
+            .where(
+                chatMessage.roomId.in(roomIds),
+                chatMessage.messageTime.eq(JPAExpressions
+                    .select(latest.messageTime.max())
+                    .from(latest)
+                    .where(latest.roomId.eq(chatMessage.roomId)))
+            )
+            .fetch();
+    }
+
     private BooleanExpression roomIdEq(String roomId) {
         Long roomIdToLong = Long.parseLong(roomId);
         return hasText(roomId) ? chatMessage.roomId.eq(roomIdToLong) : null;
@@ -1,6 +1,7 @@
 package com.pawland.chat.service;
 
 import com.pawland.chat.domain.ChatMessage;
+import com.pawland.chat.domain.ChatRoom;
 import com.pawland.chat.dto.request.ChatMessageRequest;
 import com.pawland.chat.dto.request.ChatRoomCreateRequest;
 import com.pawland.chat.dto.response.ChatMessageHistoryResponse;
@@ -10,6 +11,7 @@ import com.pawland.chat.repository.ChatMessageRepository;
 import com.pawland.chat.repository.ChatRoomRepository;
 import com.pawland.order.exception.OrderException;
 import com.pawland.order.respository.OrderJpaRepository;
+import com.pawland.outbox.service.OutboxService;
 import com.pawland.product.exception.ProductException;
 import com.pawland.product.respository.ProductJpaRepository;
 import com.pawland.user.exception.UserException;
@@ -20,6 +22,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.pawland.outbox.domain.DomainEventType.CHAT_ROOM_CREATED;
 
 @Service
 @RequiredArgsConstructor
@@ -31,17 +37,27 @@ public class ChatService {
     private final UserRepository userRepository;
     private final ProductJpaRepository productJpaRepository;
     private final OrderJpaRepository orderJpaRepository;
+    private final OutboxService outboxService;
     private static final int CHAT_MESSAGE_HISTORY_SIZE = 10;
 
     @Transactional
     public void createChatRoom(Long userId, ChatRoomCreateRequest request) {
         validateChatRoomCreateRequest(request);
-        chatRoomRepository.save(request.toChatRoomWithMyId(userId));
+        ChatRoom chatRoom = chatRoomRepository.save(request.toChatRoomWithMyId(userId));
+        outboxService.append(CHAT_ROOM_CREATED, chatRoom.getId(), Map.of(
+            "sellerId", chatRoom.getSellerId(),
+            "buyerId", chatRoom.getBuyerId(),
+            "productId", chatRoom.getProductId(),
+            "orderId", chatRoom.getOrderId()
+        ));
     }
 
+    // 채팅방 목록과 마지막 메시지를 각각 한 번씩 조회해서 채팅방 수와 관계없이 쿼리 수가 일정함
     public List<ChatRoomInfoResponse> getChatRoomList(Long userId) {
-        return chatRoomRepository.getMyChatRoomList(userId).stream()
-            .map(roomInfo -> roomInfo.of(getLastMessage(roomInfo.getRoomId())))
+        List<ChatRoomInfoResponse> rooms = chatRoomRepository.getMyChatRoomList(userId);
+        Map<Long, ChatMessage> lastMessages = getLastMessages(rooms.stream().map(ChatRoomInfoResponse::getRoomId).toList());
+        return rooms.stream()
+            .map(roomInfo -> roomInfo.of(lastMessages.get(roomInfo.getRoomId())))
             .toList();
     }
 
@@ -63,9 +79,12 @@ public class ChatService {
         }
     }
 
-    private ChatMessage getLastMessage(Long roomId) {
-        return chatMessageRepository.getLastMessage(roomId)
-            .orElse(null);
+    private Map<Long, ChatMessage> getLastMessages(List<Long> roomIds) {
+        if (roomIds.isEmpty()) {
+            return Map.of();
+        }
+        return chatMessageRepository.getLastMessages(roomIds).stream()
+            .collect(Collectors.toMap(ChatMessage::getRoomId, chatMessage -> chatMessage, (first, second) -> first));
     }
 
     private void validateChatRoomCreateRequest(ChatRoomCreateRequest request) {
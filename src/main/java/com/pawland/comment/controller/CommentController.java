@@ -2,13 +2,16 @@ package com.pawland.comment.controller;
 
 import com.pawland.comment.dto.request.CreateCommentRequest;
 import com.pawland.comment.dto.request.UpdateCommentRequest;
+import com.pawland.comment.dto.response.CommentCursorResponse;
 import com.pawland.comment.dto.response.CommentResponse;
 import com.pawland.comment.service.CommentService;
 import com.pawland.global.config.security.domain.UserPrincipal;
+import com.pawland.global.config.swagger.SecurityNotRequired;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -23,6 +26,26 @@ public class CommentController {
 
     private final CommentService commentService;
 
+    @SecurityNotRequired
+    @Operation(summary = "게시글 댓글 페이징 조회", description = "최상위 댓글을 페이징하고 대댓글은 미리보기 개수만큼 함께 조회합니다.")
+    @GetMapping("/post/{postId}")
+    public ResponseEntity<Page<CommentResponse>> getComments(@PathVariable Long postId,
+                                                             @RequestParam(required = true) int page,
+                                                             @RequestParam(required = true) int size,
+                                                             @RequestParam(required = false, defaultValue = "3") int previewSize) {
+        return ResponseEntity.ok(commentService.getComments(postId, page, size, previewSize));
+    }
+
+    @SecurityNotRequired
+    @Operation(summary = "게시글 댓글 커서 조회", description = "cursor 이후의 최상위 댓글을 size 개 조회합니다. 첫 요청은 cursor 없이 보냅니다.")
+    @GetMapping("/post/{postId}/cursor")
+    public ResponseEntity<CommentCursorResponse> getCommentsByCursor(@PathVariable Long postId,
+                                                                     @RequestParam(required = false) Long cursor,
+                                                                     @RequestParam(required = false, defaultValue = "20") int size,
+                                                                     @RequestParam(required = false, defaultValue = "3") int previewSize) {
+        return ResponseEntity.ok(commentService.getCommentsByCursor(postId, cursor, size, previewSize));
+    }
+
     @PreAuthorize("hasRole('ROLE_USER')")
     @Operation(summary = "댓글 등록")
     @PostMapping("/post/{postId}")
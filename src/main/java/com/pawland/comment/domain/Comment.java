@@ -58,6 +58,15 @@ public class Comment extends BaseTimeEntity {
 
     }
 
+    // 최상위 댓글이 1
+    public int getDepth() {
+        int depth = 1;
+        for (Comment current = parent; current != null; current = current.parent) {
+            depth++;
+        }
+        return depth;
+    }
+
     public void update(UpdateCommentRequest updateCommentRequest) {
         this.content = updateCommentRequest.getContent();
     }
@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_recommend_comment_comment_user", columnNames = {"comment_id", "user_id"}))
 public class RecommendComment extends BaseTimeEntity {
 
     @Id
@@ -0,0 +1,20 @@
+package com.pawland.comment.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(name = "댓글 커서 페이징 응답")
+public class CommentCursorResponse {
+    private List<CommentResponse> comments;
+    private Long nextCursor;
+    private boolean hasNext;
+
+    public CommentCursorResponse(List<CommentResponse> comments, Long nextCursor, boolean hasNext) {
+        this.comments = comments;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
@@ -1,11 +1,13 @@
 package com.pawland.comment.dto.response;
 
 import com.pawland.comment.domain.Comment;
+import com.pawland.comment.respository.CommentRow;
 import com.pawland.user.dto.response.UserResponse;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Data
@@ -15,6 +17,7 @@ public class CommentResponse {
     private UserResponse author;
     private String content;
     private List<CommentResponse> replies;
+    private int replyCount;
     private Long recommendCount;
     private LocalDateTime createdAt;
 
@@ -23,6 +26,7 @@ public class CommentResponse {
         this.author = author;
         this.content = content;
         this.replies = replies;
+        this.replyCount = replies.size();
         this.recommendCount = recommendCount;
         this.createdAt = createdAt;
     }
@@ -35,4 +39,31 @@ public class CommentResponse {
                 (long) comment.getRecommendComments().size(),
                 comment.getCreatedDate());
     }
+
+    // 트리 조립용, 대댓글은 조립하면서 채워넣음
+    public static CommentResponse of(CommentRow row, Long recommendCount) {
+        return new CommentResponse(row.getId(),
+                UserResponse.of(row.getAuthor()),
+                row.getContent(),
+                new ArrayList<>(),
+                recommendCount,
+                row.getCreatedDate());
+    }
+
+    public void addReply(CommentResponse reply) {
+        this.replies.add(reply);
+        this.replyCount++;
+    }
+
+    // replyCount 는 바로 아래 답글뿐 아니라 하위 답글 전체 수
+    public void addDescendants(int count) {
+        this.replyCount += count;
+    }
+
+    // 전체 대댓글 수는 유지하고 미리보기 개수만큼만 남김
+    public void limitReplies(int previewSize) {
+        if (replies.size() > previewSize) {
+            this.replies = new ArrayList<>(replies.subList(0, previewSize));
+        }
+    }
 }
@@ -21,6 +21,12 @@ public class CommentException extends PawLandException {
         }
     }
 
+    public static class ReplyTooDeep extends CommentException {
+        public ReplyTooDeep() {
+            super(CommentExceptionMessage.REPLY_TOO_DEEP.getMessage());
+        }
+    }
+
     @Override
     public int getStatusCode() {
         return HttpStatus.BAD_REQUEST.value();
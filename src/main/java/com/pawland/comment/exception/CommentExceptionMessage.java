@@ -5,7 +5,8 @@ import lombok.Getter;
 @Getter
 public enum CommentExceptionMessage {
     COMMENT_NOT_FOUND("댓글을 찾을수 없습니다."),
-    ACCESS_DENIED_EXCEPTION("변경 권한이 없습니다.");
+    ACCESS_DENIED_EXCEPTION("변경 권한이 없습니다."),
+    REPLY_TOO_DEEP("더 이상 답글을 달 수 없습니다.");
 
     private final String message;
 
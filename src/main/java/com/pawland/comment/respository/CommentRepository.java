@@ -0,0 +1,162 @@
+package com.pawland.comment.respository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.pawland.comment.domain.QComment.comment;
+import static com.pawland.comment.domain.QRecommendComment.recommendComment;
+import static com.pawland.user.domain.QUser.user;
+
+@Repository
+@RequiredArgsConstructor
+public class CommentRepository {
+
+    // 댓글 -> 대댓글 -> 대대댓글 까지만 허용 (작성 시 CommentService 에서 막음, 조회 시 더 깊은 기존 답글은 이 단계로 올림)
+    public static final int MAX_DEPTH = 3;
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    // 대댓글은 post 가 비어있어서 최상위 댓글만 post_id 로 찾고 아래 단계는 parent_id 로 내려감
+    public List<CommentRow> getCommentTreeByPostId(Long postId) {
+        return collectTree(selectTreeRows()
+            .where(comment.post.id.eq(postId), comment.parent.isNull())
+            .fetch());
+    }
+
+    public List<CommentRow> getCommentTreeByRootIds(Collection<Long> rootIds) {
+        return collectTree(selectTreeRows()
+            .where(comment.id.in(rootIds))
+            .fetch());
+    }
+
+    // 트리 조회와 같은 방식으로 MAX_DEPTH 보다 깊은 답글까지 단계마다 id 와 수정 시각만 읽고, 모인 댓글의 추천 수를 한 번에 셈
+    public CommentTreeVersion getTreeVersion(Long postId) {
+        List<Tuple> level = jpaQueryFactory.select(comment.id, comment.modifiedDate)
+            .from(comment)
+            .where(comment.post.id.eq(postId), comment.parent.isNull())
+            .fetch();
+        List<Long> ids = new ArrayList<>();
+        LocalDateTime lastModifiedDate = null;
+        while (!level.isEmpty()) {
+            List<Long> levelIds = new ArrayList<>(level.size());
+            for (Tuple row : level) {
+                levelIds.add(row.get(comment.id));
+                LocalDateTime modifiedDate = row.get(comment.modifiedDate);
+                if (lastModifiedDate == null || (modifiedDate != null && modifiedDate.isAfter(lastModifiedDate))) {
+                    lastModifiedDate = modifiedDate;
+                }
+            }
+            ids.addAll(levelIds);
+            level = jpaQueryFactory.select(comment.id, comment.modifiedDate)
+                .from(comment)
+                .where(comment.parent.id.in(levelIds))
+                .fetch();
+        }
+
+        Long recommendCount = ids.isEmpty() ? Long.valueOf(0L) : jpaQueryFactory.select(recommendComment.count())
+            .from(recommendComment)
+            .where(recommendComment.comment.id.in(ids))
+            .fetchOne();
+        return new CommentTreeVersion(ids.size(), lastModifiedDate, recommendCount == null ? 0 : recommendCount);
+    }
+
+    public Page<Long> getRootCommentIds(Long postId, Pageable pageable) {
+        BooleanExpression isRootOfPost = comment.post.id.eq(postId).and(comment.parent.isNull());
+        List<Long> rootIds = jpaQueryFactory.select(comment.id)
+            .from(comment)
+            .where(isRootOfPost)
+            .orderBy(comment.id.asc())
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize())
+            .fetch();
+
+        JPAQuery<Long> countQuery = jpaQueryFactory.select(comment.count())
+            .from(comment)
+            .where(isRootOfPost);
+
+        return PageableExecutionUtils.getPage(rootIds, pageable, countQuery::fetchOne);
+    }
+
+    // 커서(마지막으로 받은 최상위 댓글 id) 이후의 최상위 댓글 id 를 limit 개 조회
+    public List<Long> getRootCommentIdsAfter(Long postId, Long cursor, int limit) {
+        return jpaQueryFactory.select(comment.id)
+            .from(comment)
+            .where(comment.post.id.eq(postId),
+                comment.parent.isNull(),
+                cursor == null ? null : comment.id.gt(cursor))
+            .orderBy(comment.id.asc())
+            .limit(limit)
+            .fetch();
+    }
+
+    public Map<Long, Long> getRecommendCounts(Collection<Long> commentIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (commentIds.isEmpty()) {
+            return counts;
+        }
+        List<Tuple> tuples = jpaQueryFactory.select(recommendComment.comment.id, recommendComment.count())
+            .from(recommendComment)
+            .where(recommendComment.comment.id.in(commentIds))
+            .groupBy(recommendComment.comment.id)
+            .fetch();
+        for (Tuple tuple : tuples) {
+            counts.put(tuple.get(recommendComment.comment.id), tuple.get(recommendComment.count()));
+        }
+        return counts;
+    }
+
+    // 단계마다 parent_id 인덱스로 바로 아래 자식만 조회해서 단계 수만큼만 쿼리함
+    // 깊이 제한 전에 달린 MAX_DEPTH 보다 깊은 답글은 숨기지 않고 MAX_DEPTH - 1 단계 조상 아래로 올려서 MAX_DEPTH 단계에 보여줌
+    // id 순으로 정렬해서 부모 댓글이 항상 자식보다 먼저 나오도록 함
+    private List<CommentRow> collectTree(List<CommentRow> roots) {
+        List<CommentRow> rows = new ArrayList<>(roots);
+        Map<Long, Long> anchorById = new HashMap<>();
+        List<CommentRow> level = roots;
+        for (int depth = 2; !level.isEmpty(); depth++) {
+            List<CommentRow> children = selectTreeRows()
+                .where(comment.parent.id.in(level.stream().map(CommentRow::getId).toList()))
+                .fetch();
+            if (depth >= MAX_DEPTH) {
+                children = children.stream()
+                    .map(row -> {
+                        Long anchorId = anchorById.getOrDefault(row.getParentId(), row.getParentId());
+                        anchorById.put(row.getId(), anchorId);
+                        return row.withParentId(anchorId);
+                    })
+                    .toList();
+            }
+            rows.addAll(children);
+            level = children;
+        }
+        rows.sort(Comparator.comparing(CommentRow::getId));
+        return rows;
+    }
+
+    private JPAQuery<CommentRow> selectTreeRows() {
+        return jpaQueryFactory.select(Projections.constructor(CommentRow.class,
+                comment.id,
+                comment.parent.id,
+                user,
+                comment.content,
+                comment.createdDate))
+            .from(comment)
+            .join(comment.author, user)
+            .orderBy(comment.id.asc());
+    }
+}
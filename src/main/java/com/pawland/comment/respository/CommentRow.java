@@ -0,0 +1,28 @@
+package com.pawland.comment.respository;
+
+import com.pawland.user.domain.User;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class CommentRow {
+
+    private final Long id;
+    private final Long parentId;
+    private final User author;
+    private final String content;
+    private final LocalDateTime createdDate;
+
+    public CommentRow(Long id, Long parentId, User author, String content, LocalDateTime createdDate) {
+        this.id = id;
+        this.parentId = parentId;
+        this.author = author;
+        this.content = content;
+        this.createdDate = createdDate;
+    }
+
+    public CommentRow withParentId(Long parentId) {
+        return new CommentRow(id, parentId, author, content, createdDate);
+    }
+}
@@ -0,0 +1,16 @@
+package com.pawland.comment.respository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 게시글의 댓글 트리(답글 포함)가 바뀌었는지 판단하는 값들
+@Getter
+@RequiredArgsConstructor
+public class CommentTreeVersion {
+
+    private final long commentCount;
+    private final LocalDateTime lastModifiedDate;
+    private final long recommendCount;
+}
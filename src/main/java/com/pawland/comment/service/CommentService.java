@@ -1,28 +1,51 @@
 package com.pawland.comment.service;
 
 import com.pawland.comment.domain.Comment;
-import com.pawland.comment.domain.RecommendComment;
 import com.pawland.comment.dto.request.CreateCommentRequest;
 import com.pawland.comment.dto.request.UpdateCommentRequest;
+import com.pawland.comment.dto.response.CommentCursorResponse;
 import com.pawland.comment.dto.response.CommentResponse;
 import com.pawland.comment.exception.CommentException;
 import com.pawland.comment.respository.CommentJpaRepository;
+import com.pawland.comment.respository.CommentRepository;
+import com.pawland.comment.respository.CommentRow;
+import com.pawland.comment.respository.CommentTreeVersion;
+import com.pawland.global.config.security.RequestUserContext;
 import com.pawland.post.domain.Post;
 import com.pawland.post.exception.PostException;
 import com.pawland.post.repository.PostJpaRepository;
+import com.pawland.reaction.domain.ReactionResult;
+import com.pawland.reaction.service.ReactionService;
+import com.pawland.trending.service.TrendingService;
 import com.pawland.user.domain.User;
-import com.pawland.user.exception.UserException;
-import com.pawland.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.pawland.reaction.domain.ReactionType.COMMENT_RECOMMEND;
+import static com.pawland.trending.domain.TrendingEvent.COMMENT;
+
 @Service
 @RequiredArgsConstructor
 public class CommentService {
+
+    private static final int MAX_CURSOR_SIZE = 100;
+
     private final CommentJpaRepository commentJpaRepository;
-    private final UserRepository userRepository;
+    private final CommentRepository commentRepository;
     private final PostJpaRepository postJpaRepository;
+    private final ReactionService reactionService;
+    private final TrendingService trendingService;
+    private final RequestUserContext requestUserContext;
 
     @Transactional
     public CommentResponse createComment(Long userId, Long postId, CreateCommentRequest createCommentRequest) {
@@ -38,6 +61,8 @@ public class CommentService {
         commentJpaRepository.save(comment);
 
         post.addComment(comment);
+        postJpaRepository.addCommentCount(postId, 1);
+        trendingService.recordPost(postId, post.getRegion(), COMMENT);
 
         return CommentResponse.of(comment);
     }
@@ -65,27 +90,38 @@ public class CommentService {
             throw new CommentException.AccessDeniedException();
         }
 
-        commentById.getPost().getComments().remove(commentById);
+        Post post = commentById.getPost();
+        post.getComments().remove(commentById);
         commentJpaRepository.delete(commentById);
+        postJpaRepository.addCommentCount(post.getId(), -1);
+        trendingService.retractPost(post.getId(), post.getRegion(), COMMENT, commentById.getCreatedDate());
 
         return true;
     }
 
     @Transactional
     public CommentResponse recommendComment(Long userId, Long commentId) {
-        User userById = getUserById(userId);
-        Comment commentById = getCommentById(commentId);
-
-        commentById.recommendComment(new RecommendComment(commentById, userById));
+        getUserById(userId);
+        if (!commentJpaRepository.existsById(commentId)) {
+            throw new CommentException.NotFoundComment();
+        }
 
-        return CommentResponse.of(commentById);
+        // 중복 추천은 무시하고 현재 추천 수를 그대로 돌려줌
+        ReactionResult result = reactionService.add(COMMENT_RECOMMEND, userId, commentId);
+        // 엔티티의 답글, 추천 컬렉션을 지연 로딩하지 않도록 트리 조회로 필요한 값만 가져옴
+        CommentResponse response = assembleTree(commentRepository.getCommentTreeByRootIds(List.of(commentId))).get(0);
+        response.setRecommendCount(result.getCount());
+        return response;
     }
 
     @Transactional
     public CommentResponse createCommentComment(Long userId, Long commentId, CreateCommentRequest createCommentRequest) {
         User userById = getUserById(userId);
-        Comment comment = new Comment(null, userById, createCommentRequest.getContent());
         Comment commentById = getCommentById(commentId);
+        if (commentById.getDepth() >= CommentRepository.MAX_DEPTH) {
+            throw new CommentException.ReplyTooDeep();
+        }
+        Comment comment = new Comment(null, userById, createCommentRequest.getContent());
 
         commentJpaRepository.save(comment);
 
@@ -107,8 +143,81 @@ public class CommentService {
         return true;
     }
 
+    @Transactional(readOnly = true)
+    public CommentTreeVersion getCommentTreeVersion(Long postId) {
+        return commentRepository.getTreeVersion(postId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<CommentResponse> getCommentTree(Long postId) {
+        return assembleTree(commentRepository.getCommentTreeByPostId(postId));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<CommentResponse> getComments(Long postId, int page, int size, int previewSize) {
+        Pageable pageable = PageRequest.of(page - 1, size);
+        Page<Long> rootIds = commentRepository.getRootCommentIds(postId, pageable);
+        if (rootIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, rootIds.getTotalElements());
+        }
+
+        List<CommentResponse> roots = assembleTree(commentRepository.getCommentTreeByRootIds(rootIds.getContent()));
+        roots.forEach(root -> root.limitReplies(previewSize));
+        return new PageImpl<>(roots, pageable, rootIds.getTotalElements());
+    }
+
+    @Transactional(readOnly = true)
+    public CommentCursorResponse getCommentsByCursor(Long postId, Long cursor, int size, int previewSize) {
+        if (size < 1 || size > MAX_CURSOR_SIZE) {
+            throw new IllegalArgumentException("조회 개수를 확인해주세요.");
+        }
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        List<Long> rootIds = commentRepository.getRootCommentIdsAfter(postId, cursor, size + 1);
+        boolean hasNext = rootIds.size() > size;
+        if (hasNext) {
+            rootIds = rootIds.subList(0, size);
+        }
+        if (rootIds.isEmpty()) {
+            return new CommentCursorResponse(List.of(), null, false);
+        }
+
+        List<CommentResponse> roots = assembleTree(commentRepository.getCommentTreeByRootIds(rootIds));
+        roots.forEach(root -> root.limitReplies(previewSize));
+        return new CommentCursorResponse(roots, rootIds.get(rootIds.size() - 1), hasNext);
+    }
+
+    // id 순으로 정렬된 댓글을 한 번 훑으면서 부모 위치를 찾아 붙임
+    private List<CommentResponse> assembleTree(List<CommentRow> rows) {
+        Map<Long, Long> recommendCounts = commentRepository.getRecommendCounts(rows.stream().map(CommentRow::getId).toList());
+
+        CommentResponse[] nodes = new CommentResponse[rows.size()];
+        Map<Long, Integer> indexById = new HashMap<>(rows.size() * 2);
+        List<CommentResponse> roots = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            CommentRow row = rows.get(i);
+            nodes[i] = CommentResponse.of(row, recommendCounts.getOrDefault(row.getId(), 0L));
+            indexById.put(row.getId(), i);
+
+            // 부모가 조회 범위 밖이면(답글부터 조회한 경우) 그 답글이 최상위
+            Integer parentIndex = row.getParentId() == null ? null : indexById.get(row.getParentId());
+            if (parentIndex == null) {
+                roots.add(nodes[i]);
+                continue;
+            }
+            nodes[parentIndex].addReply(nodes[i]);
+        }
+        // 자식이 부모보다 뒤에 있으므로 뒤에서부터 훑으면 하위 답글 수가 모두 부모로 모임
+        for (int i = rows.size() - 1; i >= 0; i--) {
+            Integer parentIndex = rows.get(i).getParentId() == null ? null : indexById.get(rows.get(i).getParentId());
+            if (parentIndex != null) {
+                nodes[parentIndex].addDescendants(nodes[i].getReplyCount());
+            }
+        }
+        return roots;
+    }
+
     private User getUserById(Long userId) {
-        return userRepository.findById(userId).orElseThrow(UserException.NotFoundUser::new);
+        return requestUserContext.getUser(userId);
     }
 
     private Post getPostById(Long postId) {
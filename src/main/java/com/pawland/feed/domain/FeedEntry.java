@@ -0,0 +1,27 @@
+package com.pawland.feed.domain;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+@Getter
+public class FeedEntry {
+
+    private final Long id;
+    private final LocalDateTime createdDate;
+
+    public FeedEntry(Long id, LocalDateTime createdDate) {
+        this.id = id;
+        this.createdDate = createdDate;
+    }
+
+    // 최신순 정렬 기준, 작성 시각을 밀리초로 바꿔 점수로 씀
+    public long getScore() {
+        return scoreOf(createdDate);
+    }
+
+    public static long scoreOf(LocalDateTime createdDate) {
+        return createdDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,60 @@
+package com.pawland.feed.domain;
+
+import com.pawland.post.domain.Region;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 지역마다 sorted set(id, 작성 시각) 하나와 전체 개수 키를 둠, 개수 키가 있어야 피드가 만들어진 것으로 봄
+// 다시 만드는 동안에는 rebuilding 키(SET NX)를 잡고, 그 사이 들어온 변경은 pending 목록에 쌓아 두었다가 반영함
+public final class FeedKey {
+
+    private static final String PRODUCT = "feed:product";
+    private static final String POST = "feed:post";
+    private static final String ALL = ":all";
+    private static final String COUNT = ":count";
+    private static final String REBUILDING = ":rebuilding";
+    private static final String PENDING = ":pending";
+
+    private FeedKey() {
+    }
+
+    public static String product(Region region) {
+        return region == null ? PRODUCT + ALL : PRODUCT + ":region:" + region.name();
+    }
+
+    public static String post(Region region) {
+        return region == null ? POST + ALL : POST + ":region:" + region.name();
+    }
+
+    public static String count(String feedKey) {
+        return feedKey + COUNT;
+    }
+
+    public static String rebuilding(String feedKey) {
+        return feedKey + REBUILDING;
+    }
+
+    public static String pending(String feedKey) {
+        return feedKey + PENDING;
+    }
+
+    public static List<String> productKeys(Region region) {
+        return List.of(product(null), product(region));
+    }
+
+    public static List<String> postKeys(Region region) {
+        return List.of(post(null), post(region));
+    }
+
+    public static List<String> allKeys() {
+        List<String> keys = new ArrayList<>();
+        keys.add(product(null));
+        keys.add(post(null));
+        for (Region region : Region.values()) {
+            keys.add(product(region));
+            keys.add(post(region));
+        }
+        return keys;
+    }
+}
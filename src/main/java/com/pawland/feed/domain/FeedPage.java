@@ -0,0 +1,14 @@
+package com.pawland.feed.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class FeedPage {
+
+    private final List<Long> ids;   // 최신순
+    private final long totalCount;
+}
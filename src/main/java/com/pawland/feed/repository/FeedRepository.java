@@ -0,0 +1,197 @@
+package com.pawland.feed.repository;
+
+import com.pawland.feed.domain.FeedEntry;
+import com.pawland.feed.domain.FeedKey;
+import com.pawland.feed.domain.FeedPage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class FeedRepository {
+
+    // 만들어진 피드에만 추가, 오래된 항목은 최대 크기만큼만 남기고 전체 개수는 새로 들어간 경우에만 셈
+    // 피드를 다시 만드는 중이면 pending 에 쌓아 두고 다시 만들 때 반영
+    private static final RedisScript<Long> ADD = new DefaultRedisScript<>(
+        "for i = 1, #KEYS, 4 do " +
+            "if redis.call('EXISTS', KEYS[i + 1]) == 1 then " +
+                "if redis.call('ZADD', KEYS[i], ARGV[1], ARGV[2]) == 1 then " +
+                    "redis.call('INCR', KEYS[i + 1]) " +
+                "end " +
+                "redis.call('ZREMRANGEBYRANK', KEYS[i], 0, -(tonumber(ARGV[3]) + 1)) " +
+                "redis.call('PEXPIRE', KEYS[i], redis.call('PTTL', KEYS[i + 1])) " +
+            "elseif redis.call('EXISTS', KEYS[i + 2]) == 1 then " +
+                "redis.call('RPUSH', KEYS[i + 3], 'a', ARGV[1], ARGV[2]) " +
+                "redis.call('PEXPIRE', KEYS[i + 3], redis.call('PTTL', KEYS[i + 2])) " +
+            "end " +
+        "end " +
+        "return 1",
+        Long.class
+    );
+
+    // 잘리지 않은 피드에 없는 id 면 원래 세지 않은 항목이므로 개수를 줄이지 않음
+    private static final RedisScript<Long> REMOVE = new DefaultRedisScript<>(
+        "for i = 1, #KEYS, 4 do " +
+            "local count = tonumber(redis.call('GET', KEYS[i + 1])) " +
+            "if count then " +
+                "local removed = redis.call('ZREM', KEYS[i], ARGV[1]) " +
+                "local truncated = redis.call('ZCARD', KEYS[i]) < count - removed " +
+                "if count > 0 and (removed == 1 or truncated) then " +
+                    "redis.call('DECR', KEYS[i + 1]) " +
+                "end " +
+            "elseif redis.call('EXISTS', KEYS[i + 2]) == 1 then " +
+                "redis.call('RPUSH', KEYS[i + 3], 'r', ARGV[1]) " +
+                "redis.call('PEXPIRE', KEYS[i + 3], redis.call('PTTL', KEYS[i + 2])) " +
+            "end " +
+        "end " +
+        "return 1",
+        Long.class
+    );
+
+    // 다시 만드는 중에 지워진 피드는 읽어 둔 목록도 오래된 것이므로 표시만 남겨 저장하지 않게 함
+    private static final RedisScript<Long> DELETE = new DefaultRedisScript<>(
+        "for i = 1, #KEYS, 4 do " +
+            "redis.call('DEL', KEYS[i], KEYS[i + 1]) " +
+            "if redis.call('EXISTS', KEYS[i + 2]) == 1 then " +
+                "redis.call('RPUSH', KEYS[i + 3], 'x') " +
+                "redis.call('PEXPIRE', KEYS[i + 3], redis.call('PTTL', KEYS[i + 2])) " +
+            "end " +
+        "end " +
+        "return 1",
+        Long.class
+    );
+
+    // 첫 값은 전체 개수, 나머지는 최신순 id, 피드가 없거나 보관 범위를 넘는 페이지면 빈 목록
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> PAGE = new DefaultRedisScript<>(
+        "local count = tonumber(redis.call('GET', KEYS[2])) " +
+        "if not count then return {} end " +
+        "local offset = tonumber(ARGV[1]) " +
+        "local size = tonumber(ARGV[2]) " +
+        "local stored = redis.call('ZCARD', KEYS[1]) " +
+        "if offset + size > stored and stored < count then return {} end " +
+        "local result = redis.call('ZREVRANGE', KEYS[1], offset, offset + size - 1) " +
+        "table.insert(result, 1, tostring(count)) " +
+        "return result",
+        List.class
+    );
+
+    // 다시 만들 피드 하나에 락을 잡고, 이전에 쌓인 변경은 비움
+    private static final RedisScript<Long> START_REBUILD = new DefaultRedisScript<>(
+        "if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then " +
+            "redis.call('DEL', KEYS[2]) " +
+            "return 1 " +
+        "end " +
+        "return 0",
+        Long.class
+    );
+
+    // 락을 가진 경우에만 DB 에서 읽은 목록을 저장하고, 읽는 동안 쌓인 변경을 이어서 반영
+    // 읽기 전에 커밋된 변경이 다시 들어와도 ZADD, ZREM 결과로만 개수를 바꾸므로 두 번 세지 않음
+    private static final RedisScript<Long> REBUILD = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[3]) ~= ARGV[3] then return 0 end " +
+        "local pending = redis.call('LRANGE', KEYS[4], 0, -1) " +
+        "redis.call('DEL', KEYS[1], KEYS[2], KEYS[3], KEYS[4]) " +
+        "local count = tonumber(ARGV[1]) " +
+        "for i = 5, #ARGV, 2 do " +
+            "redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1]) " +
+        "end " +
+        "local p = 1 " +
+        "while p <= #pending do " +
+            "if pending[p] == 'x' then " +
+                "redis.call('DEL', KEYS[1]) " +
+                "return 0 " +
+            "elseif pending[p] == 'a' then " +
+                "count = count + redis.call('ZADD', KEYS[1], pending[p + 1], pending[p + 2]) " +
+                "p = p + 3 " +
+            "else " +
+                "count = count - redis.call('ZREM', KEYS[1], pending[p + 1]) " +
+                "p = p + 2 " +
+            "end " +
+        "end " +
+        "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[4]) + 1)) " +
+        "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+        "redis.call('SET', KEYS[2], math.max(count, 0), 'PX', ARGV[2]) " +
+        "return 1",
+        Long.class
+    );
+
+    // 저장하지 못하고 끝난 경우 자기 락일 때만 풀어서 다른 요청이 다시 만들 수 있게 함
+    private static final RedisScript<Long> CANCEL_REBUILD = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "redis.call('DEL', KEYS[1], KEYS[2]) " +
+            "return 1 " +
+        "end " +
+        "return 0",
+        Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public void add(List<String> keys, Long targetId, long score, int maxSize) {
+        redisTemplate.execute(ADD, withRebuildKeys(keys), String.valueOf(score), String.valueOf(targetId), String.valueOf(maxSize));
+    }
+
+    public void remove(List<String> keys, Long targetId) {
+        redisTemplate.execute(REMOVE, withRebuildKeys(keys), String.valueOf(targetId));
+    }
+
+    @SuppressWarnings("unchecked")
+    public FeedPage getPage(String key, long offset, int size) {
+        List<String> result = redisTemplate.execute(PAGE, List.of(key, FeedKey.count(key)), String.valueOf(offset), String.valueOf(size));
+        if (result == null || result.isEmpty()) {
+            return null;
+        }
+        List<Long> ids = result.subList(1, result.size()).stream().map(Long::valueOf).toList();
+        return new FeedPage(ids, Long.parseLong(result.get(0)));
+    }
+
+    // 락을 잡으면 소유 토큰을, 다른 요청이 다시 만드는 중이면 null 을 돌려줌
+    public String startRebuild(String key, Duration timeout) {
+        String token = UUID.randomUUID().toString();
+        Long started = redisTemplate.execute(START_REBUILD, List.of(FeedKey.rebuilding(key), FeedKey.pending(key)),
+            token, String.valueOf(timeout.toMillis()));
+        return Long.valueOf(1).equals(started) ? token : null;
+    }
+
+    public boolean rebuild(String key, String token, List<FeedEntry> entries, long totalCount, Duration ttl, int maxSize) {
+        List<String> args = new ArrayList<>(entries.size() * 2 + 4);
+        args.add(String.valueOf(totalCount));
+        args.add(String.valueOf(ttl.toMillis()));
+        args.add(token);
+        args.add(String.valueOf(maxSize));
+        for (FeedEntry entry : entries) {
+            args.add(String.valueOf(entry.getScore()));
+            args.add(String.valueOf(entry.getId()));
+        }
+        Long rebuilt = redisTemplate.execute(REBUILD, withRebuildKeys(List.of(key)), args.toArray());
+        return Long.valueOf(1).equals(rebuilt);
+    }
+
+    public void cancelRebuild(String key, String token) {
+        redisTemplate.execute(CANCEL_REBUILD, List.of(FeedKey.rebuilding(key), FeedKey.pending(key)), token);
+    }
+
+    public void deleteAll(List<String> keys) {
+        redisTemplate.execute(DELETE, withRebuildKeys(keys));
+    }
+
+    private List<String> withRebuildKeys(List<String> keys) {
+        List<String> scriptKeys = new ArrayList<>(keys.size() * 4);
+        for (String key : keys) {
+            scriptKeys.add(key);
+            scriptKeys.add(FeedKey.count(key));
+            scriptKeys.add(FeedKey.rebuilding(key));
+            scriptKeys.add(FeedKey.pending(key));
+        }
+        return scriptKeys;
+    }
+}
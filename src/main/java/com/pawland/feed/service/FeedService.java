@@ -0,0 +1,171 @@
+package com.pawland.feed.service;
+
+import com.pawland.feed.domain.FeedEntry;
+import com.pawland.feed.domain.FeedKey;
+import com.pawland.feed.domain.FeedPage;
+import com.pawland.feed.repository.FeedRepository;
+import com.pawland.global.config.FeedConfig;
+import com.pawland.post.domain.Region;
+import com.pawland.post.repository.PostRepository;
+import com.pawland.product.respository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+// 기본 정렬(최신순)에 지역 하나로만 거른 목록의 앞쪽 페이지를 Redis 에 미리 만들어 둔 id 로 응답
+@Slf4j
+@Service
+public class FeedService {
+
+    private static final Duration REBUILD_TIMEOUT = Duration.ofSeconds(30);
+
+    private final FeedRepository feedRepository;
+    private final FeedConfig feedConfig;
+    private final ProductRepository productRepository;
+    private final PostRepository postRepository;
+    private final TransactionTemplate rebuildTransaction;
+
+    public FeedService(FeedRepository feedRepository, FeedConfig feedConfig, ProductRepository productRepository,
+                       PostRepository postRepository, PlatformTransactionManager transactionManager) {
+        this.feedRepository = feedRepository;
+        this.feedConfig = feedConfig;
+        this.productRepository = productRepository;
+        this.postRepository = postRepository;
+        // 호출한 트랜잭션의 커밋 전 데이터가 피드에 섞이지 않도록 별도 트랜잭션에서 다시 만듦
+        // 읽기 전용이면 복제본으로 가서 지연된 목록이 ttl 동안 캐시되므로 읽기 전용으로 두지 않고 주 DB 에서 읽음
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+        this.rebuildTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void addProduct(Long productId, Region region, LocalDateTime createdDate) {
+        add(FeedKey.productKeys(region), productId, createdDate);
+    }
+
+    public void removeProduct(Long productId, Region region) {
+        remove(FeedKey.productKeys(region), productId);
+    }
+
+    public void relocateProduct(Long productId, LocalDateTime createdDate, Region oldRegion, Region newRegion) {
+        relocate(FeedKey.productKeys(oldRegion), FeedKey.productKeys(newRegion), productId, createdDate);
+    }
+
+    // 일괄 등록처럼 한 번에 많이 바뀌면 하나씩 반영하지 않고 지워서 다음 조회 때 다시 만들게 함
+    public void evictProducts(Collection<Region> regions) {
+        List<String> keys = new ArrayList<>();
+        keys.add(FeedKey.product(null));
+        regions.forEach(region -> keys.add(FeedKey.product(region)));
+        afterCommit(() -> feedRepository.deleteAll(keys), "삭제", null);
+    }
+
+    public void addPost(Long postId, Region region, LocalDateTime createdDate) {
+        add(FeedKey.postKeys(region), postId, createdDate);
+    }
+
+    public void removePost(Long postId, Region region) {
+        remove(FeedKey.postKeys(region), postId);
+    }
+
+    public void relocatePost(Long postId, LocalDateTime createdDate, Region oldRegion, Region newRegion) {
+        relocate(FeedKey.postKeys(oldRegion), FeedKey.postKeys(newRegion), postId, createdDate);
+    }
+
+    public Optional<FeedPage> getProductPage(Region region, Pageable pageable) {
+        return getPage(FeedKey.product(region), pageable,
+            limit -> productRepository.getFeedEntries(region, limit), () -> productRepository.countFeed(region));
+    }
+
+    public Optional<FeedPage> getPostPage(Region region, Pageable pageable) {
+        return getPage(FeedKey.post(region), pageable,
+            limit -> postRepository.getFeedEntries(region, limit), () -> postRepository.countFeed(region));
+    }
+
+    // 피드 범위를 넘는 깊은 페이지, 다른 요청이 다시 만드는 중이거나 Redis 장애 시에는 빈 값을 돌려서 DB 로 조회하게 함
+    private Optional<FeedPage> getPage(String key, Pageable pageable, Function<Integer, List<FeedEntry>> entries,
+                                       LongSupplier count) {
+        if (!feedConfig.isEnabled() || pageable.getOffset() + pageable.getPageSize() > feedConfig.getSize()) {
+            return Optional.empty();
+        }
+        try {
+            FeedPage page = feedRepository.getPage(key, pageable.getOffset(), pageable.getPageSize());
+            if (page == null && rebuild(key, entries, count)) {
+                page = feedRepository.getPage(key, pageable.getOffset(), pageable.getPageSize());
+            }
+            return Optional.ofNullable(page);
+        } catch (RuntimeException e) {
+            log.warn("[피드 조회 실패] key = {}, {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // 같은 피드는 한 요청만 다시 만들고, DB 를 읽는 동안 커밋된 변경은 저장할 때 함께 반영됨
+    private boolean rebuild(String key, Function<Integer, List<FeedEntry>> entries, LongSupplier count) {
+        String token = feedRepository.startRebuild(key, REBUILD_TIMEOUT);
+        if (token == null) {
+            return false;
+        }
+        try {
+            Boolean rebuilt = rebuildTransaction.execute(status ->
+                feedRepository.rebuild(key, token, entries.apply(feedConfig.getSize()), count.getAsLong(), feedConfig.getTtl(), feedConfig.getSize()));
+            return Boolean.TRUE.equals(rebuilt);
+        } finally {
+            feedRepository.cancelRebuild(key, token);
+        }
+    }
+
+    private void add(List<String> keys, Long targetId, LocalDateTime createdDate) {
+        afterCommit(() -> feedRepository.add(keys, targetId, FeedEntry.scoreOf(createdDate), feedConfig.getSize()), "추가", targetId);
+    }
+
+    private void remove(List<String> keys, Long targetId) {
+        afterCommit(() -> feedRepository.remove(keys, targetId), "삭제", targetId);
+    }
+
+    private void relocate(List<String> oldKeys, List<String> newKeys, Long targetId, LocalDateTime createdDate) {
+        List<String> staleKeys = oldKeys.stream().filter(key -> !newKeys.contains(key)).toList();
+        List<String> freshKeys = newKeys.stream().filter(key -> !oldKeys.contains(key)).toList();
+        if (!staleKeys.isEmpty()) {
+            remove(staleKeys, targetId);
+        }
+        if (!freshKeys.isEmpty()) {
+            add(freshKeys, targetId, createdDate);
+        }
+    }
+
+    // 롤백된 변경이 피드에 남지 않도록 커밋 후에 반영, 실패해도 원래 요청은 그대로 처리되고 ttl 이 지나면 다시 맞춰짐
+    private void afterCommit(Runnable update, String action, Long targetId) {
+        if (!feedConfig.isEnabled()) {
+            return;
+        }
+        Runnable safeUpdate = () -> {
+            try {
+                update.run();
+            } catch (RuntimeException e) {
+                log.warn("[피드 {} 실패] id = {}, {}", action, targetId, e.getMessage());
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            safeUpdate.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                safeUpdate.run();
+            }
+        });
+    }
+}
@@ -6,8 +6,12 @@ import org.springframework.context.annotation.Bean;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+import java.net.URI;
+
 @RequiredArgsConstructor
 @ConfigurationProperties(prefix = "aws")
 public class AwsConfig {
@@ -15,16 +19,44 @@ public class AwsConfig {
     private final String accessKey;
     private final String secretKey;
     private final String s3AccessPoint;
+    private final String s3Endpoint;    // MinIO 등 로컬 S3 호환 서버 주소, 없으면 AWS 기본 엔드포인트 사용
 
     public String getS3AccessPoint() {
         return s3AccessPoint;
     }
 
-    @Bean
+    // 애플리케이션 전체에서 공유하는 presigner, 컨텍스트 종료 시 close 됨
+    @Bean(destroyMethod = "close")
     public S3Presigner s3Presigner() {
-        return S3Presigner.builder()
+        S3Presigner.Builder builder = S3Presigner.builder()
+            .credentialsProvider(getAwsBasicCredentials())
+            .region(Region.AP_NORTHEAST_2);
+        if (hasCustomEndpoint()) {
+            builder.endpointOverride(URI.create(s3Endpoint))
+                .serviceConfiguration(pathStyleConfiguration());
+        }
+        return builder.build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public S3Client s3Client() {
+        S3Client.Builder builder = S3Client.builder()
             .credentialsProvider(getAwsBasicCredentials())
-            .region(Region.AP_NORTHEAST_2)
+            .region(Region.AP_NORTHEAST_2);
+        if (hasCustomEndpoint()) {
+            builder.endpointOverride(URI.create(s3Endpoint))
+                .serviceConfiguration(pathStyleConfiguration());
+        }
+        return builder.build();
+    }
+
+    private boolean hasCustomEndpoint() {
+        return s3Endpoint != null && !s3Endpoint.isBlank();
+    }
+
+    private S3Configuration pathStyleConfiguration() {
+        return S3Configuration.builder()
+            .pathStyleAccessEnabled(true)
             .build();
     }
 
@@ -0,0 +1,92 @@
+package com.pawland.global.config;
+
+import com.pawland.global.config.security.JwtUtils;
+import com.pawland.global.datasource.ReadYourWritesFilter;
+import com.pawland.global.datasource.ReadYourWritesTracker;
+import com.pawland.global.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+// pawland.datasource.replication.enabled=true 일 때만 사용, primary 는 기존 spring.datasource 설정을 그대로 씀
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "pawland.datasource.replication", name = "enabled", havingValue = "true")
+public class DataSourceReplicationConfig {
+
+    // 커넥션을 고르기 전에 primary 고정 여부를 정해야 하므로 영속성 컨텍스트, 시큐리티 필터보다 먼저 실행
+    public static final int READ_YOUR_WRITES_FILTER_ORDER = SecurityProperties.DEFAULT_FILTER_ORDER - 10;
+
+    private final DataSourceReplicationProperties properties;
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+    }
+
+    @Bean
+    public ReplicationRoutingDataSource replicationRoutingDataSource(HikariDataSource primaryDataSource,
+                                                                     DataSourceProperties dataSourceProperties) {
+        List<DataSourceReplicationProperties.Replica> replicas = properties.getReplicas();
+        List<HikariDataSource> replicaDataSources = new ArrayList<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            replicaDataSources.add(createReplica(i, replicas.get(i), dataSourceProperties.determineDriverClassName()));
+        }
+        log.info("[DB 복제 라우팅 설정] replica = {}개", replicaDataSources.size());
+        return new ReplicationRoutingDataSource(primaryDataSource, replicaDataSources);
+    }
+
+    @Primary
+    @Bean
+    public DataSource dataSource(ReplicationRoutingDataSource replicationRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicationRoutingDataSource);
+    }
+
+    // 요청 하나에 영속성 컨텍스트가 열려 있어도 트랜잭션마다 커넥션을 돌려줘서, 앞선 읽기 전용 트랜잭션의 replica 커넥션을 쓰기에 이어 쓰지 않음
+    @Bean
+    public HibernatePropertiesCustomizer connectionHandlingCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.CONNECTION_HANDLING,
+            PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(RedisTemplate<String, String> redisTemplate, JwtUtils jwtUtils) {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(redisTemplate, properties.getReadYourWritesWindow());
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(new ReadYourWritesFilter(tracker, jwtUtils));
+        registration.setOrder(READ_YOUR_WRITES_FILTER_ORDER);
+        return registration;
+    }
+
+    private HikariDataSource createReplica(int index, DataSourceReplicationProperties.Replica replica, String driverClassName) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica-" + index);
+        dataSource.setDriverClassName(driverClassName);
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(replica.getUsername());
+        dataSource.setPassword(replica.getPassword());
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+}
@@ -0,0 +1,41 @@
+package com.pawland.global.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+// DB 복제 라우팅 설정, readYourWritesWindow 는 쓰기 후 그 사용자의 조회를 primary 로 고정하는 시간
+@Getter
+@ConfigurationProperties(prefix = "pawland.datasource.replication")
+public class DataSourceReplicationProperties {
+
+    private final boolean enabled;
+    private final List<Replica> replicas;
+    private final Duration readYourWritesWindow;
+
+    public DataSourceReplicationProperties(@DefaultValue("false") boolean enabled,
+                                           @DefaultValue List<Replica> replicas,
+                                           @DefaultValue("5s") Duration readYourWritesWindow) {
+        this.enabled = enabled;
+        this.replicas = replicas;
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    @Getter
+    public static class Replica {
+        private final String url;
+        private final String username;
+        private final String password;
+        private final int maximumPoolSize;
+
+        public Replica(String url, String username, String password, @DefaultValue("10") int maximumPoolSize) {
+            this.url = url;
+            this.username = username;
+            this.password = password;
+            this.maximumPoolSize = maximumPoolSize;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.pawland.global.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// 지역별 최신 목록 피드 설정, size 는 피드마다 보관하는 최대 id 수, ttl 이 지나면 DB 에서 다시 만듦
+@Getter
+@ConfigurationProperties(prefix = "pawland.feed")
+public class FeedConfig {
+
+    private final boolean enabled;
+    private final int size;
+    private final Duration ttl;
+
+    public FeedConfig(@DefaultValue("false") boolean enabled,
+                      @DefaultValue("1000") int size,
+                      @DefaultValue("10m") Duration ttl) {
+        this.enabled = enabled;
+        this.size = size;
+        this.ttl = ttl;
+    }
+}
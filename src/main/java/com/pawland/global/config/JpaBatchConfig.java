@@ -0,0 +1,23 @@
+package com.pawland.global.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static com.pawland.global.id.IdGenerators.ALLOCATION_SIZE;
+
+@Configuration
+public class JpaBatchConfig {
+
+    // insert, update 를 엔티티별로 모아 JDBC 배치로 보냄, MySQL 은 URL 에 rewriteBatchedStatements=true 가 있어야 한 번에 전송됨
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, ALLOCATION_SIZE);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+            properties.put(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package com.pawland.global.config;
+
+import com.pawland.global.metrics.JdbcTimeSessionListener;
+import com.pawland.global.metrics.SqlStatementCountInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    // 요청별 SQL 개수와 JDBC 실행 시간을 모으기 위한 Hibernate 설정
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementMetricsCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCountInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JdbcTimeSessionListener.class.getName());
+        };
+    }
+}
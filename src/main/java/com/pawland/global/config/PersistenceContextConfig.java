@@ -0,0 +1,20 @@
+package com.pawland.global.config;
+
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewFilter;
+
+@Configuration
+public class PersistenceContextConfig {
+
+    // 영속성 컨텍스트는 시큐리티 필터 다음에 열어서, JWT 인증 때의 읽기 전용 조회가 잡은 커넥션(replica)을 요청 끝까지 쓰지 않도록 함
+    // 인증 때 읽은 사용자는 RequestUserContext 에 남아 있으므로 서비스에서 다시 조회하지 않음
+    @Bean
+    public FilterRegistrationBean<OpenEntityManagerInViewFilter> openEntityManagerInViewFilter() {
+        FilterRegistrationBean<OpenEntityManagerInViewFilter> registration = new FilterRegistrationBean<>(new OpenEntityManagerInViewFilter());
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
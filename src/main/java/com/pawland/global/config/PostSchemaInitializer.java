@@ -0,0 +1,27 @@
+package com.pawland.global.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+// 새 테이블이 있어야 하는 데이터 이전은 Hibernate 가 스키마를 맞춘 뒤에 실행
+// 스크립트 초기화 빈으로 두면 EntityManagerFactory 가 먼저 기다리게 되므로 일반 빈으로 실행
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class PostSchemaInitializer {
+
+    private static final String POST_SCHEMA_SCRIPT = "db/post-schema.sql";
+
+    private final DataSource dataSource;
+
+    @PostConstruct
+    public void migrate() {
+        new ResourceDatabasePopulator(true, false, "UTF-8", new ClassPathResource(POST_SCHEMA_SCRIPT)).execute(dataSource);
+    }
+}
@@ -0,0 +1,27 @@
+package com.pawland.global.config;
+
+import org.springframework.boot.jdbc.init.DataSourceScriptDatabaseInitializer;
+import org.springframework.boot.sql.init.DatabaseInitializationMode;
+import org.springframework.boot.sql.init.DatabaseInitializationSettings;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+@Configuration
+public class SchemaPreparationConfig {
+
+    private static final String PRE_SCHEMA_SCRIPT = "optional:classpath:db/pre-schema.sql";
+
+    // 스크립트 초기화 빈은 EntityManagerFactory 보다 먼저 실행되므로, 새 제약 조건을 걸기 전에 기존 데이터를 정리할 수 있음
+    // 처음 뜨는 DB 처럼 테이블이 없으면 실패한 문장만 건너뜀
+    @Bean
+    public DataSourceScriptDatabaseInitializer preSchemaInitializer(DataSource dataSource) {
+        DatabaseInitializationSettings settings = new DatabaseInitializationSettings();
+        settings.setSchemaLocations(List.of(PRE_SCHEMA_SCRIPT));
+        settings.setMode(DatabaseInitializationMode.ALWAYS);
+        settings.setContinueOnError(true);
+        return new DataSourceScriptDatabaseInitializer(dataSource, settings);
+    }
+}
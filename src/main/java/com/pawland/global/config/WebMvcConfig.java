@@ -1,15 +1,29 @@
 package com.pawland.global.config;
 
+import com.pawland.global.http.EnumNameConverter;
+import com.pawland.global.metrics.ControllerMetricsInterceptor;
+import com.pawland.mail.template.MailTemplateEngine;
+import com.pawland.post.domain.Region;
+import com.pawland.product.domain.Category;
+import com.pawland.product.domain.Condition;
+import com.pawland.product.domain.Species;
+import com.pawland.product.domain.Status;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.servlet.LocaleResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.i18n.AcceptHeaderLocaleResolver;
 
 @Configuration
 @RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
     private final AppConfig appConfig;
+    private final ControllerMetricsInterceptor controllerMetricsInterceptor;
 
     @Override
     public void addCorsMappings(CorsRegistry registry) {
@@ -18,4 +32,27 @@ public class WebMvcConfig implements WebMvcConfigurer {
             .allowedMethods("GET", "POST", "PUT", "DELETE")
             .allowCredentials(true);
     }
+
+    // Accept-Language 가 없으면 서버 JVM 기본값 대신 애플리케이션 기본 언어를 씀
+    @Bean
+    public LocaleResolver localeResolver() {
+        AcceptHeaderLocaleResolver localeResolver = new AcceptHeaderLocaleResolver();
+        localeResolver.setDefaultLocale(MailTemplateEngine.DEFAULT_LOCALE);
+        return localeResolver;
+    }
+
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        registry.addConverter(String.class, Region.class, new EnumNameConverter<>(Region::find, "지역 값을 확인해주세요."));
+        registry.addConverter(String.class, Species.class, new EnumNameConverter<>(Species::find, "동물 종류를 확인해주세요."));
+        registry.addConverter(String.class, Category.class, new EnumNameConverter<>(Category::find, "카테고리를 확인해주세요."));
+        registry.addConverter(String.class, Condition.class, new EnumNameConverter<>(Condition::find, "상품 상태를 확인해주세요."));
+        registry.addConverter(String.class, Status.class, new EnumNameConverter<>(Status::find, "판매 상태를 확인해주세요."));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(controllerMetricsInterceptor)
+            .addPathPatterns("/api/**");
+    }
 }
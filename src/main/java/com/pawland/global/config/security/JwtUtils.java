@@ -2,6 +2,7 @@ package com.pawland.global.config.security;
 
 import com.pawland.global.config.AppConfig;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -18,7 +19,6 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.time.Duration;
-import java.util.Arrays;
 import java.util.Date;
 
 @Slf4j
@@ -29,10 +29,16 @@ public class JwtUtils {
     private final AppConfig appConfig;
     private final UserDetailsService userDetailsService;
     private static final String JWT_NAME = "jwt";
+    private volatile SecretKey secretKey;
+    private volatile JwtParser jwtParser;
 
+    // 키 디코딩은 요청마다 하지 않고 처음 만든 키를 재사용
     public SecretKey getSecretKey() {
-        byte[] byteJwtKey = Decoders.BASE64.decode(appConfig.getJwtKey());
-        return Keys.hmacShaKeyFor(byteJwtKey);
+        if (secretKey == null) {
+            byte[] byteJwtKey = Decoders.BASE64.decode(appConfig.getJwtKey());
+            secretKey = Keys.hmacShaKeyFor(byteJwtKey);
+        }
+        return secretKey;
     }
 
     public String generateJwtCookie(String email, Date dateTime) {
@@ -57,47 +63,62 @@ public class JwtUtils {
         return createCookie(jwt).toString();
     }
 
-    public String getJwtFromCookie(Cookie[] cookies) {
-        if (cookies == null){
-            log.error("[쿠키가 없음]");
-            throw new BadCredentialsException("JWT가 없습니다."); // TODO: 예외 메시지 Enum 만들기
+    // 쿠키가 없는 비회원 요청이 대부분이라 예외나 로그 없이 null 을 돌려줌
+    public String findJwt(Cookie[] cookies) {
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (JWT_NAME.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
         }
-        return Arrays.stream(cookies)
-            .filter(cookie -> cookie.getName().equals(JWT_NAME))
-            .map(Cookie::getValue)
-            .findFirst()
-            .orElse(null);
+        return null;
     }
 
-    public Authentication getAuthentication(String jwt) {
-        validateJwt(jwt);
-        String email = Jwts.parser()
-            .verifyWith(getSecretKey())
-            .build()
-            .parseSignedClaims(jwt)
-            .getPayload()
-            .getSubject();
+    // 인증 전 단계에서 요청한 사용자를 구분할 때 사용, 쿠키가 없거나 올바르지 않으면 null
+    public String findSubject(Cookie[] cookies) {
+        String jwt = findJwt(cookies);
+        if (jwt == null || jwt.isBlank()) {
+            return null;
+        }
+        try {
+            return parseSubject(jwt);
+        } catch (BadCredentialsException e) {
+            return null;
+        }
+    }
 
+    public Authentication getAuthentication(String jwt) {
+        String email = parseSubject(jwt);
         UserDetails userDetails = userDetailsService.loadUserByUsername(email);
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
 
-    private void validateJwt(String jwt) {
+    // 검증과 subject 추출을 한 번의 파싱으로 처리, 실패 로그는 호출하는 필터에서 샘플링해서 남김
+    private String parseSubject(String jwt) {
         if (jwt == null || jwt.isBlank()) {
-            log.error("[JWT가 없음]");
             throw new BadCredentialsException("JWT가 없습니다.");
         }
         try {
-            Jwts.parser()
-                .verifyWith(getSecretKey())
-                .build()
-                .parseSignedClaims(jwt);
+            return getJwtParser()
+                .parseSignedClaims(jwt)
+                .getPayload()
+                .getSubject();
         } catch (JwtException e) {
-            log.error("[만료된 JWT]");
             throw new BadCredentialsException("올바르지 않은 JWT 토큰 정보입니다.");
         }
     }
 
+    private JwtParser getJwtParser() {
+        if (jwtParser == null) {
+            jwtParser = Jwts.parser()
+                .verifyWith(getSecretKey())
+                .build();
+        }
+        return jwtParser;
+    }
+
     private ResponseCookie createCookie(String jwt) {
         return ResponseCookie.from(JWT_NAME, jwt)
             .domain(appConfig.getBackDomain())
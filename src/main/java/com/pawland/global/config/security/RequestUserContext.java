@@ -0,0 +1,89 @@
+package com.pawland.global.config.security;
+
+import com.pawland.user.domain.User;
+import com.pawland.user.exception.UserException;
+import com.pawland.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
+
+// 요청 하나 안에서 사용자 조회 결과를 요청 속성에 담아 재사용, 요청 밖(배치, 테스트)에서는 매번 조회
+@Component
+@RequiredArgsConstructor
+public class RequestUserContext {
+
+    private static final String USERS_ATTRIBUTE = RequestUserContext.class.getName() + ".users";
+    private static final String GUEST_ATTRIBUTE = RequestUserContext.class.getName() + ".guest";
+
+    private final UserRepository userRepository;
+
+    // 인증 필터에서 읽은 사용자를 등록해 두면 서비스에서는 다시 조회하지 않음
+    // 요청의 영속성 컨텍스트가 열리기 전에 읽은 준영속 엔티티이므로 id, 연관관계 대상으로만 씀
+    public void remember(User user) {
+        Map<Long, User> users = users();
+        if (users != null && user.getId() != null) {
+            users.put(user.getId(), user);
+        }
+    }
+
+    public User getUser(Long userId) {
+        return find(userId).orElseThrow(UserException.NotFoundUser::new);
+    }
+
+    public User getUserOrGuest(Long userId) {
+        return find(userId).orElseGet(this::guest);
+    }
+
+    private Optional<User> find(Long userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        Map<Long, User> users = users();
+        if (users == null) {
+            return userRepository.findById(userId);
+        }
+        User cached = users.get(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<User> found = userRepository.findById(userId);
+        found.ifPresent(user -> users.put(userId, user));
+        return found;
+    }
+
+    private User guest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        User guest = attributes == null ? null : (User) attributes.getAttribute(GUEST_ATTRIBUTE, SCOPE_REQUEST);
+        if (guest == null) {
+            guest = User.builder()
+                .email("guest")
+                .password("guest")
+                .build();
+            if (attributes != null) {
+                attributes.setAttribute(GUEST_ATTRIBUTE, guest, SCOPE_REQUEST);
+            }
+        }
+        return guest;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, User> users() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Map<Long, User> users = (Map<Long, User>) attributes.getAttribute(USERS_ATTRIBUTE, SCOPE_REQUEST);
+        if (users == null) {
+            users = new HashMap<>();
+            attributes.setAttribute(USERS_ATTRIBUTE, users, SCOPE_REQUEST);
+        }
+        return users;
+    }
+}
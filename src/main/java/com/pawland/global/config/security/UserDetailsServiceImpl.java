@@ -16,11 +16,13 @@ import org.springframework.stereotype.Component;
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final RequestUserContext requestUserContext;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         User user = userRepository.findByEmail(email)
             .orElseThrow(() -> new UsernameNotFoundException(email + "을 찾을 수 없습니다."));
+        requestUserContext.remember(user);
         return new UserPrincipal(user);
     }
 }
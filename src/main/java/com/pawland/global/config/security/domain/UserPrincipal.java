@@ -7,17 +7,32 @@ import java.util.List;
 
 public class UserPrincipal extends User {
 
+    // 비회원 공용 인스턴스, 엔티티 없이 만들고 모든 요청이 공유함
+    public static final UserPrincipal GUEST = new UserPrincipal(0L, "guest", "guest", "ROLE_GUEST");
+
     private final Long userId;
 
     public UserPrincipal(com.pawland.user.domain.User user) {
-        super(user.getEmail(), user.getPassword(),
+        this(user.getId(), user.getEmail(), user.getPassword(), "ROLE_USER");
+    }
+
+    private UserPrincipal(Long userId, String username, String password, String role) {
+        super(username, password,
             List.of(
-                new SimpleGrantedAuthority("ROLE_USER")
+                new SimpleGrantedAuthority(role)
             ));
-        this.userId = user.getId();
+        this.userId = userId;
     }
 
     public Long getUserId() {
         return userId;
     }
+
+    // 공유하는 비회원 정보는 인증 후 자격 증명 삭제로 바뀌지 않도록 막음
+    @Override
+    public void eraseCredentials() {
+        if (this != GUEST) {
+            super.eraseCredentials();
+        }
+    }
 }
@@ -2,10 +2,8 @@ package com.pawland.global.config.security.filter;
 
 import com.pawland.global.config.security.JwtUtils;
 import com.pawland.global.config.security.domain.UserPrincipal;
-import com.pawland.user.domain.User;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
@@ -18,42 +16,63 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 public class JwtAuthFilter extends OncePerRequestFilter {
 
+    // 비회원 인증 정보는 바뀌지 않으므로 요청마다 만들지 않고 하나를 공유
+    public static final Authentication GUEST_AUTHENTICATION = new AnonymousAuthenticationToken(
+        "guest",
+        UserPrincipal.GUEST,
+        List.of(
+            new SimpleGrantedAuthority("ROLE_GUEST")
+        )
+    );
+    private static final List<String> SKIP_PATH_PREFIXES = List.of(
+        "/swagger-ui", "/v3/api-docs", "/h2-console", "/favicon.ico", "/error"
+    );
+    private static final long LOG_SAMPLE_RATE = 100;
+
     private final JwtUtils jwtUtils;
+    private final AtomicLong rejectedCount = new AtomicLong();
 
     public JwtAuthFilter(JwtUtils jwtUtils) {
         this.jwtUtils = jwtUtils;
     }
 
+    // 문서, 콘솔 같은 공개 경로는 인증 정보를 쓰지 않으므로 필터를 건너뜀
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String prefix : SKIP_PATH_PREFIXES) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        Cookie[] cookies = request.getCookies();
-        log.info("[JWT 필터 입장]");
-        try {
-            String jwt = jwtUtils.getJwtFromCookie(cookies);
-            Authentication authentication = jwtUtils.getAuthentication(jwt);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        SecurityContextHolder.getContext().setAuthentication(authenticate(request));
+        filterChain.doFilter(request, response);
+    }
 
-            filterChain.doFilter(request, response);
+    private Authentication authenticate(HttpServletRequest request) {
+        String jwt = jwtUtils.findJwt(request.getCookies());
+        if (jwt == null || jwt.isBlank()) {
+            return GUEST_AUTHENTICATION;
+        }
+        try {
+            return jwtUtils.getAuthentication(jwt);
         } catch (AuthenticationException e) {
-            User guest = User.builder()
-                .id(0L)
-                .email("guest")
-                .password("guest")
-                .build();
-            Authentication authentication = new AnonymousAuthenticationToken(
-                "guest",
-                new UserPrincipal(guest),
-                List.of(
-                    new SimpleGrantedAuthority("ROLE_GUEST")
-                )
-            );
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-
-            filterChain.doFilter(request, response);
+            // 만료된 토큰이 몰려도 로그가 넘치지 않도록 일부만 남김
+            long count = rejectedCount.incrementAndGet();
+            if (count % LOG_SAMPLE_RATE == 1) {
+                log.warn("[JWT 인증 실패] {} (누적 {}건)", e.getMessage(), count);
+            }
+            return GUEST_AUTHENTICATION;
         }
     }
 }
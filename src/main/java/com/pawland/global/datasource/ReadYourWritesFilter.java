@@ -0,0 +1,41 @@
+package com.pawland.global.datasource;
+
+import com.pawland.global.config.security.JwtUtils;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+// 조회 요청은 최근에 쓰기를 한 사용자면 primary 로 고정하고, 성공한 쓰기 요청은 사용자를 기록
+// 커넥션을 고르기 전에 정해야 하므로 영속성 컨텍스트, 시큐리티 필터보다 먼저 실행되고, 사용자는 JWT 의 subject 로 구분
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final Set<String> READ_METHODS = Set.of(HttpMethod.GET.name(), HttpMethod.HEAD.name());
+
+    private final ReadYourWritesTracker tracker;
+    private final JwtUtils jwtUtils;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String subject = jwtUtils.findSubject(request.getCookies());
+        boolean read = READ_METHODS.contains(request.getMethod());
+        if (subject != null && read && tracker.isPinned(subject)) {
+            ReplicationContext.pinPrimary();
+        }
+        try {
+            filterChain.doFilter(request, response);
+            if (subject != null && !read && response.getStatus() < 400) {
+                tracker.markWrite(subject);
+            }
+        } finally {
+            ReplicationContext.clear();
+        }
+    }
+}
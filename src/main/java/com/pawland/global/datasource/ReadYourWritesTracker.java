@@ -0,0 +1,42 @@
+package com.pawland.global.datasource;
+
+import com.pawland.global.redis.NamespacedRedisStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+
+// 쓰기 직후 일정 시간 동안은 그 사용자의 읽기를 primary 로 보내 복제 지연으로 방금 쓴 내용이 안 보이는 일을 막음
+// 서버가 여러 대여도 같은 판단을 하도록 Redis 에 기록
+@Slf4j
+public class ReadYourWritesTracker {
+
+    private static final String NAMESPACE = "rw-pin";
+    private static final String PINNED = "1";
+
+    private final NamespacedRedisStore store;
+    private final Duration window;
+
+    public ReadYourWritesTracker(RedisTemplate<String, String> redisTemplate, Duration window) {
+        this.store = new NamespacedRedisStore(redisTemplate, NAMESPACE);
+        this.window = window;
+    }
+
+    public void markWrite(String subject) {
+        try {
+            store.set(subject, PINNED, window);
+        } catch (RuntimeException e) {
+            log.warn("[쓰기 기록 실패] {}", e.getMessage());
+        }
+    }
+
+    // Redis 를 확인할 수 없으면 안전하게 primary 로 보냄
+    public boolean isPinned(String subject) {
+        try {
+            return store.get(subject) != null;
+        } catch (RuntimeException e) {
+            log.warn("[쓰기 기록 조회 실패] {}", e.getMessage());
+            return true;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.pawland.global.datasource;
+
+// 현재 스레드의 읽기 전용 트랜잭션도 primary 로 보내야 하는지 표시
+public class ReplicationContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    public static void pinPrimary() {
+        PRIMARY_PINNED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryPinned() {
+        return Boolean.TRUE.equals(PRIMARY_PINNED.get());
+    }
+
+    public static void clear() {
+        PRIMARY_PINNED.remove();
+    }
+}
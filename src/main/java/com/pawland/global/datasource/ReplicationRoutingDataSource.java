@@ -0,0 +1,59 @@
+package com.pawland.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 읽기 전용 트랜잭션은 replica 들에 번갈아 보내고, 나머지는 모두 primary 로 보냄
+// 트랜잭션 속성이 정해진 뒤에 커넥션을 고르도록 LazyConnectionDataSourceProxy 로 감싸서 사용해야 함
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA_PREFIX = "replica-";
+
+    private final List<DataSource> replicas;
+    private final List<String> replicaKeys = new ArrayList<>();
+    private final AtomicInteger counter = new AtomicInteger();
+
+    public ReplicationRoutingDataSource(DataSource primary, List<? extends DataSource> replicas) {
+        this.replicas = List.copyOf(replicas);
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = REPLICA_PREFIX + i;
+            replicaKeys.add(key);
+            targets.put(key, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicaKeys.isEmpty()
+            || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+            || ReplicationContext.isPrimaryPinned()) {
+            return PRIMARY;
+        }
+        return replicaKeys.get(Math.floorMod(counter.getAndIncrement(), replicaKeys.size()));
+    }
+
+    // primary 는 별도 빈으로 관리되므로 replica 커넥션 풀만 닫음
+    @Override
+    public void close() throws IOException {
+        for (DataSource replica : replicas) {
+            if (replica instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.pawland.global.domain;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+// 표시 이름 -> enum 을 미리 만들어 둔 불변 맵, 조회마다 values() 를 순회하지 않음
+public final class EnumLookup<E extends Enum<E>> {
+
+    private final Map<String, E> byName;
+
+    private EnumLookup(Map<String, E> byName) {
+        this.byName = Map.copyOf(byName);
+    }
+
+    public static <E extends Enum<E>> EnumLookup<E> of(E[] values, Function<E, String> nameOf) {
+        Map<String, E> byName = new HashMap<>();
+        for (E value : values) {
+            if (byName.put(nameOf.apply(value), value) != null) {
+                throw new IllegalStateException("중복된 enum 이름입니다: " + nameOf.apply(value));
+            }
+        }
+        return new EnumLookup<>(byName);
+    }
+
+    // 없는 이름이면 예외 대신 빈 값을 돌려줌
+    public Optional<E> find(String name) {
+        return name == null ? Optional.empty() : Optional.ofNullable(byName.get(name));
+    }
+}
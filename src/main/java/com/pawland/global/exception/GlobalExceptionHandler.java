@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 @RestControllerAdvice
 @RequiredArgsConstructor
@@ -65,6 +66,20 @@ public class GlobalExceptionHandler {
             .body(new ApiMessageResponse(e.getMessage()));
     }
 
+    // 요청 파라미터를 enum 으로 바꾸지 못한 경우 변환기가 던진 메시지를 그대로 내려줌
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    @RequestMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiResponse(responseCode = "400", description = "입력 값이 올바르지 않습니다.")
+    public ResponseEntity<ApiMessageResponse> typeMismatchHandler(MethodArgumentTypeMismatchException e) {
+        Throwable cause = e.getMostSpecificCause();
+        String message = cause instanceof IllegalArgumentException ? cause.getMessage() : "입력 값이 올바르지 않습니다.";
+        return ResponseEntity
+            .status(HttpStatus.BAD_REQUEST)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(new ApiMessageResponse(message));
+    }
+
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     @ExceptionHandler(MailSendException.class)
     @RequestMapping(produces = MediaType.APPLICATION_JSON_VALUE)
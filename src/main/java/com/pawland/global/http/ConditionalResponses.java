@@ -0,0 +1,40 @@
+package com.pawland.global.http;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// 본문 대신 가벼운 버전 조회로 ETag 를 만들고, If-None-Match 가 같으면 본문을 만들지 않고 304 로 응답
+public final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    // 조회수처럼 조회할 때마다 바뀌는 값은 버전에 넣지 않으므로 약한 ETag 로 내려줌
+    public static String weakETag(Object... versionParts) {
+        String version = Arrays.stream(versionParts)
+            .map(String::valueOf)
+            .collect(Collectors.joining("|"));
+        return "W/\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    public static <T> ResponseEntity<T> ifModified(WebRequest request, String eTag, CacheControl cacheControl, Supplier<T> body) {
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .build();
+        }
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(cacheControl)
+            .body(body.get());
+    }
+}
@@ -0,0 +1,34 @@
+package com.pawland.global.http;
+
+import org.springframework.core.convert.converter.Converter;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+// 요청 파라미터의 표시 이름(서울, 고양이 등)을 enum 으로 바인딩, 빈 값은 조건이 없는 것으로 보고 없는 이름은 400 으로 거절
+public class EnumNameConverter<E extends Enum<E>> implements Converter<String, E> {
+
+    private final Function<String, Optional<E>> finder;
+    private final String errorMessage;
+
+    public EnumNameConverter(Function<String, Optional<E>> finder, String errorMessage) {
+        this.finder = finder;
+        this.errorMessage = errorMessage;
+    }
+
+    @Override
+    public E convert(String source) {
+        String name = source.trim();
+        if (name.isEmpty()) {
+            return null;
+        }
+        return finder.apply(name).orElseThrow(() -> new IllegalArgumentException(errorMessage));
+    }
+
+    // 목록 파라미터의 빈 값은 null 원소로 바인딩되므로 걸러서 조건에서 뺌
+    public static <E> List<E> withoutBlank(List<E> values) {
+        return values == null ? null : values.stream().filter(Objects::nonNull).toList();
+    }
+}
@@ -0,0 +1,53 @@
+package com.pawland.global.id;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import static com.pawland.global.id.IdGenerators.ALLOCATION_SIZE;
+import static com.pawland.global.id.IdGenerators.NAME_COLUMN;
+import static com.pawland.global.id.IdGenerators.TABLE;
+import static com.pawland.global.id.IdGenerators.VALUE_COLUMN;
+
+// IDENTITY 로 이미 발급된 id 와 겹치지 않도록, 요청을 받기 전에 생성기 값을 테이블의 최대 id 뒤로 옮김
+// 스키마가 만들어지고 기존 데이터 이전까지 끝난 뒤에 실행되도록 postSchemaInitializer 이후에 초기화
+@Slf4j
+@Component
+@DependsOn({"entityManagerFactory", "postSchemaInitializer"})
+@RequiredArgsConstructor
+public class IdGeneratorAligner {
+
+    private static final String ALIGN_SQL =
+        "update " + TABLE + " set " + VALUE_COLUMN + " = greatest(" + VALUE_COLUMN + ", :floor)" +
+        " where " + NAME_COLUMN + " = :name";
+    private static final String INSERT_SQL =
+        "insert into " + TABLE + " (" + NAME_COLUMN + ", " + VALUE_COLUMN + ") values (:name, :floor)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void align() {
+        IdGenerators.TABLES.forEach(this::align);
+    }
+
+    private void align(String name, String table) {
+        Long maxId = jdbcTemplate.getJdbcTemplate().queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+        // pooled 최적화기는 읽은 값에서 ALLOCATION_SIZE - 1 만큼 아래부터 쓰므로 그만큼 더 띄움
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("name", name)
+            .addValue("floor", maxId + ALLOCATION_SIZE + 1);
+        if (jdbcTemplate.update(ALIGN_SQL, params) == 0) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, params);
+            } catch (DuplicateKeyException e) {
+                jdbcTemplate.update(ALIGN_SQL, params);
+            }
+        }
+        log.info("[id 생성기 정렬] {} 최대 id = {}", name, maxId);
+    }
+}
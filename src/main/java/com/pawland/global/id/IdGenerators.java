@@ -0,0 +1,21 @@
+package com.pawland.global.id;
+
+import java.util.Map;
+
+// 테이블 기반 id 생성기가 함께 쓰는 테이블, IdGeneratorAligner 도 같은 값을 사용
+public final class IdGenerators {
+
+    public static final String TABLE = "id_generator";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    // 생성기 이름과 그 생성기로 id 를 받는 테이블
+    public static final Map<String, String> TABLES = Map.of(
+        "product", "product",
+        "product_image", "product_image"
+    );
+
+    private IdGenerators() {
+    }
+}
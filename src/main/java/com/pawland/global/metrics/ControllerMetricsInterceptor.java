@@ -0,0 +1,62 @@
+package com.pawland.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+// 컨트롤러 메서드 단위로 응답 시간, SQL 개수, JDBC 실행 시간을 기록
+@Component
+@RequiredArgsConstructor
+public class ControllerMetricsInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = ControllerMetricsInterceptor.class.getName() + ".start";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+            SqlStatementStats.begin();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod) || !(request.getAttribute(START_ATTRIBUTE) instanceof Long start)) {
+            return;
+        }
+        SqlStatementStats stats = SqlStatementStats.end();
+        Tags tags = Tags.of(
+            "controller", handlerMethod.getBeanType().getSimpleName(),
+            "method", handlerMethod.getMethod().getName(),
+            "status", String.valueOf(response.getStatus())
+        );
+
+        Timer.builder("pawland.controller.requests")
+            .tags(tags)
+            .register(meterRegistry)
+            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (stats == null) {
+            return;
+        }
+        DistributionSummary.builder("pawland.controller.sql.statements")
+            .tags(tags)
+            .register(meterRegistry)
+            .record(stats.getStatementCount());
+        Timer.builder("pawland.controller.sql.time")
+            .tags(tags)
+            .register(meterRegistry)
+            .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+    }
+}
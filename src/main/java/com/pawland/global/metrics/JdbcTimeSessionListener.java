@@ -0,0 +1,36 @@
+package com.pawland.global.metrics;
+
+import org.hibernate.BaseSessionEventListener;
+
+// 세션마다 새로 만들어지므로 시작 시각을 필드에 둬도 스레드 간에 섞이지 않음
+public class JdbcTimeSessionListener extends BaseSessionEventListener {
+
+    private long executeStart = -1;
+    private long batchStart = -1;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        if (executeStart >= 0) {
+            SqlStatementStats.addJdbcNanos(System.nanoTime() - executeStart);
+            executeStart = -1;
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        if (batchStart >= 0) {
+            SqlStatementStats.addJdbcNanos(System.nanoTime() - batchStart);
+            batchStart = -1;
+        }
+    }
+}
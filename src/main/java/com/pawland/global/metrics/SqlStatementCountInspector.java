@@ -0,0 +1,13 @@
+package com.pawland.global.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate 가 SQL 을 준비할 때마다 호출됨, SQL 은 바꾸지 않고 개수만 셈
+public class SqlStatementCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementStats.countStatement();
+        return sql;
+    }
+}
@@ -0,0 +1,45 @@
+package com.pawland.global.metrics;
+
+import lombok.Getter;
+
+// 요청 하나(스레드 하나) 동안 실행된 SQL 개수와 JDBC 실행 시간을 모음, begin 하지 않은 스레드에서는 아무것도 기록하지 않음
+@Getter
+public class SqlStatementStats {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private int statementCount;
+    private long jdbcNanos;
+
+    public static void begin() {
+        CURRENT.set(new SqlStatementStats());
+    }
+
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    public static SqlStatementStats end() {
+        SqlStatementStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    static void countStatement() {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statementCount++;
+        }
+    }
+
+    static void addJdbcNanos(long nanos) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.jdbcNanos += nanos;
+        }
+    }
+
+    public long getJdbcMillis() {
+        return jdbcNanos / 1_000_000;
+    }
+}
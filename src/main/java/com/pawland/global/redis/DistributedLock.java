@@ -0,0 +1,46 @@
+package com.pawland.global.redis;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+// 여러 서버에서 같은 스케줄 작업이 동시에 돌지 않도록 Redis SET NX 로 잡는 락
+@Component
+public class DistributedLock {
+
+    private static final String NAMESPACE = "lock";
+
+    private final NamespacedRedisStore store;
+
+    public DistributedLock(RedisTemplate<String, String> redisTemplate) {
+        this.store = new NamespacedRedisStore(redisTemplate, NAMESPACE);
+    }
+
+    // 락을 잡으면 소유 토큰을, 다른 서버가 잡고 있으면 null 을 돌려줌
+    // ttl 은 작업이 도중에 죽어도 락이 풀리도록 하는 상한
+    public String tryLock(String name, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        return store.setIfAbsent(name, token, ttl) ? token : null;
+    }
+
+    // 자기 토큰일 때만 풀어서, ttl 이 지나 다른 서버가 잡은 락은 건드리지 않음
+    public void unlock(String name, String token) {
+        store.deleteIfMatches(name, token);
+    }
+
+    // 락을 잡은 서버에서만 task 를 실행, 실행했으면 true
+    public boolean runExclusively(String name, Duration ttl, Runnable task) {
+        String token = tryLock(name, ttl);
+        if (token == null) {
+            return false;
+        }
+        try {
+            task.run();
+            return true;
+        } finally {
+            unlock(name, token);
+        }
+    }
+}
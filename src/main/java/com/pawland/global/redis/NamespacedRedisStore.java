@@ -0,0 +1,126 @@
+package com.pawland.global.redis;
+
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// 하나의 key prefix(namespace) 안에서만 동작하는 저장소, 삭제도 SCAN 으로 자기 namespace 키만 지움
+public class NamespacedRedisStore {
+
+    private static final int SCAN_BATCH_SIZE = 500;
+    private static final RedisScript<Long> COMPARE_AND_SET = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+            "return 1 " +
+        "end " +
+        "return 0",
+        Long.class
+    );
+    private static final RedisScript<Long> DELETE_IF_MATCHES = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "return redis.call('DEL', KEYS[1]) " +
+        "end " +
+        "return 0",
+        Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String prefix;
+
+    public NamespacedRedisStore(RedisTemplate<String, String> redisTemplate, String namespace) {
+        this.redisTemplate = redisTemplate;
+        this.prefix = namespace + ":";
+    }
+
+    public void set(String key, String value, Duration ttl) {
+        redisTemplate.opsForValue().set(prefixed(key), value, ttl);
+    }
+
+    public String get(String key) {
+        return redisTemplate.opsForValue().get(prefixed(key));
+    }
+
+    public List<String> multiGet(Collection<String> keys) {
+        List<String> values = redisTemplate.opsForValue().multiGet(keys.stream().map(this::prefixed).toList());
+        return values == null ? new ArrayList<>() : values;
+    }
+
+    public void multiSet(Map<String, String> entries, Duration ttl) {
+        StringRedisSerializer serializer = StringRedisSerializer.UTF_8;
+        Expiration expiration = Expiration.from(ttl);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            entries.forEach((key, value) -> connection.stringCommands().set(
+                serializer.serialize(prefixed(key)),
+                serializer.serialize(value),
+                expiration,
+                RedisStringCommands.SetOption.upsert()
+            ));
+            return null;
+        });
+    }
+
+    public String getAndDelete(String key) {
+        return redisTemplate.opsForValue().getAndDelete(prefixed(key));
+    }
+
+    // 현재 값이 expected 일 때만 newValue 로 바꾸는 연산을 Lua 스크립트로 한 번에 처리
+    public boolean compareAndSet(String key, String expected, String newValue, Duration ttl) {
+        Long result = redisTemplate.execute(COMPARE_AND_SET, List.of(prefixed(key)),
+            expected, newValue, String.valueOf(ttl.toMillis()));
+        return result != null && result == 1L;
+    }
+
+    // 키가 없을 때만 저장 (SET NX)
+    public boolean setIfAbsent(String key, String value, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(prefixed(key), value, ttl));
+    }
+
+    // 현재 값이 expected 일 때만 삭제, 다른 값으로 바뀌었으면 그대로 둠
+    public boolean deleteIfMatches(String key, String expected) {
+        Long result = redisTemplate.execute(DELETE_IF_MATCHES, List.of(prefixed(key)), expected);
+        return result != null && result == 1L;
+    }
+
+    public long deleteAll() {
+        ScanOptions options = ScanOptions.scanOptions()
+            .match(prefix + "*")
+            .count(SCAN_BATCH_SIZE)
+            .build();
+        long deleted = 0;
+        List<String> batch = new ArrayList<>(SCAN_BATCH_SIZE);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == SCAN_BATCH_SIZE) {
+                    deleted += unlink(batch);
+                    batch.clear();
+                }
+            }
+        }
+        return deleted + unlink(batch);
+    }
+
+    private long unlink(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long unlinked = redisTemplate.unlink(keys);
+        return unlinked == null ? 0 : unlinked;
+    }
+
+    private String prefixed(String key) {
+        return prefix + key;
+    }
+}
@@ -0,0 +1,53 @@
+package com.pawland.global.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+// 고정 구간 방식의 호출 횟수 제한, 구간의 첫 호출이 만료 시간을 정함
+@Component
+@RequiredArgsConstructor
+public class RateLimiter {
+
+    private static final String PREFIX = "rate:";
+    private static final RedisScript<Long> INCREMENT = new DefaultRedisScript<>(
+        "local count = redis.call('INCR', KEYS[1]) " +
+        "if count == 1 then " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+        "end " +
+        "return count",
+        Long.class
+    );
+
+    // 구간이 이미 끝나 키가 없으면 되돌릴 것이 없으므로 새로 만들지 않음
+    private static final RedisScript<Long> DECREMENT = new DefaultRedisScript<>(
+        "local count = tonumber(redis.call('GET', KEYS[1])) " +
+        "if count and count > 0 then " +
+            "return redis.call('DECR', KEYS[1]) " +
+        "end " +
+        "return 0",
+        Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 이번 구간에서 limit 번째 호출까지 true
+    public boolean tryAcquire(String name, int limit, Duration window) {
+        Long count = redisTemplate.execute(INCREMENT, List.of(PREFIX + name), String.valueOf(window.toMillis()));
+        return count != null && count <= limit;
+    }
+
+    // 처리되지 못한 호출의 횟수를 돌려줌, 만료 시간은 그대로 유지
+    public void release(String name) {
+        redisTemplate.execute(DECREMENT, List.of(PREFIX + name));
+    }
+
+    public void reset(String name) {
+        redisTemplate.delete(PREFIX + name);
+    }
+}
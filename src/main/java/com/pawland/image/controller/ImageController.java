@@ -1,6 +1,8 @@
 package com.pawland.image.controller;
 
+import com.pawland.image.dto.request.ImageBatchUploadRequest;
 import com.pawland.image.dto.request.ImageUploadRequest;
+import com.pawland.image.dto.response.ImageBatchUploadResponse;
 import com.pawland.image.dto.response.ImageUploadResponse;
 import com.pawland.image.service.ImageService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -38,4 +40,16 @@ public class ImageController {
             .status(CREATED)
             .body(new ImageUploadResponse(imageService.getPresignedUrl(request.getFileName())));
     }
+
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @Operation(summary = "이미지 저장용 Presigned URL 일괄 발급", description = "요청한 이미지 파일들의 형식, 크기 조건이 포함된 Presigned URL을 한 번에 발급합니다.")
+    @ApiResponse(responseCode = "201", description = "Presigned URL 일괄 발급 성공")
+    @ApiResponse(responseCode = "400", description = "파일명, 형식, 크기 오류")
+    @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    @PostMapping(value = "/batch", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ImageBatchUploadResponse> uploadImages(@Valid @RequestBody ImageBatchUploadRequest request) {
+        return ResponseEntity
+            .status(CREATED)
+            .body(new ImageBatchUploadResponse(imageService.getPresignedUrls(request.getFiles())));
+    }
 }
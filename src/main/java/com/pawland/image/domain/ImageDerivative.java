@@ -0,0 +1,47 @@
+package com.pawland.image.domain;
+
+import com.pawland.global.domain.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "image_derivative", uniqueConstraints = @UniqueConstraint(columnNames = "originalUrl"))
+public class ImageDerivative extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 512)
+    private String originalUrl;
+
+    @Column(length = 512)
+    private String thumbnailUrl;
+
+    @Column(length = 512)
+    private String listUrl;
+
+    @Column(length = 512)
+    private String detailUrl;
+
+    @Builder
+    public ImageDerivative(String originalUrl, String thumbnailUrl, String listUrl, String detailUrl) {
+        this.originalUrl = originalUrl;
+        this.thumbnailUrl = thumbnailUrl;
+        this.listUrl = listUrl;
+        this.detailUrl = detailUrl;
+    }
+
+    public String getUrl(ImageSize size) {
+        return switch (size) {
+            case THUMBNAIL -> thumbnailUrl;
+            case LIST -> listUrl;
+            case DETAIL -> detailUrl;
+        };
+    }
+}
@@ -0,0 +1,16 @@
+package com.pawland.image.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ImageSize {
+
+    THUMBNAIL("thumbnail", 200),
+    LIST("list", 480),
+    DETAIL("detail", 1280);
+
+    private final String path;
+    private final int maxWidth;
+}
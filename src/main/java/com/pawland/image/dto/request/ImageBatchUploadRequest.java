@@ -0,0 +1,26 @@
+package com.pawland.image.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Schema(name = "Presigned URL 일괄 발급 요청")
+public class ImageBatchUploadRequest {
+
+    @Valid
+    @NotEmpty(message = "업로드할 파일을 확인해주세요.")
+    @Size(max = 10, message = "한 번에 최대 10개의 파일까지 요청할 수 있습니다.")
+    private List<ImageFileRequest> files;
+
+    public ImageBatchUploadRequest(List<ImageFileRequest> files) {
+        this.files = files;
+    }
+}
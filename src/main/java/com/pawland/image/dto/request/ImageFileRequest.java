@@ -0,0 +1,31 @@
+package com.pawland.image.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Schema(name = "Presigned URL 발급 대상 파일")
+public class ImageFileRequest {
+
+    @NotBlank(message = "파일명을 확인해주세요.")
+    private String fileName;
+
+    @NotBlank(message = "파일 형식을 확인해주세요.")
+    private String contentType;
+
+    @NotNull(message = "파일 크기를 확인해주세요.")
+    @Positive(message = "파일 크기를 확인해주세요.")
+    private Long size;
+
+    public ImageFileRequest(String fileName, String contentType, Long size) {
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.size = size;
+    }
+}
@@ -0,0 +1,17 @@
+package com.pawland.image.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Schema(name = "Presigned URL 일괄 발급 응답")
+public class ImageBatchUploadResponse {
+
+    private List<PresignedImageResponse> presignedUrls;
+
+    public ImageBatchUploadResponse(List<PresignedImageResponse> presignedUrls) {
+        this.presignedUrls = presignedUrls;
+    }
+}
@@ -0,0 +1,17 @@
+package com.pawland.image.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+@Getter
+@Schema(name = "파일별 Presigned URL")
+public class PresignedImageResponse {
+
+    private String fileName;
+    private String presignedUrl;
+
+    public PresignedImageResponse(String fileName, String presignedUrl) {
+        this.fileName = fileName;
+        this.presignedUrl = presignedUrl;
+    }
+}
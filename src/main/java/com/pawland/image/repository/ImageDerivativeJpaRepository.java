@@ -0,0 +1,14 @@
+package com.pawland.image.repository;
+
+import com.pawland.image.domain.ImageDerivative;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ImageDerivativeJpaRepository extends JpaRepository<ImageDerivative, Long> {
+
+    List<ImageDerivative> findAllByOriginalUrlIn(Collection<String> originalUrls);
+
+    boolean existsByOriginalUrl(String originalUrl);
+}
@@ -0,0 +1,41 @@
+package com.pawland.image.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.List;
+
+// 변환할 원본 이미지 주소 대기열, 워커가 바쁘면 여기 남아 있다가 다음 주기에 처리됨
+@Repository
+@RequiredArgsConstructor
+public class ImageDerivativeQueueRepository {
+
+    private static final String QUEUE_KEY = "image:derivative:queue";
+    private static final int PUSH_CHUNK_SIZE = 1_000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 대량 등록 때 한 명령이 너무 커지지 않도록 나눠서 넣음
+    public void push(List<String> originalUrls) {
+        for (int from = 0; from < originalUrls.size(); from += PUSH_CHUNK_SIZE) {
+            List<String> chunk = originalUrls.subList(from, Math.min(from + PUSH_CHUNK_SIZE, originalUrls.size()));
+            redisTemplate.opsForList().rightPushAll(QUEUE_KEY, chunk);
+        }
+    }
+
+    public List<String> pop(int count) {
+        List<String> urls = redisTemplate.opsForList().leftPop(QUEUE_KEY, count);
+        return urls == null ? Collections.emptyList() : urls;
+    }
+
+    public long size() {
+        Long size = redisTemplate.opsForList().size(QUEUE_KEY);
+        return size == null ? 0 : size;
+    }
+
+    public void deleteAll() {
+        redisTemplate.delete(QUEUE_KEY);
+    }
+}
@@ -0,0 +1,188 @@
+package com.pawland.image.service;
+
+import com.pawland.global.config.AwsConfig;
+import com.pawland.image.domain.ImageSize;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class ImageDerivativeGenerator {
+
+    private static final String DERIVATIVE_PREFIX = "derivatives/";
+    private static final String CONTENT_TYPE = "image/jpeg";
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final float JPEG_QUALITY = 0.8f;
+    // 디코딩하면 워커 메모리를 다 쓰는 이미지를 막기 위한 최대 픽셀 수 (약 5000 x 5000, RGB 로 100MB)
+    private static final long MAX_PIXELS = 25_000_000L;
+    // 버킷 주소를 얻기 위해 SDK 에 넘기는 임의의 키
+    private static final String PROBE_KEY = "probe";
+    // 큰 사이즈부터 만들고 직전 결과를 다시 줄여서 원본 전체를 여러 번 리샘플링하지 않음
+    private static final List<ImageSize> SIZES_BY_WIDTH_DESC = Arrays.stream(ImageSize.values())
+        .sorted(Comparator.comparingInt(ImageSize::getMaxWidth).reversed())
+        .toList();
+
+    private final S3Client s3Client;
+    private final AwsConfig awsConfig;
+
+    // 우리 버킷에 올라간 원본만 변환, 다른 호스트나 버킷의 주소는 서버가 대신 읽지 않음
+    public boolean supports(String originalUrl) {
+        return findKey(originalUrl) != null;
+    }
+
+    public Map<ImageSize, String> generate(String originalUrl) {
+        String key = findKey(originalUrl);
+        if (key == null) {
+            throw new IllegalArgumentException("이미지 주소를 확인해주세요.");
+        }
+        BufferedImage source = read(key);
+
+        Map<ImageSize, String> urls = new EnumMap<>(ImageSize.class);
+        for (ImageSize size : SIZES_BY_WIDTH_DESC) {
+            source = resize(source, size.getMaxWidth());
+            String derivativeKey = DERIVATIVE_PREFIX + size.getPath() + "/" + stripExtension(key) + ".jpg";
+            upload(derivativeKey, encode(source));
+            urls.put(size, getUrl(derivativeKey));
+        }
+        return urls;
+    }
+
+    // 스킴, 호스트, 포트가 버킷 주소와 같고 경로가 버킷 경로로 시작할 때만 키를 꺼냄
+    // path-style 주소(MinIO 등)는 버킷 경로에 버킷명이 포함됨, 이미 변환된 이미지는 null
+    private String findKey(String originalUrl) {
+        if (originalUrl == null) {
+            return null;
+        }
+        URI uri;
+        try {
+            uri = new URI(originalUrl).normalize();
+        } catch (URISyntaxException e) {
+            return null;
+        }
+        URI bucketUri = URI.create(getUrl(PROBE_KEY));
+        String bucketPath = bucketUri.getPath().substring(0, bucketUri.getPath().length() - PROBE_KEY.length());
+        String path = uri.getPath();
+        if (!bucketUri.getScheme().equalsIgnoreCase(uri.getScheme())
+            || !bucketUri.getHost().equalsIgnoreCase(uri.getHost())
+            || bucketUri.getPort() != uri.getPort()
+            || path == null
+            || path.length() <= bucketPath.length()
+            || !path.startsWith(bucketPath)) {
+            return null;
+        }
+        String key = path.substring(bucketPath.length());
+        return key.startsWith(DERIVATIVE_PREFIX) ? null : key;
+    }
+
+    private BufferedImage read(String key) {
+        try (InputStream inputStream = s3Client.getObject(builder -> builder
+            .bucket(awsConfig.getS3AccessPoint())
+            .key(key));
+             ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = imageInputStream == null ? null : ImageIO.getImageReaders(imageInputStream);
+            if (readers == null || !readers.hasNext()) {
+                throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                // 헤더의 가로, 세로만 먼저 읽어서 너무 큰 이미지는 픽셀을 디코딩하기 전에 거절
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) {
+                    throw new IllegalArgumentException("이미지 크기가 너무 큽니다.");
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private BufferedImage resize(BufferedImage source, int maxWidth) {
+        int width = Math.min(source.getWidth(), maxWidth);
+        int height = Math.max(1, Math.round((float) source.getHeight() * width / source.getWidth()));
+        if (width == source.getWidth() && source.getType() == BufferedImage.TYPE_INT_RGB) {
+            return source;
+        }
+
+        // JPEG 는 알파 채널이 없으므로 투명 영역은 흰 배경으로 채움
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private byte[] encode(BufferedImage image) {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (MemoryCacheImageOutputStream imageOutputStream = new MemoryCacheImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지를 변환할 수 없습니다.", e);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+
+    private void upload(String key, byte[] bytes) {
+        PutObjectRequest request = PutObjectRequest.builder()
+            .bucket(awsConfig.getS3AccessPoint())
+            .key(key)
+            .contentType(CONTENT_TYPE)
+            .cacheControl(CACHE_CONTROL)
+            .build();
+        s3Client.putObject(request, RequestBody.fromBytes(bytes));
+    }
+
+    private String getUrl(String key) {
+        return s3Client.utilities()
+            .getUrl(builder -> builder.bucket(awsConfig.getS3AccessPoint()).key(key))
+            .toExternalForm();
+    }
+
+    private String stripExtension(String key) {
+        int dot = key.lastIndexOf('.');
+        int slash = key.lastIndexOf('/');
+        return dot > slash ? key.substring(0, dot) : key;
+    }
+}
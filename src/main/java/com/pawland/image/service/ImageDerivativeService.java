@@ -0,0 +1,144 @@
+package com.pawland.image.service;
+
+import com.pawland.image.domain.ImageDerivative;
+import com.pawland.image.domain.ImageSize;
+import com.pawland.image.repository.ImageDerivativeJpaRepository;
+import com.pawland.image.repository.ImageDerivativeQueueRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static com.pawland.image.domain.ImageSize.DETAIL;
+import static com.pawland.image.domain.ImageSize.LIST;
+import static com.pawland.image.domain.ImageSize.THUMBNAIL;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageDerivativeService {
+
+    private static final int BATCH_SIZE = 20;
+
+    private final ImageDerivativeGenerator imageDerivativeGenerator;
+    private final ImageDerivativeJpaRepository imageDerivativeJpaRepository;
+    private final ImageDerivativeQueueRepository imageDerivativeQueueRepository;
+    private final ThreadPoolTaskExecutor workers = createWorkers();
+
+    // 변환할 원본을 Redis 대기열에 넣음, 트랜잭션 안이면 커밋된 뒤에 넣어서 롤백된 이미지는 변환하지 않음
+    public void requestDerivatives(Collection<String> originalUrls) {
+        List<String> urls = originalUrls.stream()
+            .filter(imageDerivativeGenerator::supports)
+            .distinct()
+            .toList();
+        if (urls.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(urls);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(urls);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelay = 1_000L)
+    public void poll() {
+        try {
+            dispatch();
+        } catch (RuntimeException e) {
+            log.error("[이미지 변환 대기열 처리 실패]", e);
+        }
+    }
+
+    // 워커 대기열에 자리가 있는 만큼만 BATCH_SIZE 개씩 꺼내서 넘김, 나머지는 Redis 에 남겨 다음 주기에 처리
+    public int dispatch() {
+        int dispatched = 0;
+        while (workers.getThreadPoolExecutor().getQueue().remainingCapacity() > 0) {
+            List<String> batch = imageDerivativeQueueRepository.pop(BATCH_SIZE);
+            if (batch.isEmpty()) {
+                break;
+            }
+            try {
+                workers.execute(() -> batch.forEach(this::process));
+            } catch (TaskRejectedException e) {
+                imageDerivativeQueueRepository.push(batch);
+                break;
+            }
+            dispatched += batch.size();
+        }
+        return dispatched;
+    }
+
+    public void process(String originalUrl) {
+        if (imageDerivativeJpaRepository.existsByOriginalUrl(originalUrl)) {
+            return;
+        }
+        try {
+            Map<ImageSize, String> urls = imageDerivativeGenerator.generate(originalUrl);
+            imageDerivativeJpaRepository.save(ImageDerivative.builder()
+                .originalUrl(originalUrl)
+                .thumbnailUrl(urls.get(THUMBNAIL))
+                .listUrl(urls.get(LIST))
+                .detailUrl(urls.get(DETAIL))
+                .build());
+        } catch (DataIntegrityViolationException e) {
+            log.info("[이미지 변환 중복 처리] {}", originalUrl);
+        } catch (RuntimeException e) {
+            log.error("[이미지 변환 실패] {}", originalUrl, e);
+        }
+    }
+
+    // 원본 주소 -> 요청한 사이즈의 주소, 변환되지 않은 이미지는 결과에 포함되지 않음
+    public Map<String, String> resolve(Collection<String> originalUrls, ImageSize size) {
+        List<String> urls = originalUrls.stream()
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+        if (urls.isEmpty()) {
+            return Map.of();
+        }
+        return imageDerivativeJpaRepository.findAllByOriginalUrlIn(urls).stream()
+            .filter(derivative -> derivative.getUrl(size) != null)
+            .collect(Collectors.toMap(ImageDerivative::getOriginalUrl, derivative -> derivative.getUrl(size)));
+    }
+
+    private void enqueue(List<String> urls) {
+        try {
+            imageDerivativeQueueRepository.push(urls);
+        } catch (RuntimeException e) {
+            log.warn("[이미지 변환 대기열 저장 실패] {}건, {}", urls.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    private static ThreadPoolTaskExecutor createWorkers() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("image-derivative-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,6 +1,8 @@
 package com.pawland.image.service;
 
 import com.pawland.global.config.AwsConfig;
+import com.pawland.image.dto.request.ImageFileRequest;
+import com.pawland.image.dto.response.PresignedImageResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
@@ -8,36 +10,65 @@ import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class ImageService {
 
+    private static final Duration SIGNATURE_DURATION = Duration.ofMinutes(5);
+    private static final long MAX_FILE_SIZE = 10 * 1024 * 1024L;
+    private static final Set<String> ALLOWED_CONTENT_TYPES = Set.of("image/jpeg", "image/png", "image/gif", "image/webp");
+
     private final AwsConfig awsConfig;
     private final S3Presigner s3Presigner;
 
     public String getPresignedUrl(String filename) {
-        if (filename == null || filename.isBlank()) {
-            throw new IllegalArgumentException("파일명을 확인해주세요.");
-        }
-        return generatePresignedUrl(filename);
-    }
-
-    private String generatePresignedUrl(String filename) {
-        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+        validateFileName(filename);
+        return generatePresignedUrl(PutObjectRequest.builder()
             .bucket(awsConfig.getS3AccessPoint())
             .key(filename)
-            .build();
+            .build());
+    }
+
+    // Content-Type, Content-Length 가 서명에 포함되어 요청과 다른 파일은 업로드가 거부됨
+    public List<PresignedImageResponse> getPresignedUrls(List<ImageFileRequest> files) {
+        files.forEach(this::validateFile);
+        return files.stream()
+            .map(file -> new PresignedImageResponse(file.getFileName(), generatePresignedUrl(PutObjectRequest.builder()
+                .bucket(awsConfig.getS3AccessPoint())
+                .key(file.getFileName())
+                .contentType(file.getContentType())
+                .contentLength(file.getSize())
+                .build())))
+            .toList();
+    }
 
+    private String generatePresignedUrl(PutObjectRequest putObjectRequest) {
         PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
-            .signatureDuration(Duration.ofMinutes(5))
+            .signatureDuration(SIGNATURE_DURATION)
             .putObjectRequest(putObjectRequest)
             .build();
 
-        try (S3Presigner presigner = s3Presigner) {
-            return presigner.presignPutObject(presignRequest)
-                .url()
-                .toString();
+        return s3Presigner.presignPutObject(presignRequest)
+            .url()
+            .toString();
+    }
+
+    private void validateFile(ImageFileRequest file) {
+        validateFileName(file.getFileName());
+        if (file.getContentType() == null || !ALLOWED_CONTENT_TYPES.contains(file.getContentType())) {
+            throw new IllegalArgumentException("지원하지 않는 파일 형식입니다.");
+        }
+        if (file.getSize() == null || file.getSize() <= 0 || file.getSize() > MAX_FILE_SIZE) {
+            throw new IllegalArgumentException("파일 크기는 10MB 이하만 가능합니다.");
+        }
+    }
+
+    private void validateFileName(String filename) {
+        if (filename == null || filename.isBlank()) {
+            throw new IllegalArgumentException("파일명을 확인해주세요.");
         }
     }
 }
@@ -0,0 +1,42 @@
+package com.pawland.mail.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxMail {
+
+    private String id;
+    private String to;
+    private String subject;
+    private String content;
+    private int attempts;
+
+    @JsonIgnore
+    private String payload;     // 대기열에서 꺼낸 원본 값, 처리 완료(ack) 시 처리중 목록에서 지울 때 사용
+
+    @Builder
+    public OutboxMail(String to, String subject, String content) {
+        this.id = UUID.randomUUID().toString();
+        this.to = to;
+        this.subject = subject;
+        this.content = content;
+        this.attempts = 0;
+    }
+
+    public OutboxMail dequeued(String payload) {
+        this.payload = payload;
+        return this;
+    }
+
+    public OutboxMail failed() {
+        this.attempts++;
+        return this;
+    }
+}
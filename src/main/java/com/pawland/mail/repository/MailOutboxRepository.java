@@ -0,0 +1,144 @@
+package com.pawland.mail.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pawland.mail.domain.OutboxMail;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class MailOutboxRepository {
+
+    private static final String OUTBOX_KEY = "mail:outbox";
+    private static final String RETRY_KEY = "mail:outbox:retry";
+    private static final String DEAD_LETTER_KEY = "mail:outbox:dead";
+    private static final String PROCESSING_KEY = "mail:outbox:processing";
+    private static final String LEASE_KEY = "mail:outbox:processing:lease";
+
+    // 발송 대기열에서 처리중 목록으로 옮기고 임대 만료 시각을 기록, 전송에 성공해야(ack) 처리중 목록에서 지워짐
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POP = new DefaultRedisScript<>(
+        "local mails = {} " +
+        "for i = 1, tonumber(ARGV[1]) do " +
+            "local mail = redis.call('LMOVE', KEYS[1], KEYS[2], 'RIGHT', 'LEFT') " +
+            "if not mail then break end " +
+            "redis.call('ZADD', KEYS[3], ARGV[2], mail) " +
+            "mails[#mails + 1] = mail " +
+        "end " +
+        "return mails",
+        List.class
+    );
+
+    private static final RedisScript<Long> ACK = new DefaultRedisScript<>(
+        "redis.call('ZREM', KEYS[2], ARGV[1]) " +
+        "return redis.call('LREM', KEYS[1], 1, ARGV[1])",
+        Long.class
+    );
+
+    // 임대가 만료된 메일(발송 중 서버가 죽은 경우)을 다시 발송 대기열로 돌려놓음
+    private static final RedisScript<Long> RECOVER = new DefaultRedisScript<>(
+        "local expired = redis.call('ZRANGEBYSCORE', KEYS[3], 0, ARGV[1], 'LIMIT', 0, tonumber(ARGV[2])) " +
+        "local recovered = 0 " +
+        "for _, mail in ipairs(expired) do " +
+            "redis.call('ZREM', KEYS[3], mail) " +
+            "if redis.call('LREM', KEYS[2], 1, mail) == 1 then " +
+                "redis.call('LPUSH', KEYS[1], mail) " +
+                "recovered = recovered + 1 " +
+            "end " +
+        "end " +
+        "return recovered",
+        Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void push(OutboxMail mail) {
+        redisTemplate.opsForList().leftPush(OUTBOX_KEY, serialize(mail));
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<OutboxMail> pop(int count, long leaseUntilMillis) {
+        List<String> values = redisTemplate.execute(POP, List.of(OUTBOX_KEY, PROCESSING_KEY, LEASE_KEY),
+            String.valueOf(count), String.valueOf(leaseUntilMillis));
+        if (values == null) {
+            return Collections.emptyList();
+        }
+        return values.stream()
+            .map(value -> deserialize(value).dequeued(value))
+            .toList();
+    }
+
+    // 대기열에서 꺼낸 메일이 아니면(payload 없음) 지울 것이 없음
+    public void ack(OutboxMail mail) {
+        if (mail.getPayload() == null) {
+            return;
+        }
+        redisTemplate.execute(ACK, List.of(PROCESSING_KEY, LEASE_KEY), mail.getPayload());
+    }
+
+    public int recoverExpired(long nowMillis, int limit) {
+        Long recovered = redisTemplate.execute(RECOVER, List.of(OUTBOX_KEY, PROCESSING_KEY, LEASE_KEY),
+            String.valueOf(nowMillis), String.valueOf(limit));
+        return recovered == null ? 0 : recovered.intValue();
+    }
+
+    public void scheduleRetry(OutboxMail mail, long dueAtMillis) {
+        redisTemplate.opsForZSet().add(RETRY_KEY, serialize(mail), dueAtMillis);
+    }
+
+    // 재시도 시각이 지난 메일을 다시 발송 대기열로 옮김, ZREM 성공한 인스턴스만 옮기므로 중복 발송되지 않음
+    public int promoteDueRetries(long nowMillis, int limit) {
+        Set<String> dueMails = redisTemplate.opsForZSet().rangeByScore(RETRY_KEY, 0, nowMillis, 0, limit);
+        if (dueMails == null) {
+            return 0;
+        }
+        int promoted = 0;
+        for (String value : dueMails) {
+            Long removed = redisTemplate.opsForZSet().remove(RETRY_KEY, value);
+            if (removed != null && removed > 0) {
+                redisTemplate.opsForList().leftPush(OUTBOX_KEY, value);
+                promoted++;
+            }
+        }
+        return promoted;
+    }
+
+    public void pushDeadLetter(OutboxMail mail) {
+        redisTemplate.opsForList().leftPush(DEAD_LETTER_KEY, serialize(mail));
+    }
+
+    public List<OutboxMail> findDeadLetters(int count) {
+        List<String> values = redisTemplate.opsForList().range(DEAD_LETTER_KEY, 0, count - 1);
+        if (values == null) {
+            return Collections.emptyList();
+        }
+        return values.stream()
+            .map(this::deserialize)
+            .toList();
+    }
+
+    private String serialize(OutboxMail mail) {
+        try {
+            return objectMapper.writeValueAsString(mail);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("메일을 대기열에 저장할 수 없습니다.", e);
+        }
+    }
+
+    private OutboxMail deserialize(String value) {
+        try {
+            return objectMapper.readValue(value, OutboxMail.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("대기열의 메일을 읽을 수 없습니다.", e);
+        }
+    }
+}
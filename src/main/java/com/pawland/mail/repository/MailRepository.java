@@ -1,33 +1,36 @@
 package com.pawland.mail.repository;
 
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisCallback;
+import com.pawland.global.redis.NamespacedRedisStore;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
 
 @Repository
-@RequiredArgsConstructor
 public class MailRepository {
 
-    private final RedisTemplate<String, String> redisTemplate;
+    private static final String NAMESPACE = "mail:verification";
+
+    private final NamespacedRedisStore store;
+
+    public MailRepository(RedisTemplate<String, String> redisTemplate) {
+        this.store = new NamespacedRedisStore(redisTemplate, NAMESPACE);
+    }
 
     public void save(String key, String value, Duration duration) {
-        ValueOperations<String, String> values = redisTemplate.opsForValue();
-        values.set(key, value, duration);
+        store.set(key, value, duration);
+    }
+
+    public String findByEmail(String email) {
+        return store.get(email);
     }
 
-    public String findByEmail(String email){
-        ValueOperations<String, String> values = redisTemplate.opsForValue();
-        return values.get(email);
+    // 저장된 값이 expected 와 같을 때만 value 로 교체 (한 번의 왕복으로 인증번호 소모)
+    public boolean replaceIfMatches(String email, String expected, String value, Duration duration) {
+        return store.compareAndSet(email, expected, value, duration);
     }
 
     public void deleteAll() {
-        redisTemplate.execute((RedisCallback<Object>) connection -> {
-            connection.serverCommands().flushDb();
-            return null;
-        });
+        store.deleteAll();
     }
 }
@@ -0,0 +1,162 @@
+package com.pawland.mail.service;
+
+import com.pawland.global.config.MailConfig;
+import com.pawland.mail.domain.OutboxMail;
+import com.pawland.mail.repository.MailOutboxRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MailOutboxService {
+
+    private static final int BATCH_SIZE = 20;
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long BASE_BACKOFF_MILLIS = 2_000L;
+    private static final long MAX_BACKOFF_MILLIS = 5 * 60 * 1_000L;
+    private static final long LEASE_MILLIS = 5 * 60 * 1_000L;    // 이 시간 안에 ack 되지 않으면 다시 발송 대기열로 돌아감
+    private static final String SENDER_NAME = "나는짱";
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final MailConfig mailConfig;
+    private final ThreadPoolTaskExecutor workers = createWorkers();
+    private volatile InternetAddress sender;
+
+    public void enqueue(OutboxMail mail) {
+        try {
+            mailOutboxRepository.push(mail);
+        } catch (RuntimeException e) {
+            log.error("[메일 대기열 저장 실패]");
+            throw new MailSendException("메일 전송에 실패했습니다.");
+        }
+    }
+
+    @Scheduled(fixedDelay = 1_000L)
+    public void poll() {
+        try {
+            dispatch();
+        } catch (RuntimeException e) {
+            log.error("[메일 대기열 처리 실패]", e);
+        }
+    }
+
+    public int dispatch() {
+        long now = System.currentTimeMillis();
+        mailOutboxRepository.recoverExpired(now, BATCH_SIZE);
+        mailOutboxRepository.promoteDueRetries(now, BATCH_SIZE);
+        List<OutboxMail> batch = mailOutboxRepository.pop(BATCH_SIZE, now + LEASE_MILLIS);
+        if (!batch.isEmpty()) {
+            workers.execute(() -> deliver(batch));
+        }
+        return batch.size();
+    }
+
+    // 한 배치를 하나의 SMTP 연결로 보내고, 실패한 메일만 지수 백오프로 재시도, 결과가 정해진 메일만 ack
+    public void deliver(List<OutboxMail> batch) {
+        List<OutboxMail> sendable = new ArrayList<>();
+        List<MimeMessage> messages = new ArrayList<>();
+        for (OutboxMail mail : batch) {
+            try {
+                messages.add(createMessage(mail));
+                sendable.add(mail);
+            } catch (MessagingException | UnsupportedEncodingException | RuntimeException e) {
+                log.error("[메일 생성 실패] id = {}", mail.getId());
+                mailOutboxRepository.pushDeadLetter(mail.failed());
+                mailOutboxRepository.ack(mail);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        try {
+            mailSender.send(messages.toArray(new MimeMessage[0]));
+            sendable.forEach(mailOutboxRepository::ack);
+        } catch (MailSendException e) {
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            for (int i = 0; i < messages.size(); i++) {
+                if (failedMessages.isEmpty() || failedMessages.containsKey(messages.get(i))) {
+                    retryOrBury(sendable.get(i));
+                } else {
+                    mailOutboxRepository.ack(sendable.get(i));
+                }
+            }
+        } catch (MailException e) {
+            log.error("[메일 전송 실패] {}", e.getMessage());
+            sendable.forEach(this::retryOrBury);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    // 재시도 대기열이나 Dead Letter 에 먼저 넣은 뒤 ack 하므로 그 사이 서버가 죽어도 메일이 사라지지 않음
+    private void retryOrBury(OutboxMail mail) {
+        mail.failed();
+        if (mail.getAttempts() >= MAX_ATTEMPTS) {
+            log.error("[메일 전송 최종 실패] id = {}", mail.getId());
+            mailOutboxRepository.pushDeadLetter(mail);
+        } else {
+            mailOutboxRepository.scheduleRetry(mail, System.currentTimeMillis() + backoffMillis(mail.getAttempts()));
+        }
+        mailOutboxRepository.ack(mail);
+    }
+
+    private long backoffMillis(int attempts) {
+        long backoff = BASE_BACKOFF_MILLIS << Math.min(attempts - 1, 20);
+        return Math.min(backoff, MAX_BACKOFF_MILLIS);
+    }
+
+    private MimeMessage createMessage(OutboxMail mail) throws MessagingException, UnsupportedEncodingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message);
+        helper.setFrom(getSender());
+        helper.setTo(mail.getTo());
+        helper.setSubject(mail.getSubject());
+        helper.setText(mail.getContent(), true);
+        return message;
+    }
+
+    // 발신자 주소는 매번 인코딩하지 않고 한 번 만든 값을 재사용
+    private InternetAddress getSender() throws UnsupportedEncodingException {
+        if (sender == null) {
+            sender = new InternetAddress(mailConfig.getFromEmail(), SENDER_NAME, StandardCharsets.UTF_8.name());
+        }
+        return sender;
+    }
+
+    private static ThreadPoolTaskExecutor createWorkers() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("mail-outbox-");
+        // 워커가 모두 바쁘면 스케줄러 스레드가 직접 보내면서 자연스럽게 폴링 속도가 늦춰짐
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,54 +1,52 @@
 package com.pawland.mail.service;
 
-import com.pawland.global.config.MailConfig;
 import com.pawland.global.exception.InvalidCodeException;
 import com.pawland.global.exception.InvalidUserException;
+import com.pawland.mail.domain.OutboxMail;
 import com.pawland.mail.repository.MailRepository;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import com.pawland.mail.template.MailTemplateEngine;
+import com.pawland.mail.template.RenderedMail;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.MailSendException;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.UnsupportedEncodingException;
 import java.time.Duration;
+import java.util.Map;
 import java.util.Random;
 
+import static com.pawland.mail.template.MailTemplateType.VERIFICATION;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class MailVerificationService {
 
-    private final MailConfig mailConfig;
-    private final JavaMailSender mailSender;
+    private static final String VERIFIED = "ok";
+
     private final MailRepository mailRepository;
+    private final MailOutboxService mailOutboxService;
+    private final MailTemplateEngine mailTemplateEngine;
 
     @Transactional
-    public void sendVerificationCode(String toEmail) throws MessagingException, UnsupportedEncodingException {
+    public void sendVerificationCode(String toEmail) {
         String verificationCode = generateVerificationCode();
         mailRepository.save(toEmail, verificationCode, Duration.ofMinutes(3));
 
-        MimeMessage message = createMessage(toEmail, verificationCode);
-        try {
-            mailSender.send(message);
-        } catch (RuntimeException e) {
-            log.error("[메일 전송 실패]");
-            throw new MailSendException("메일 전송에 실패했습니다.");
-        }
+        RenderedMail rendered = mailTemplateEngine.render(VERIFICATION, Map.of("code", verificationCode));
+        OutboxMail mail = OutboxMail.builder()
+            .to(toEmail)
+            .subject(rendered.getSubject())
+            .content(rendered.getContent())
+            .build();
+        mailOutboxService.enqueue(mail);
     }
 
     @Transactional
     public void verifyCode(String email, String code) {
-        String savedVerificationCode = mailRepository.findByEmail(email);
-        boolean isMatched = code.equals(savedVerificationCode);
-        if (isMatched) {
-            mailRepository.save(email, "ok", Duration.ofMinutes(5));
-        } else {
+        boolean isMatched = code != null && mailRepository.replaceIfMatches(email, code, VERIFIED, Duration.ofMinutes(5));
+        if (!isMatched) {
             log.error("[메일 인증 실패]");
             throw new InvalidCodeException();
         }
@@ -56,7 +54,7 @@ public class MailVerificationService {
 
     public void checkEmailVerification(String email) {
         String savedCode = mailRepository.findByEmail(email);
-        boolean isVerifiedEmail = savedCode != null && savedCode.equals("ok");
+        boolean isVerifiedEmail = VERIFIED.equals(savedCode);
         if (!isVerifiedEmail) {
             log.error("[이메일 인증이 안된 유저]");
             throw new InvalidUserException();
@@ -68,25 +66,4 @@ public class MailVerificationService {
         int randomNumber = random.nextInt(999999) + 1;
         return String.format("%06d", randomNumber);
     }
-
-    private MimeMessage createMessage(String toEmail, String verificationCode) throws MessagingException, UnsupportedEncodingException {
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message);
-        helper.setFrom(mailConfig.getFromEmail(), "나는짱");
-        helper.setTo(toEmail);
-        helper.setSubject("PAWLAND 이메일 인증");
-        String template = createTemplate(verificationCode);
-        helper.setText(template, true);
-        return message;
-    }
-
-    private String createTemplate(String verificationCode) {
-        String template = "<html><body>";
-        template += "<p>안녕하세요, PAWLAND입니다.</p>";
-        template += "<p>인증 번호는 아래와 같습니다:</p>";
-        template += "<h2>" + verificationCode + "</h2>";
-        template += "<p>이 인증 번호를 입력하여 인증을 완료해주세요.</p>";
-        template += "</body></html>";
-        return template;
-    }
 }
@@ -0,0 +1,67 @@
+package com.pawland.mail.template;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class MailTemplate {
+
+    private static final String VARIABLE_OPEN = "{{";
+    private static final String VARIABLE_CLOSE = "}}";
+    private static final String TITLE_OPEN = "<title>";
+    private static final String TITLE_CLOSE = "</title>";
+
+    private final String subject;
+    private final String[] literals;    // literals[i] 다음에 variables[i] 값이 들어감
+    private final String[] variables;
+
+    private MailTemplate(String subject, String[] literals, String[] variables) {
+        this.subject = subject;
+        this.literals = literals;
+        this.variables = variables;
+    }
+
+    public static MailTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        int cursor = 0;
+        int open = source.indexOf(VARIABLE_OPEN);
+        while (open >= 0) {
+            int close = source.indexOf(VARIABLE_CLOSE, open + VARIABLE_OPEN.length());
+            if (close < 0) {
+                throw new IllegalStateException("닫히지 않은 템플릿 변수가 있습니다.");
+            }
+            literals.add(source.substring(cursor, open));
+            variables.add(source.substring(open + VARIABLE_OPEN.length(), close).trim());
+            cursor = close + VARIABLE_CLOSE.length();
+            open = source.indexOf(VARIABLE_OPEN, cursor);
+        }
+        literals.add(source.substring(cursor));
+        return new MailTemplate(extractSubject(source), literals.toArray(String[]::new), variables.toArray(String[]::new));
+    }
+
+    public RenderedMail render(Map<String, String> values, StringBuilder buffer) {
+        buffer.setLength(0);
+        buffer.append(literals[0]);
+        for (int i = 0; i < variables.length; i++) {
+            String value = values.get(variables[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("템플릿 변수 값이 없습니다: " + variables[i]);
+            }
+            buffer.append(HtmlUtils.htmlEscape(value))
+                .append(literals[i + 1]);
+        }
+        return new RenderedMail(subject, buffer.toString());
+    }
+
+    private static String extractSubject(String source) {
+        int open = source.indexOf(TITLE_OPEN);
+        int close = source.indexOf(TITLE_CLOSE);
+        if (open < 0 || close < open) {
+            return "";
+        }
+        return HtmlUtils.htmlUnescape(source.substring(open + TITLE_OPEN.length(), close).trim());
+    }
+}
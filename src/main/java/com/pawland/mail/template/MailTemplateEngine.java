@@ -0,0 +1,77 @@
+package com.pawland.mail.template;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+@Slf4j
+@Component
+public class MailTemplateEngine {
+
+    public static final Locale DEFAULT_LOCALE = Locale.KOREAN;    // 요청 언어를 모를 때 쓰는 언어, 서버 JVM 기본값에 의존하지 않음
+
+    private static final String TEMPLATE_LOCATION = "classpath*:templates/mail/*.html";
+    private static final String TEMPLATE_EXTENSION = ".html";
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(1024));
+
+    private Map<String, MailTemplate> templates = Map.of();
+
+    @PostConstruct
+    public void load() {
+        Map<String, MailTemplate> compiled = new HashMap<>();
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver().getResources(TEMPLATE_LOCATION);
+            for (Resource resource : resources) {
+                String filename = resource.getFilename();
+                if (filename == null) {
+                    continue;
+                }
+                String name = filename.substring(0, filename.length() - TEMPLATE_EXTENSION.length());
+                compiled.put(name, MailTemplate.compile(resource.getContentAsString(StandardCharsets.UTF_8)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("메일 템플릿을 불러올 수 없습니다.", e);
+        }
+        this.templates = Map.copyOf(compiled);
+        log.info("[메일 템플릿 로딩 완료] {}", templates.keySet());
+    }
+
+    // 현재 요청의 언어로 렌더링, 요청 밖이면 LocaleContextHolder 가 JVM 기본값을 주므로 애플리케이션 기본 언어를 씀
+    public RenderedMail render(MailTemplateType type, Map<String, String> values) {
+        LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+        return render(type, localeContext == null ? null : localeContext.getLocale(), values);
+    }
+
+    public RenderedMail render(MailTemplateType type, Locale locale, Map<String, String> values) {
+        return resolve(type.getTemplateName(), locale == null ? DEFAULT_LOCALE : locale).render(values, BUFFER.get());
+    }
+
+    // verification_ko_KR -> verification_ko -> verification 순으로 찾음
+    private MailTemplate resolve(String name, Locale locale) {
+        if (locale != null) {
+            MailTemplate template = templates.get(name + "_" + locale);
+            if (template == null) {
+                template = templates.get(name + "_" + locale.getLanguage());
+            }
+            if (template != null) {
+                return template;
+            }
+        }
+        MailTemplate template = templates.get(name);
+        if (template == null) {
+            throw new IllegalArgumentException("존재하지 않는 메일 템플릿입니다: " + name);
+        }
+        return template;
+    }
+}
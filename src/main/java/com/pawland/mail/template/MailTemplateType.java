@@ -0,0 +1,13 @@
+package com.pawland.mail.template;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum MailTemplateType {
+
+    VERIFICATION("verification");
+
+    private final String templateName;
+}
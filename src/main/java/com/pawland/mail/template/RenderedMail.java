@@ -0,0 +1,12 @@
+package com.pawland.mail.template;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class RenderedMail {
+
+    private final String subject;
+    private final String content;
+}
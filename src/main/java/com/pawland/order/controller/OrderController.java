@@ -2,7 +2,10 @@ package com.pawland.order.controller;
 
 import com.pawland.global.config.security.domain.UserPrincipal;
 import com.pawland.order.dto.request.MyOrderRequest;
+import com.pawland.order.dto.response.OrderCursorResponse;
 import com.pawland.order.dto.response.OrderResponse;
+import com.pawland.order.dto.response.OrderSummaryResponse;
+import com.pawland.order.facade.OrderFacade;
 import com.pawland.order.service.OrderService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -23,6 +26,7 @@ import org.springframework.web.bind.annotation.*;
 @SecurityRequirement(name = "jwt-cookie")
 public class OrderController {
     private final OrderService orderService;
+    private final OrderFacade orderFacade;
 
     @PreAuthorize("hasRole('ROLE_USER')")
     @Operation(summary = "주문")
@@ -48,7 +52,7 @@ public class OrderController {
     @ApiResponse(responseCode = "500", description = "거래 완료 실패")
     @PutMapping("/done/{orderId}")
     public ResponseEntity<Boolean> doneOrder(@AuthenticationPrincipal UserPrincipal userPrincipal, @PathVariable Long orderId) {
-        return ResponseEntity.ok(orderService.doneOrder(userPrincipal.getUserId(), orderId));
+        return ResponseEntity.ok(orderFacade.doneOrder(userPrincipal.getUserId(), orderId));
     }
 
     @PreAuthorize("hasRole('ROLE_USER')")
@@ -57,13 +61,31 @@ public class OrderController {
     @ApiResponse(responseCode = "500", description = "거래 취소 실패")
     @PutMapping("/cancel/{orderId}")
     public ResponseEntity<Boolean> cancelOrder(@AuthenticationPrincipal UserPrincipal userPrincipal, @PathVariable Long orderId) {
-        return ResponseEntity.ok(orderService.cancelOrder(userPrincipal.getUserId(), orderId));
+        return ResponseEntity.ok(orderFacade.cancelOrder(userPrincipal.getUserId(), orderId));
     }
 
     @PreAuthorize("hasRole('ROLE_USER')")
     @Operation(summary = "나의 거래내역 조회")
     @GetMapping("/my-order")
-    public ResponseEntity<Page<OrderResponse>> getMyOrder(@AuthenticationPrincipal UserPrincipal userPrincipal, @RequestParam(required = false) String type, @RequestParam(required = true) int page, @RequestParam(required = true) int size) {
-        return ResponseEntity.ok(orderService.getMyOrder(userPrincipal.getUserId(), new MyOrderRequest(type, page,size)));
+    public ResponseEntity<Page<OrderResponse>> getMyOrder(@AuthenticationPrincipal UserPrincipal userPrincipal, @RequestParam(required = false) String type, @RequestParam(required = false) String status, @RequestParam(required = true) int page, @RequestParam(required = true) int size) {
+        return ResponseEntity.ok(orderService.getMyOrder(userPrincipal.getUserId(), new MyOrderRequest(type, status, page, size)));
+    }
+
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @Operation(summary = "나의 거래내역 목록 조회", description = "목록 화면에 필요한 항목만 담은 가벼운 응답으로 거래내역을 조회합니다.")
+    @GetMapping("/my-order/summary")
+    public ResponseEntity<Page<OrderSummaryResponse>> getMyOrderSummaries(@AuthenticationPrincipal UserPrincipal userPrincipal, @RequestParam(required = false) String type, @RequestParam(required = false) String status, @RequestParam(required = true) int page, @RequestParam(required = true) int size) {
+        return ResponseEntity.ok(orderService.getMyOrderSummaries(userPrincipal.getUserId(), new MyOrderRequest(type, status, page, size)));
+    }
+
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @Operation(summary = "나의 거래내역 커서 조회", description = "cursor(주문 id) 이전의 거래내역을 최신순으로 size 개 조회합니다. 첫 요청은 cursor 없이 보냅니다.")
+    @GetMapping("/my-order/cursor")
+    public ResponseEntity<OrderCursorResponse> getMyOrderByCursor(@AuthenticationPrincipal UserPrincipal userPrincipal,
+                                                                  @RequestParam(required = false) String type,
+                                                                  @RequestParam(required = false) String status,
+                                                                  @RequestParam(required = false) Long cursor,
+                                                                  @RequestParam(required = false, defaultValue = "20") int size) {
+        return ResponseEntity.ok(orderService.getMyOrderByCursor(userPrincipal.getUserId(), type, status, cursor, size));
     }
 }
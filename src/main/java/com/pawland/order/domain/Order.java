@@ -38,6 +38,12 @@ public class Order extends BaseTimeEntity {
     @OneToOne(mappedBy = "order")
     private OrderReview orderReview;
 
+    // 판매자, 구매자가 동시에 완료하면 나중에 커밋하는 쪽이 충돌을 감지하고 다시 시도
+    // 컬럼 추가 전에 있던 주문은 기본값 0 으로 채워짐 (이미 null 로 추가된 경우는 db/pre-schema.sql 에서 채움)
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
     public Order(User seller, User buyer, Product product) {
         this.seller = seller;
         this.buyer = buyer;
@@ -51,8 +57,16 @@ public class Order extends BaseTimeEntity {
         this.status = orderStatus;
     }
 
+    public boolean isSeller(Long userId) {
+        return seller.getId().equals(userId);
+    }
+
+    public boolean isBuyer(Long userId) {
+        return buyer.getId().equals(userId);
+    }
+
     public void setSellerCheck(boolean sellerCheck) {
-        this.product.confirmPurchase(seller.getId());
+        this.product.confirmPurchase(buyer.getId());
         this.sellerCheck = sellerCheck;
         if (sellerCheck && buyerCheck) {
             changeStatus(OrderStatus.DONE);
@@ -0,0 +1,26 @@
+package com.pawland.order.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+@Getter
+@RequiredArgsConstructor
+public enum OrderListType {
+    ALL("전체"),
+    SELL("판매내역"),
+    BUY("구매내역");
+
+    private final String name;
+
+    public static OrderListType fromString(String input) {
+        if (input == null || input.isBlank()) {
+            return ALL;
+        }
+        return Arrays.stream(OrderListType.values())
+            .filter(type -> type.getName().equals(input))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("거래내역 유형을 확인해주세요."));
+    }
+}
@@ -7,11 +7,17 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class MyOrderRequest {
     private String type;
+    private String status;
     private int page;
     private int size;
 
     public MyOrderRequest(String type, int page, int size) {
+        this(type, null, page, size);
+    }
+
+    public MyOrderRequest(String type, String status, int page, int size) {
         this.type = type;
+        this.status = status;
         this.page = page;
         this.size = size;
     }
@@ -0,0 +1,20 @@
+package com.pawland.order.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(name = "주문 커서 페이징 응답")
+public class OrderCursorResponse {
+    private List<OrderSummaryResponse> orders;
+    private Long nextCursor;
+    private boolean hasNext;
+
+    public OrderCursorResponse(List<OrderSummaryResponse> orders, Long nextCursor, boolean hasNext) {
+        this.orders = orders;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
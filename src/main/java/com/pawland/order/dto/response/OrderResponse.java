@@ -24,7 +24,7 @@ public class OrderResponse {
         this.id = order.getId();
         this.seller = UserResponse.of(order.getSeller());
         this.buyer = UserResponse.of(order.getBuyer());
-        this.product = ProductResponse.of(order.getProduct(), null);
+        this.product = ProductResponse.withoutWish(order.getProduct());
         this.sellerCheck = order.isSellerCheck();
         this.buyerCheck = order.isBuyerCheck();
         this.orderStatus = order.getStatus();
@@ -0,0 +1,66 @@
+package com.pawland.order.dto.response;
+
+import com.pawland.order.domain.OrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Schema(name = "주문 목록 응답")
+public class OrderSummaryResponse {
+    private Long id;
+    private OrderStatus orderStatus;
+    private boolean sellerCheck;
+    private boolean buyerCheck;
+    private LocalDateTime createdAt;
+    private ProductSummary product;
+    private Party seller;
+    private Party buyer;
+    private Long reviewId;
+
+    // QueryDSL Projections.constructor 용
+    public OrderSummaryResponse(Long id, OrderStatus orderStatus, Boolean sellerCheck, Boolean buyerCheck, LocalDateTime createdAt,
+                                Long productId, String productName, Integer productPrice, String productThumbnailImage,
+                                Long sellerId, String sellerNickname, String sellerProfileImage,
+                                Long buyerId, String buyerNickname, String buyerProfileImage,
+                                Long reviewId) {
+        this.id = id;
+        this.orderStatus = orderStatus;
+        this.sellerCheck = Boolean.TRUE.equals(sellerCheck);
+        this.buyerCheck = Boolean.TRUE.equals(buyerCheck);
+        this.createdAt = createdAt;
+        this.product = new ProductSummary(productId, productName, productPrice == null ? 0 : productPrice, productThumbnailImage);
+        this.seller = new Party(sellerId, sellerNickname, sellerProfileImage);
+        this.buyer = new Party(buyerId, buyerNickname, buyerProfileImage);
+        this.reviewId = reviewId;
+    }
+
+    @Data
+    public static class ProductSummary {
+        private Long id;
+        private String name;
+        private int price;
+        private String thumbnailImage;
+
+        private ProductSummary(Long id, String name, int price, String thumbnailImage) {
+            this.id = id;
+            this.name = name;
+            this.price = price;
+            this.thumbnailImage = thumbnailImage;
+        }
+    }
+
+    @Data
+    public static class Party {
+        private Long id;
+        private String nickname;
+        private String profileImage;
+
+        private Party(Long id, String nickname, String profileImage) {
+            this.id = id;
+            this.nickname = nickname;
+            this.profileImage = profileImage;
+        }
+    }
+}
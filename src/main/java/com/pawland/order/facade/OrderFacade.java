@@ -0,0 +1,41 @@
+package com.pawland.order.facade;
+
+import com.pawland.order.service.OrderService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderFacade {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final OrderService orderService;
+
+    public boolean doneOrder(Long userId, Long orderId) {
+        return retryOnConflict(orderId, () -> orderService.doneOrder(userId, orderId));
+    }
+
+    public Boolean cancelOrder(Long userId, Long orderId) {
+        return retryOnConflict(orderId, () -> orderService.cancelOrder(userId, orderId));
+    }
+
+    // 트랜잭션 하나가 끝난 뒤 충돌이 나면 새 트랜잭션에서 최신 상태를 다시 읽어서 적용
+    private <T> T retryOnConflict(Long orderId, Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("[주문 상태 변경 충돌, 재시도] orderId = {}, attempt = {}", orderId, attempt);
+            }
+        }
+    }
+}
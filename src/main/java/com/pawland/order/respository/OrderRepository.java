@@ -0,0 +1,116 @@
+package com.pawland.order.respository;
+
+import com.pawland.order.domain.Order;
+import com.pawland.order.domain.OrderListType;
+import com.pawland.order.domain.OrderStatus;
+import com.pawland.order.dto.response.OrderSummaryResponse;
+import com.pawland.user.domain.QUser;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.pawland.order.domain.QOrder.order;
+import static com.pawland.product.domain.QProduct.product;
+import static com.pawland.review.domain.QOrderReview.orderReview;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderRepository {
+
+    private static final QUser seller = new QUser("seller");
+    private static final QUser buyer = new QUser("buyer");
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    // 기존 주문 응답용, 주문과 함께 필요한 단건 연관(상품, 판매자, 구매자, 리뷰)을 한 번에 불러옴
+    public Page<Order> getMyOrderEntities(Long userId, OrderListType type, OrderStatus status, Pageable pageable) {
+        List<Order> orders = jpaQueryFactory
+            .selectFrom(order)
+            .leftJoin(order.product, product).fetchJoin()
+            .leftJoin(order.seller, seller).fetchJoin()
+            .leftJoin(order.buyer, buyer).fetchJoin()
+            .leftJoin(order.orderReview, orderReview).fetchJoin()
+            .where(eqParticipant(userId, type), eqStatus(status))
+            .orderBy(order.createdDate.asc(), order.id.asc())
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize())
+            .fetch();
+
+        return PageableExecutionUtils.getPage(orders, pageable, countMyOrders(userId, type, status)::fetchOne);
+    }
+
+    public Page<OrderSummaryResponse> getMyOrders(Long userId, OrderListType type, OrderStatus status, Pageable pageable) {
+        List<OrderSummaryResponse> orders = selectSummaries()
+            .where(eqParticipant(userId, type), eqStatus(status))
+            .orderBy(order.createdDate.asc(), order.id.asc())
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize())
+            .fetch();
+
+        return PageableExecutionUtils.getPage(orders, pageable, countMyOrders(userId, type, status)::fetchOne);
+    }
+
+    // 최신 주문부터 cursor(주문 id) 이전 주문을 조회
+    public List<OrderSummaryResponse> getMyOrdersBefore(Long userId, OrderListType type, OrderStatus status, Long cursor, int limit) {
+        return selectSummaries()
+            .where(eqParticipant(userId, type), eqStatus(status),
+                cursor == null ? null : order.id.lt(cursor))
+            .orderBy(order.id.desc())
+            .limit(limit)
+            .fetch();
+    }
+
+    // 목록에 필요한 컬럼만 한 번의 join 으로 조회, 상품 이미지 목록이나 리뷰 본문은 가져오지 않음
+    private JPAQuery<OrderSummaryResponse> selectSummaries() {
+        return jpaQueryFactory
+            .select(Projections.constructor(OrderSummaryResponse.class,
+                order.id,
+                order.status,
+                order.sellerCheck,
+                order.buyerCheck,
+                order.createdDate,
+                product.id,
+                product.name,
+                product.price,
+                product.thumbnailImageUrl,
+                seller.id,
+                seller.nickname,
+                seller.profileImage,
+                buyer.id,
+                buyer.nickname,
+                buyer.profileImage,
+                orderReview.id))
+            .from(order)
+            .leftJoin(order.product, product)
+            .leftJoin(order.seller, seller)
+            .leftJoin(order.buyer, buyer)
+            .leftJoin(order.orderReview, orderReview);
+    }
+
+    private JPAQuery<Long> countMyOrders(Long userId, OrderListType type, OrderStatus status) {
+        return jpaQueryFactory
+            .select(order.count())
+            .from(order)
+            .where(eqParticipant(userId, type), eqStatus(status));
+    }
+
+    private BooleanExpression eqParticipant(Long userId, OrderListType type) {
+        return switch (type) {
+            case SELL -> order.seller.id.eq(userId);
+            case BUY -> order.buyer.id.eq(userId);
+            case ALL -> order.seller.id.eq(userId).or(order.buyer.id.eq(userId));
+        };
+    }
+
+    private BooleanExpression eqStatus(OrderStatus status) {
+        return status == null ? null : order.status.eq(status);
+    }
+}
@@ -1,11 +1,17 @@
 package com.pawland.order.service;
 
+import com.pawland.feed.service.FeedService;
 import com.pawland.order.domain.Order;
+import com.pawland.order.domain.OrderListType;
 import com.pawland.order.domain.OrderStatus;
 import com.pawland.order.dto.request.MyOrderRequest;
+import com.pawland.order.dto.response.OrderCursorResponse;
 import com.pawland.order.dto.response.OrderResponse;
+import com.pawland.order.dto.response.OrderSummaryResponse;
 import com.pawland.order.exception.OrderException;
 import com.pawland.order.respository.OrderJpaRepository;
+import com.pawland.order.respository.OrderRepository;
+import com.pawland.outbox.service.OutboxService;
 import com.pawland.product.domain.Product;
 import com.pawland.product.exception.ProductException;
 import com.pawland.product.respository.ProductJpaRepository;
@@ -19,18 +25,28 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.pawland.order.exception.OrderExceptionMessage.ALREADY_EXISTS_ORDER;
+import static com.pawland.outbox.domain.DomainEventType.ORDER_CONFIRMED;
+import static com.pawland.outbox.domain.DomainEventType.ORDER_DONE;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class OrderService {
+    private static final int MAX_CURSOR_SIZE = 100;
+
     private final OrderJpaRepository orderJpaRepository;
+    private final OrderRepository orderRepository;
     private final UserRepository userRepository;
     private final ProductJpaRepository productJpaRepository;
+    private final OutboxService outboxService;
+    private final FeedService feedService;
 
     @Transactional
     public OrderResponse createOrder(Long buyerId, Long productId) {
@@ -55,27 +71,43 @@ public class OrderService {
     }
 
 
+    // 주문은 한 번만 조회하고, 동시에 완료된 경우는 version 충돌로 OrderFacade 에서 다시 시도
     @Transactional
     public boolean doneOrder(Long userId, Long orderId) {
-        if (isSeller(userId, orderId)) {
-            Order order = getOrderById(orderId);
+        Order order = getOrderById(orderId);
+        if (order.getStatus() != OrderStatus.PROCEEDING) {
+            throw new IllegalStateException("진행중인 주문만 완료할 수 있습니다.");
+        }
+
+        if (order.isSeller(userId)) {
             order.setSellerCheck(true);
-            return true;
-        } else if (isBuyer(userId, orderId)) {
-            Order order = getOrderById(orderId);
+        } else if (order.isBuyer(userId)) {
             order.setBuyerCheck(true);
-            return true;
         } else {
             throw new OrderException.AccessDeniedException();
         }
 
+        outboxService.append(ORDER_CONFIRMED, orderId, Map.of("userId", userId));
+        if (order.getStatus() == OrderStatus.DONE) {
+            Product product = order.getProduct();
+            // 거래가 끝난 상품은 판매 완료로 바꾸고 최신 목록 피드에서 뺌
+            product.sell();
+            feedService.removeProduct(product.getId(), product.getRegion());
+            outboxService.append(ORDER_DONE, orderId, Map.of(
+                "productId", product.getId(),
+                "sellerId", order.getSeller().getId(),
+                "buyerId", order.getBuyer().getId(),
+                "region", product.getRegion().name(),
+                "species", product.getSpecies().name()
+            ));
+        }
+        return true;
     }
 
     @Transactional
     public Boolean cancelOrder(Long userId, Long orderId) {
-        if (isSeller(userId, orderId) || isBuyer(userId, orderId)) {
-            Order order = getOrderById(orderId);
-
+        Order order = getOrderById(orderId);
+        if (order.isSeller(userId) || order.isBuyer(userId)) {
             order.changeStatus(OrderStatus.CANCEL);
 
             return true;
@@ -86,15 +118,33 @@ public class OrderService {
 
     public Page<OrderResponse> getMyOrder(Long userId, MyOrderRequest myOrderRequest) {
         Pageable pageable = PageRequest.of(myOrderRequest.getPage() - 1, myOrderRequest.getSize());
-        if (myOrderRequest.getType() == null) {
-            return orderJpaRepository.findBySellerIdOrBuyerIdOrderByCreatedDate(userId, userId,pageable).map(OrderResponse::of);
-        } else if (myOrderRequest.getType().equals("판매내역")) {
-            return orderJpaRepository.findBySellerIdOrderByCreatedDate(userId,pageable).map(OrderResponse::of);
-        } else if (myOrderRequest.getType().equals("구매내역")) {
-            return orderJpaRepository.findByBuyerIdOrderByCreatedDate(userId,pageable).map(OrderResponse::of);
+        return orderRepository.getMyOrderEntities(userId, OrderListType.fromString(myOrderRequest.getType()), toStatus(myOrderRequest.getStatus()), pageable)
+            .map(OrderResponse::of);
+    }
+
+    public Page<OrderSummaryResponse> getMyOrderSummaries(Long userId, MyOrderRequest myOrderRequest) {
+        Pageable pageable = PageRequest.of(myOrderRequest.getPage() - 1, myOrderRequest.getSize());
+        return orderRepository.getMyOrders(userId, OrderListType.fromString(myOrderRequest.getType()), toStatus(myOrderRequest.getStatus()), pageable);
+    }
+
+    public OrderCursorResponse getMyOrderByCursor(Long userId, String type, String status, Long cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_SIZE) {
+            throw new IllegalArgumentException("조회 개수를 확인해주세요.");
+        }
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        List<OrderSummaryResponse> orders = orderRepository.getMyOrdersBefore(userId, OrderListType.fromString(type), toStatus(status), cursor, size + 1);
+        boolean hasNext = orders.size() > size;
+        if (hasNext) {
+            orders = orders.subList(0, size);
+        }
+        if (orders.isEmpty()) {
+            return new OrderCursorResponse(List.of(), null, false);
         }
+        return new OrderCursorResponse(orders, orders.get(orders.size() - 1).getId(), hasNext);
+    }
 
-        return null;
+    private OrderStatus toStatus(String status) {
+        return StringUtils.hasText(status) ? OrderStatus.getInstance(status) : null;
     }
 
     private User getUserById(Long buyerId) {
@@ -108,16 +158,4 @@ public class OrderService {
     private Order getOrderById(Long orderId) {
         return orderJpaRepository.findById(orderId).orElseThrow(OrderException.NotFoundOrder::new);
     }
-
-    private boolean isSeller(Long userId, Long orderId) {
-        Order order = getOrderById(orderId);
-
-        return order.getSeller().getId().equals(userId);
-    }
-
-    private boolean isBuyer(Long userId, Long orderId) {
-        Order order = getOrderById(orderId);
-
-        return order.getBuyer().getId().equals(userId);
-    }
 }
@@ -0,0 +1,30 @@
+package com.pawland.outbox.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+// 아웃박스에서 꺼낸 이벤트, @EventListener 로 받아서 처리
+// 같은 이벤트가 두 번 이상 전달될 수 있으므로 리스너는 여러 번 처리해도 결과가 같아야 함
+@Getter
+@RequiredArgsConstructor
+public class DomainEvent {
+
+    private final Long id;
+    private final DomainEventType type;
+    private final Long aggregateId;
+    private final Map<String, Object> payload;
+    private final LocalDateTime occurredAt;
+
+    public Long getLong(String key) {
+        Object value = payload.get(key);
+        return value == null ? null : ((Number) value).longValue();
+    }
+
+    public String getString(String key) {
+        Object value = payload.get(key);
+        return value == null ? null : value.toString();
+    }
+}
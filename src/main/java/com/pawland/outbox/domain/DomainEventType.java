@@ -0,0 +1,10 @@
+package com.pawland.outbox.domain;
+
+public enum DomainEventType {
+    ORDER_CONFIRMED,        // 판매자나 구매자 한쪽이 거래 완료
+    ORDER_DONE,             // 양쪽 모두 거래 완료
+    PRODUCT_WISHED,
+    PRODUCT_WISH_CANCELED,
+    REVIEW_CREATED,
+    CHAT_ROOM_CREATED
+}
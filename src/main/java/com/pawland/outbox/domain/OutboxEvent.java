@@ -0,0 +1,41 @@
+package com.pawland.outbox.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 상태 변경과 같은 트랜잭션에서 쌓이고, OutboxRelayService 가 순서대로 꺼내서 전달함
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "outbox_event", indexes = @Index(name = "idx_outbox_event_published", columnList = "publishedAt, id"))
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DomainEventType eventType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Lob
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    private LocalDateTime publishedAt;
+
+    private String claimToken;
+
+    private LocalDateTime claimedUntil;
+
+    private int attempts;
+}
@@ -0,0 +1,89 @@
+package com.pawland.outbox.repository;
+
+import com.pawland.outbox.domain.DomainEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+// 여러 서버가 동시에 폴링해도 같은 이벤트를 함께 처리하지 않도록 claim_token 으로 선점한 행만 가져감
+@Repository
+@RequiredArgsConstructor
+public class OutboxRepository {
+
+    private static final String INSERT_SQL =
+        "insert into outbox_event (event_type, aggregate_id, payload, occurred_at, attempts)" +
+            " values (:eventType, :aggregateId, :payload, :occurredAt, 0)";
+    private static final String CANDIDATES_SQL =
+        "select id from outbox_event" +
+            " where published_at is null and attempts < :maxAttempts" +
+            " and (claimed_until is null or claimed_until < :now)" +
+            " order by id limit :limit";
+    private static final String CLAIM_SQL =
+        "update outbox_event set claim_token = :token, claimed_until = :until" +
+            " where id in (:ids) and published_at is null" +
+            " and (claimed_until is null or claimed_until < :now)";
+    private static final String CLAIMED_SQL =
+        "select id, event_type, aggregate_id, payload, occurred_at from outbox_event" +
+            " where claim_token = :token and published_at is null order by id";
+    private static final String MARK_PUBLISHED_SQL =
+        "update outbox_event set published_at = :now, claim_token = null, claimed_until = null where id in (:ids)";
+    private static final String MARK_FAILED_SQL =
+        "update outbox_event set attempts = attempts + 1, claim_token = null, claimed_until = :retryAt where id = :id";
+    private static final String DELETE_PUBLISHED_SQL =
+        "delete from outbox_event where published_at < :before";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void save(DomainEventType eventType, Long aggregateId, String payload, LocalDateTime occurredAt) {
+        jdbcTemplate.update(INSERT_SQL, new MapSqlParameterSource("eventType", eventType.name())
+            .addValue("aggregateId", aggregateId)
+            .addValue("payload", payload)
+            .addValue("occurredAt", occurredAt));
+    }
+
+    // 후보를 고른 뒤 조건부 update 로 선점, 다른 서버가 먼저 가져간 행은 update 되지 않음
+    public List<OutboxRow> claim(String token, int limit, int maxAttempts, LocalDateTime now, LocalDateTime until) {
+        List<Long> candidateIds = jdbcTemplate.queryForList(CANDIDATES_SQL, new MapSqlParameterSource("maxAttempts", maxAttempts)
+            .addValue("now", now)
+            .addValue("limit", limit), Long.class);
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+
+        int claimed = jdbcTemplate.update(CLAIM_SQL, new MapSqlParameterSource("token", token)
+            .addValue("until", until)
+            .addValue("ids", candidateIds)
+            .addValue("now", now));
+        if (claimed == 0) {
+            return List.of();
+        }
+
+        return jdbcTemplate.query(CLAIMED_SQL, new MapSqlParameterSource("token", token), (rs, rowNum) -> new OutboxRow(
+            rs.getLong("id"),
+            DomainEventType.valueOf(rs.getString("event_type")),
+            rs.getLong("aggregate_id"),
+            rs.getString("payload"),
+            rs.getTimestamp("occurred_at").toLocalDateTime()
+        ));
+    }
+
+    public void markPublished(Collection<Long> ids, LocalDateTime now) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(MARK_PUBLISHED_SQL, new MapSqlParameterSource("ids", ids).addValue("now", now));
+    }
+
+    public void markFailed(Long id, LocalDateTime retryAt) {
+        jdbcTemplate.update(MARK_FAILED_SQL, new MapSqlParameterSource("id", id).addValue("retryAt", retryAt));
+    }
+
+    public int deletePublishedBefore(LocalDateTime before) {
+        return jdbcTemplate.update(DELETE_PUBLISHED_SQL, new MapSqlParameterSource("before", before));
+    }
+}
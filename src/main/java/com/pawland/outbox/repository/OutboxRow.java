@@ -0,0 +1,24 @@
+package com.pawland.outbox.repository;
+
+import com.pawland.outbox.domain.DomainEventType;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class OutboxRow {
+
+    private final Long id;
+    private final DomainEventType eventType;
+    private final Long aggregateId;
+    private final String payload;
+    private final LocalDateTime occurredAt;
+
+    public OutboxRow(Long id, DomainEventType eventType, Long aggregateId, String payload, LocalDateTime occurredAt) {
+        this.id = id;
+        this.eventType = eventType;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+    }
+}
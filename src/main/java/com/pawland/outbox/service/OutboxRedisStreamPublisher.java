@@ -0,0 +1,47 @@
+package com.pawland.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pawland.outbox.domain.DomainEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// 다른 서비스가 구독할 수 있도록 이벤트를 Redis stream 에도 복사, pawland.outbox.redis-stream-enabled=true 일 때만 동작
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "pawland.outbox", name = "redis-stream-enabled", havingValue = "true")
+public class OutboxRedisStreamPublisher {
+
+    private static final String STREAM_KEY = "outbox:events";
+    private static final long MAX_LENGTH = 100_000L;
+
+    private final StringRedisTemplate redisTemplate;   // stream 필드도 문자열로 직렬화
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    public void publish(DomainEvent event) {
+        Map<String, String> fields = Map.of(
+            "id", String.valueOf(event.getId()),
+            "type", event.getType().name(),
+            "aggregateId", String.valueOf(event.getAggregateId()),
+            "payload", toJson(event.getPayload()),
+            "occurredAt", event.getOccurredAt().toString()
+        );
+        redisTemplate.opsForStream().add(StreamRecords.string(fields).withStreamKey(STREAM_KEY));
+        redisTemplate.opsForStream().trim(STREAM_KEY, MAX_LENGTH, true);
+    }
+
+    private String toJson(Map<String, Object> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트 내용을 변환할 수 없습니다.", e);
+        }
+    }
+}
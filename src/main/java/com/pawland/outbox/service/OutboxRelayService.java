@@ -0,0 +1,94 @@
+package com.pawland.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pawland.outbox.domain.DomainEvent;
+import com.pawland.outbox.repository.OutboxRepository;
+import com.pawland.outbox.repository.OutboxRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxRelayService {
+
+    private static final int BATCH_SIZE = 100;
+    private static final int MAX_ATTEMPTS = 10;
+    private static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(1);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+    private static final Duration RETENTION = Duration.ofDays(7);
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<>() {
+    };
+
+    private final OutboxRepository outboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    @Scheduled(fixedDelay = 1_000L)
+    public void poll() {
+        try {
+            relay();
+        } catch (RuntimeException e) {
+            log.error("[이벤트 전달 실패]", e);
+        }
+    }
+
+    // 선점한 이벤트를 id 순서대로 리스너에 전달하고, 성공한 것은 한 번에 완료 처리
+    public int relay() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxRow> rows = outboxRepository.claim(UUID.randomUUID().toString(), BATCH_SIZE, MAX_ATTEMPTS, now, now.plus(CLAIM_TIMEOUT));
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> published = new ArrayList<>(rows.size());
+        for (OutboxRow row : rows) {
+            try {
+                eventPublisher.publishEvent(toEvent(row));
+                published.add(row.getId());
+            } catch (RuntimeException e) {
+                log.warn("[이벤트 전달 실패, 재시도 예정] id = {}, type = {}, {}", row.getId(), row.getEventType(), e.getMessage());
+                outboxRepository.markFailed(row.getId(), LocalDateTime.now().plus(RETRY_DELAY));
+            }
+        }
+        outboxRepository.markPublished(published, LocalDateTime.now());
+        return published.size();
+    }
+
+    @Scheduled(cron = "0 0 3 * * *")
+    public void cleanup() {
+        try {
+            int deleted = outboxRepository.deletePublishedBefore(LocalDateTime.now().minus(RETENTION));
+            log.info("[전달 완료 이벤트 정리] {}건", deleted);
+        } catch (RuntimeException e) {
+            log.error("[전달 완료 이벤트 정리 실패]", e);
+        }
+    }
+
+    private DomainEvent toEvent(OutboxRow row) {
+        return new DomainEvent(row.getId(), row.getEventType(), row.getAggregateId(), parse(row.getPayload()), row.getOccurredAt());
+    }
+
+    private Map<String, Object> parse(String payload) {
+        if (payload == null) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(payload, PAYLOAD_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트 내용을 읽을 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.pawland.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pawland.outbox.domain.DomainEventType;
+import com.pawland.outbox.repository.OutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    // 상태 변경과 함께 커밋되거나 함께 롤백되도록 호출한 쪽의 트랜잭션 안에서만 저장
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(DomainEventType type, Long aggregateId, Map<String, Object> payload) {
+        outboxRepository.save(type, aggregateId, toJson(payload), LocalDateTime.now());
+    }
+
+    private String toJson(Map<String, Object> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트 내용을 변환할 수 없습니다.", e);
+        }
+    }
+}
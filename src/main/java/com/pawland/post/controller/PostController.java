@@ -3,10 +3,12 @@ package com.pawland.post.controller;
 import com.pawland.global.config.security.domain.UserPrincipal;
 import com.pawland.global.config.swagger.SecurityNotRequired;
 import com.pawland.global.dto.ApiMessageResponse;
+import com.pawland.post.domain.Region;
 import com.pawland.post.dto.request.PostCreateRequest;
 import com.pawland.post.dto.request.PostSearchRequest;
 import com.pawland.post.dto.request.UpdatePostRequest;
 import com.pawland.post.dto.response.PostResponse;
+import com.pawland.post.dto.response.PostSummaryResponse;
 import com.pawland.post.service.PostService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -15,15 +17,18 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Optional;
 
+import static com.pawland.global.http.ConditionalResponses.ifModified;
 import static org.springframework.http.HttpStatus.CREATED;
 
 @RestController
@@ -33,6 +38,9 @@ import static org.springframework.http.HttpStatus.CREATED;
 @Tag(name = "PostController", description = "커뮤니티 게시글 관련 컨트롤러 입니다.")
 public class PostController {
 
+    // 사용자마다 추천 여부가 달라 공유 캐시에는 저장하지 않고, 매번 ETag 로 재검증
+    private static final CacheControl DETAIL_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final PostService postService;
 
     @PreAuthorize("hasRole('ROLE_USER')")
@@ -52,14 +60,20 @@ public class PostController {
     @Operation(summary = "게시글 조회", description = "게시글을 조회 합니다")
     @ApiResponse(responseCode = "201", description = "게시글 조회 성공")
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Page<PostResponse>> getPosts(@AuthenticationPrincipal UserPrincipal userPrincipal,
-                                                       @RequestParam(required = true) int page,
-                                                       @RequestParam(required = true) int size,
-                                                       @RequestParam(required = false) String content,
-                                                       @RequestParam(required = false) List<String> region,
-                                                       @RequestParam(required = false) String orderBy) {
-        Long userId = Optional.ofNullable(userPrincipal).map(UserPrincipal::getUserId).orElse(null);
-        return ResponseEntity.ok(postService.getPosts(userId, PostSearchRequest.builder().page(page).size(size).content(content).region(region).orderBy(orderBy).build()));
+    public ResponseEntity<Page<PostSummaryResponse>> getPosts(@RequestParam(required = true) int page,
+                                                              @RequestParam(required = true) int size,
+                                                              @RequestParam(required = false) String content,
+                                                              @RequestParam(required = false) List<Region> region,
+                                                              @RequestParam(required = false) String orderBy) {
+        return ResponseEntity.ok(postService.getPosts(PostSearchRequest.builder().page(page).size(size).content(content).region(region).orderBy(orderBy).build()));
+    }
+
+    @SecurityNotRequired
+    @Operation(summary = "인기 게시글 조회", description = "최근 조회, 추천, 댓글이 많은 게시글을 지역별로 조회합니다.")
+    @GetMapping(value = "/trending", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<PostSummaryResponse>> getTrendingPosts(@RequestParam(required = false) Region region,
+                                                                      @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(postService.getTrendingPosts(region, size));
     }
 
     @PreAuthorize("hasRole('ROLE_USER')")
@@ -79,7 +93,7 @@ public class PostController {
     @PreAuthorize("hasRole('ROLE_USER')")
     @Operation(summary = "내가 쓴글 조회", description = "글쓴이가 자신인 글을 조회 합니다.")
     @GetMapping("/my-post")
-    public ResponseEntity<Page<PostResponse>> getMyPosts(@AuthenticationPrincipal UserPrincipal userPrincipal, @RequestParam(required = true) int page,@RequestParam(required = true)int size, @RequestParam(required = false) String orderBy) {
+    public ResponseEntity<Page<PostSummaryResponse>> getMyPosts(@AuthenticationPrincipal UserPrincipal userPrincipal, @RequestParam(required = true) int page,@RequestParam(required = true)int size, @RequestParam(required = false) String orderBy) {
         return ResponseEntity.ok(postService.getMyPosts(userPrincipal.getUserId(), PostSearchRequest.builder().page(page).size(size).orderBy(orderBy).build()));
     }
 
@@ -100,15 +114,16 @@ public class PostController {
     @SecurityNotRequired
     @Operation(summary = "게시글 단건 조회")
     @GetMapping("/{postId}")
-    public ResponseEntity<PostResponse> getPostById(@AuthenticationPrincipal UserPrincipal userPrincipal, @PathVariable Long postId) {
+    public ResponseEntity<PostResponse> getPostById(@AuthenticationPrincipal UserPrincipal userPrincipal, @PathVariable Long postId, WebRequest webRequest) {
         Long userId = Optional.ofNullable(userPrincipal).map(UserPrincipal::getUserId).orElse(null);
-        return ResponseEntity.ok(postService.getOnePostById(userId, postId));
+        String eTag = postService.getPostETag(userId, postId);
+        return ifModified(webRequest, eTag, DETAIL_CACHE_CONTROL, () -> postService.getOnePostById(userId, postId));
     }
 
     @SecurityNotRequired
     @Operation(summary = "유저의 게시글 조회")
     @GetMapping("/user/{userId}")
-    public ResponseEntity<Page<PostResponse>> getPostByUser(@PathVariable Long userId, @RequestParam(required = true) int page, @RequestParam(required = true) int size) {
+    public ResponseEntity<Page<PostSummaryResponse>> getPostByUser(@PathVariable Long userId, @RequestParam(required = true) int page, @RequestParam(required = true) int size) {
         return ResponseEntity.ok(postService.getMyPosts(userId, PostSearchRequest.builder().page(page).size(size).build()));
     }
 }
@@ -11,6 +11,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -22,7 +23,12 @@ import static com.pawland.post.domain.Region.SEOUL;
 
 @Entity
 @Getter
+@DynamicUpdate  // 조회수 변경 등으로 엔티티가 저장될 때 카운터를 옛 값으로 덮어쓰지 않도록 변경된 컬럼만 update
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+    @Index(name = "idx_post_recommend_count", columnList = "recommendCount, createdDate"),
+    @Index(name = "idx_post_comment_count", columnList = "commentCount, createdDate")
+})
 public class Post extends BaseTimeEntity {
 
     @Id
@@ -43,6 +49,13 @@ public class Post extends BaseTimeEntity {
 
     private Long views = 0L;
 
+    // 정렬, 목록용 카운터, 증감은 PostJpaRepository 의 update 쿼리로만 함
+    @Column(nullable = false)
+    private Long recommendCount = 0L;
+
+    @Column(nullable = false)
+    private Long commentCount = 0L;
+
     @ManyToOne(fetch = FetchType.LAZY)
     private User author;
 
@@ -90,8 +103,4 @@ public class Post extends BaseTimeEntity {
     public void deleteRecommend(PostRecommend postRecommend) {
         this.recommends.remove(postRecommend);
     }
-
-    public void upView() {
-        this.views++;
-    }
 }
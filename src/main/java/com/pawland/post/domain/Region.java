@@ -1,9 +1,10 @@
 package com.pawland.post.domain;
 
+import com.pawland.global.domain.EnumLookup;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
-import java.util.Arrays;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @Getter
@@ -28,15 +29,19 @@ public enum Region {
     JEJU("제주"),
     FOREIGN("해외");
 
+    private static final EnumLookup<Region> LOOKUP = EnumLookup.of(values(), Region::getName);
+
     private final String name;
 
+    public static Optional<Region> find(String name) {
+        return LOOKUP.find(name);
+    }
+
     public static Region fromString(String input) {
         if (input == null || input.isBlank()) {
             return Region.SEOUL;
         }
-        return Arrays.stream(Region.values()).
-            filter(region -> region.getName().equals(input))
-            .findFirst()
+        return LOOKUP.find(input)
             .orElseThrow(()-> new IllegalArgumentException("지역 값을 확인해주세요."));  // TODO: 커스텀 예외로 만들어도 될듯
     }
 }
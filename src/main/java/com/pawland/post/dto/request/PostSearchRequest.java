@@ -1,5 +1,6 @@
 package com.pawland.post.dto.request;
 
+import com.pawland.post.domain.Region;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,6 +9,8 @@ import lombok.NoArgsConstructor;
 
 import java.util.List;
 
+import static com.pawland.global.http.EnumNameConverter.withoutBlank;
+
 @Data
 @Builder
 @AllArgsConstructor
@@ -18,6 +21,11 @@ public class PostSearchRequest {
     @NotBlank
     private int size;
     private String content;
-    private List<String> region;
+    private List<Region> region;
     private String orderBy;
+
+    // 빈 값으로 들어온 조건은 조건이 없는 것으로 봄
+    public List<Region> getRegion() {
+        return withoutBlank(region);
+    }
 }
@@ -2,8 +2,6 @@ package com.pawland.post.dto.response;
 
 import com.pawland.comment.dto.response.CommentResponse;
 import com.pawland.post.domain.Post;
-import com.pawland.post.domain.PostRecommend;
-import com.pawland.user.domain.User;
 import com.pawland.user.dto.response.UserResponse;
 import lombok.Data;
 
@@ -38,7 +36,11 @@ public class PostResponse {
         this.isRecommended = isRecommended;
     }
 
-    public static PostResponse of(Post post, User user) {
+    public static PostResponse of(Post post, boolean isRecommended) {
+        return of(post, isRecommended, post.getComments().stream().map(CommentResponse::of).toList());
+    }
+
+    public static PostResponse of(Post post, boolean isRecommended, List<CommentResponse> comments) {
 
         return new PostResponse(
                 post.getId(),
@@ -48,10 +50,10 @@ public class PostResponse {
                 post.getRegion().getName(),
                 post.getViews(),
                 UserResponse.of(post.getAuthor()),
-                post.getComments().stream().map(CommentResponse::of).toList(),
+                comments,
                 post.getCreatedDate(),
-                post.getRecommends().size(),
-                post.getRecommends().stream().map(PostRecommend::getUser).toList().contains(user)
+                post.getRecommendCount().intValue(),
+                isRecommended
         );
     }
 
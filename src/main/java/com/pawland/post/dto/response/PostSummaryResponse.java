@@ -0,0 +1,49 @@
+package com.pawland.post.dto.response;
+
+import com.pawland.post.domain.Region;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Schema(name = "게시글 목록 응답")
+public class PostSummaryResponse {
+    private Long id;
+    private String title;
+    private String thumbnail;
+    private String region;
+    private Long views;
+    private Author author;
+    private long recommendCount;
+    private long commentCount;
+    private LocalDateTime createdAt;
+
+    // QueryDSL Projections.constructor 용
+    public PostSummaryResponse(Long id, String title, String thumbnail, Region region, Long views,
+                               Long authorId, String authorNickname, String authorProfileImage,
+                               Long recommendCount, Long commentCount, LocalDateTime createdAt) {
+        this.id = id;
+        this.title = title;
+        this.thumbnail = thumbnail;
+        this.region = region.getName();
+        this.views = views;
+        this.author = new Author(authorId, authorNickname, authorProfileImage);
+        this.recommendCount = recommendCount == null ? 0 : recommendCount;
+        this.commentCount = commentCount == null ? 0 : commentCount;
+        this.createdAt = createdAt;
+    }
+
+    @Data
+    public static class Author {
+        private Long id;
+        private String nickname;
+        private String profileImage;
+
+        private Author(Long id, String nickname, String profileImage) {
+            this.id = id;
+            this.nickname = nickname;
+            this.profileImage = profileImage;
+        }
+    }
+}
@@ -2,6 +2,45 @@ package com.pawland.post.repository;
 
 import com.pawland.post.domain.Post;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 public interface PostJpaRepository extends JpaRepository<Post, Long> {
+
+    @Transactional
+    @Modifying
+    @Query("update Post p set p.recommendCount = p.recommendCount + :delta where p.id = :postId and p.recommendCount + :delta >= 0")
+    int addRecommendCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    @Transactional
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount + :delta where p.id = :postId and p.commentCount + :delta >= 0")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    // 엔티티를 수정하지 않고 올려서 조회만으로 수정 시각(ETag 버전)이 바뀌지 않게 함
+    @Transactional
+    @Modifying
+    @Query("update Post p set p.views = p.views + 1 where p.id = :postId")
+    int incrementViews(@Param("postId") Long postId);
+
+    @Query("select p.modifiedDate as modifiedDate, p.recommendCount as recommendCount, p.commentCount as commentCount, " +
+        "a.modifiedDate as authorModifiedDate, a.star as authorStar, a.reviewCount as authorReviewCount " +
+        "from Post p left join p.author a where p.id = :postId")
+    Optional<PostVersion> findVersionById(@Param("postId") Long postId);
+
+    @Query("select coalesce(max(p.id), 0) from Post p")
+    Long findMaxId();
+
+    // 실제 추천, 댓글 수로 카운터를 다시 맞춤
+    @Transactional
+    @Modifying
+    @Query("update Post p set " +
+        "p.recommendCount = (select count(r) from PostRecommend r where r.post = p), " +
+        "p.commentCount = (select count(c) from Comment c where c.post = p) " +
+        "where p.id between :fromId and :toId")
+    int reconcileCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
@@ -1,11 +1,12 @@
 package com.pawland.post.repository;
 
-import com.pawland.post.domain.Post;
+import com.pawland.feed.domain.FeedEntry;
 import com.pawland.post.domain.Region;
 import com.pawland.post.dto.request.PostSearchRequest;
-import com.pawland.user.domain.QUser;
+import com.pawland.post.dto.response.PostSummaryResponse;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -21,18 +22,16 @@ import java.util.List;
 import java.util.Objects;
 
 import static com.pawland.post.domain.QPost.post;
+import static com.pawland.user.domain.QUser.user;
 
 @Repository
 @RequiredArgsConstructor
 public class PostRepository {
     private final JPAQueryFactory jpaQueryFactory;
 
-    public Page<Post> getPostsBySearch(PostSearchRequest postSearchRequest, Pageable pageable) {
+    public Page<PostSummaryResponse> getPostsBySearch(PostSearchRequest postSearchRequest, Pageable pageable) {
 
-        List<Post> posts = jpaQueryFactory
-                .selectFrom(post)
-                .leftJoin(post.author, QUser.user)
-                .fetchJoin()
+        List<PostSummaryResponse> posts = selectSummaries()
                 .where(searchContentOrTitle(postSearchRequest.getContent()),
                         eqRegion(postSearchRequest.getRegion()))
                 .orderBy(createOrderSpecifier(postSearchRequest))
@@ -49,11 +48,8 @@ public class PostRepository {
         return PageableExecutionUtils.getPage(posts, pageable, countQuery::fetchOne);
     }
 
-    public Page<Post> getMyPosts(Long userId, Pageable pageable, PostSearchRequest postSearchRequest) {
-        List<Post> myPosts = jpaQueryFactory
-                .selectFrom(post)
-                .leftJoin(post.author, QUser.user)
-                .fetchJoin()
+    public Page<PostSummaryResponse> getMyPosts(Long userId, Pageable pageable, PostSearchRequest postSearchRequest) {
+        List<PostSummaryResponse> myPosts = selectSummaries()
                 .where(post.author.id.eq(userId))
                 .orderBy(createOrderSpecifier(postSearchRequest))
                 .offset(pageable.getOffset())
@@ -68,16 +64,68 @@ public class PostRepository {
         return PageableExecutionUtils.getPage(myPosts, pageable, countQuery::fetchOne);
     }
 
+    public List<PostSummaryResponse> getSummariesByIds(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        return selectSummaries()
+                .where(post.id.in(postIds))
+                .fetch();
+    }
+
+    // 피드를 다시 만들 때 쓰는 최신순 id
+    public List<FeedEntry> getFeedEntries(Region region, int limit) {
+        return jpaQueryFactory
+                .select(Projections.constructor(FeedEntry.class, post.id, post.createdDate))
+                .from(post)
+                .where(eqFeedRegion(region))
+                .orderBy(post.createdDate.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    public long countFeed(Region region) {
+        Long count = jpaQueryFactory
+                .select(post.count())
+                .from(post)
+                .where(eqFeedRegion(region))
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    private BooleanExpression eqFeedRegion(Region region) {
+        return region == null ? null : post.region.eq(region);
+    }
+
+    // 목록에 필요한 컬럼만 조회, 본문과 댓글은 가져오지 않음
+    private JPAQuery<PostSummaryResponse> selectSummaries() {
+        return jpaQueryFactory
+                .select(Projections.constructor(PostSummaryResponse.class,
+                        post.id,
+                        post.title,
+                        post.thumbnail,
+                        post.region,
+                        post.views,
+                        user.id,
+                        user.nickname,
+                        user.profileImage,
+                        post.recommendCount,
+                        post.commentCount,
+                        post.createdDate))
+                .from(post)
+                .leftJoin(post.author, user);
+    }
+
     private BooleanExpression searchContentOrTitle(String content) {
         return StringUtils.hasText(content) ? post.content.like("%" + content + "%").or(post.title.like("%" + content + "%")) : null;
     }
 
-    private BooleanExpression eqRegion(List<String> region) {
+    private BooleanExpression eqRegion(List<Region> region) {
         if (region == null || region.isEmpty()) {
             return null;
         }
 
-        return post.region.in(region.stream().map(Region::fromString).toList());
+        return post.region.in(region);
     }
 
     private OrderSpecifier[] createOrderSpecifier(PostSearchRequest postSearchRequest) {
@@ -89,10 +137,10 @@ public class PostRepository {
                     orderSpecifiers.add(new OrderSpecifier(Order.DESC, post.views));
                     break;
                 case "추천순":
-                    orderSpecifiers.add(new OrderSpecifier(Order.DESC, post.recommends.size()));
+                    orderSpecifiers.add(new OrderSpecifier(Order.DESC, post.recommendCount));
                     break;
                 case "댓글순":
-                    orderSpecifiers.add(new OrderSpecifier(Order.DESC, post.comments.size()));
+                    orderSpecifiers.add(new OrderSpecifier(Order.DESC, post.commentCount));
                     break;
                 default:
                     break;
@@ -0,0 +1,13 @@
+package com.pawland.post.repository;
+
+import java.time.LocalDateTime;
+
+// 게시글 상세 응답이 바뀌었는지 판단하는 값들, 조회수는 제외 (댓글 트리는 CommentTreeVersion 으로 따로 판단)
+public interface PostVersion {
+    LocalDateTime getModifiedDate();
+    Long getRecommendCount();
+    Long getCommentCount();
+    LocalDateTime getAuthorModifiedDate();
+    Double getAuthorStar();
+    Integer getAuthorReviewCount();
+}
@@ -1,27 +1,47 @@
 package com.pawland.post.service;
 
+import com.pawland.comment.respository.CommentTreeVersion;
+import com.pawland.comment.service.CommentService;
+import com.pawland.feed.service.FeedService;
+import com.pawland.global.config.security.RequestUserContext;
+import com.pawland.image.service.ImageDerivativeService;
 import com.pawland.post.domain.Post;
-import com.pawland.post.domain.PostRecommend;
+import com.pawland.post.domain.Region;
 import com.pawland.post.dto.request.PostCreateRequest;
 import com.pawland.post.dto.request.PostSearchRequest;
 import com.pawland.post.dto.request.UpdatePostRequest;
 import com.pawland.post.dto.response.PostResponse;
+import com.pawland.post.dto.response.PostSummaryResponse;
 import com.pawland.post.exception.PostException;
 import com.pawland.post.repository.PostJpaRepository;
-import com.pawland.post.repository.PostRecommendJpaRepository;
-import com.pawland.post.repository.PostRecommendRepository;
+import com.pawland.post.repository.PostVersion;
 import com.pawland.post.repository.PostRepository;
+import com.pawland.reaction.domain.ReactionResult;
+import com.pawland.reaction.service.ReactionService;
+import com.pawland.trending.service.TrendingService;
 import com.pawland.user.domain.User;
 import com.pawland.user.exception.UserException;
-import com.pawland.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+
+import static com.pawland.global.http.ConditionalResponses.weakETag;
+import static com.pawland.image.domain.ImageSize.LIST;
+import static com.pawland.reaction.domain.ReactionType.POST_RECOMMEND;
+import static com.pawland.trending.domain.TrendingEvent.RECOMMEND;
+import static com.pawland.trending.domain.TrendingEvent.VIEW;
 
 @Service
 @Transactional(readOnly = true)
@@ -29,69 +49,92 @@ import java.util.Objects;
 public class PostService {
 
     private final PostJpaRepository postJpaRepository;
-    private final UserRepository userRepository;
     private final PostRepository postRepository;
-    private final PostRecommendJpaRepository postRecommendJpaRepository;
-    private final PostRecommendRepository postRecommendRepository;
+    private final ReactionService reactionService;
+    private final ImageDerivativeService imageDerivativeService;
+    private final CommentService commentService;
+    private final TrendingService trendingService;
+    private final RequestUserContext requestUserContext;
+    private final FeedService feedService;
 
     @Transactional
     public PostResponse uploadPost(Long userId, PostCreateRequest request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(UserException.NotFoundUser::new);
+        User user = requestUserContext.getUser(userId);
 
         Post post = postJpaRepository.save(request.toPostWith(user));
+        feedService.addPost(post.getId(), post.getRegion(), post.getCreatedDate());
+        imageDerivativeService.requestDerivatives(List.of(post.getThumbnail()));
 
-        return PostResponse.of(post, user);
+        return PostResponse.of(post, false);
     }
 
-    @Transactional
-    public Page<PostResponse> getPosts(Long userId, PostSearchRequest postSearchRequest) {
+    public Page<PostSummaryResponse> getPosts(PostSearchRequest postSearchRequest) {
         Pageable pageable = PageRequest.of(postSearchRequest.getPage() - 1, postSearchRequest.getSize());
-        Page<Post> posts = postRepository.getPostsBySearch(postSearchRequest, pageable);
+        Page<PostSummaryResponse> posts = getFeedPosts(postSearchRequest, pageable)
+                .orElseGet(() -> postRepository.getPostsBySearch(postSearchRequest, pageable));
 
-        return posts.map(p -> PostResponse.of(p, getUserById(userId)));
+        return applyListThumbnails(posts);
     }
 
-    public Page<PostResponse> getMyPosts(Long userId, PostSearchRequest postSearchRequest) {
+    public Page<PostSummaryResponse> getMyPosts(Long userId, PostSearchRequest postSearchRequest) {
         Pageable pageable = PageRequest.of(postSearchRequest.getPage() - 1, postSearchRequest.getSize());
-        Page<Post> myPosts = postRepository.getMyPosts(userId, pageable, postSearchRequest);
+        Page<PostSummaryResponse> myPosts = postRepository.getMyPosts(userId, pageable, postSearchRequest);
 
-        return myPosts.map(post -> PostResponse.of(post, getUserById(userId)));
+        return applyListThumbnails(myPosts);
     }
 
-    @Transactional
-    public boolean recommend(Long userId, Long postId) {
-
-        if (AlreadyRecommendPost(userId, postId)) {
-            throw new IllegalStateException("이미 추천한 게시글 입니다.");
+    // 랭킹 순서대로 요약 정보를 돌려줌, 그 사이 삭제된 글은 빠짐
+    public List<PostSummaryResponse> getTrendingPosts(Region region, int size) {
+        List<Long> postIds = trendingService.getTrendingPostIds(region, size);
+        Map<Long, Integer> rankById = new HashMap<>(postIds.size() * 2);
+        for (int i = 0; i < postIds.size(); i++) {
+            rankById.put(postIds.get(i), i);
         }
 
-        User userById = getUserById(userId);
-        Post postById = getPostById(postId);
-
-        PostRecommend postRecommend = new PostRecommend(postById, userById);
-        postRecommendJpaRepository.save(postRecommend);
+        List<PostSummaryResponse> posts = postRepository.getSummariesByIds(postIds).stream()
+                .sorted(Comparator.comparing(post -> rankById.get(post.getId())))
+                .toList();
+        return applyListThumbnails(posts);
+    }
 
+    // 이미 추천한 상태면 아무것도 바뀌지 않음
+    @Transactional
+    public boolean recommend(Long userId, Long postId) {
+        Post post = validateUserAndPost(userId, postId);
+        if (reactionService.add(POST_RECOMMEND, userId, postId).isChanged()) {
+            trendingService.recordPost(postId, post.getRegion(), RECOMMEND);
+        }
         return true;
     }
 
     @Transactional
     public boolean cancelRecommend(Long userId, Long postId) {
-        PostRecommend postRecommendByUserIdAndPostId = postRecommendRepository.getPostRecommendByUserIdAndPostId(userId, postId);
-
-        postRecommendByUserIdAndPostId.getPost().deleteRecommend(postRecommendByUserIdAndPostId);
-        postRecommendByUserIdAndPostId.getUser().deleteRecommend(postRecommendByUserIdAndPostId);
-
-        postRecommendJpaRepository.delete(postRecommendByUserIdAndPostId);
-
+        ReactionResult result = reactionService.remove(POST_RECOMMEND, userId, postId);
+        if (result.isChanged()) {
+            postJpaRepository.findById(postId)
+                    .ifPresent(post -> trendingService.retractPost(postId, post.getRegion(), RECOMMEND, result.getReactedAt()));
+        }
         return true;
     }
 
     @Transactional
     public PostResponse getOnePostById(Long userId, Long postId) {
+        if (postJpaRepository.incrementViews(postId) == 0) {
+            throw new PostException.NotFoundException();
+        }
         Post post = getPostById(postId);
-        post.upView();
-        return PostResponse.of(post, getUserById(userId));
+        trendingService.recordPost(postId, post.getRegion(), VIEW);
+        return PostResponse.of(post, isRecommended(userId, postId), commentService.getCommentTree(postId));
+    }
+
+    // 상세 본문을 만들기 전에 버전만 조회해 ETag 를 만듦, 추천 여부가 사용자마다 달라 사용자 id 도 포함
+    // 답글 추가, 삭제와 댓글 추천도 응답을 바꾸므로 답글까지 포함한 댓글 수와 댓글 추천 수를 함께 넣음
+    public String getPostETag(Long userId, Long postId) {
+        PostVersion version = postJpaRepository.findVersionById(postId).orElseThrow(PostException.NotFoundException::new);
+        CommentTreeVersion comments = commentService.getCommentTreeVersion(postId);
+        return weakETag(postId, userId, version.getModifiedDate(), version.getRecommendCount(), version.getCommentCount(),
+                comments.getCommentCount(), comments.getLastModifiedDate(), comments.getRecommendCount(),
+                version.getAuthorModifiedDate(), version.getAuthorStar(), version.getAuthorReviewCount());
     }
 
     @Transactional
@@ -102,9 +145,15 @@ public class PostService {
             throw new UserException.AccessDeniedException();
         }
 
+        Region oldRegion = post.getRegion();
         post.updatePost(updatePostRequest);
+        trendingService.relocatePost(postId, oldRegion, post.getRegion());
+        feedService.relocatePost(postId, post.getCreatedDate(), oldRegion, post.getRegion());
+        if (post.getThumbnail() != null) {
+            imageDerivativeService.requestDerivatives(List.of(post.getThumbnail()));
+        }
 
-        return PostResponse.of(post,getUserById(userId));
+        return PostResponse.of(post, isRecommended(userId, postId));
     }
 
     @Transactional
@@ -115,17 +164,54 @@ public class PostService {
         }
 
         postJpaRepository.delete(post);
+        trendingService.removePost(postId, post.getRegion());
+        feedService.removePost(postId, post.getRegion());
 
         return true;
     }
 
-    private boolean AlreadyRecommendPost(Long userId, Long postId) {
-        Post postById = getPostById(postId);
-        return postById.getRecommends().stream().map(PostRecommend::getUser).anyMatch(user -> user.getId().equals(userId));
+    // 최신순에 지역 하나 이하로만 거른 요청은 피드의 id 로 기본키 조회만 함
+    private Optional<Page<PostSummaryResponse>> getFeedPosts(PostSearchRequest request, Pageable pageable) {
+        boolean feedable = (request.getRegion() == null || request.getRegion().size() <= 1)
+                && !StringUtils.hasText(request.getContent())
+                && !StringUtils.hasText(request.getOrderBy());
+        if (!feedable) {
+            return Optional.empty();
+        }
+        Region region = request.getRegion() == null || request.getRegion().isEmpty() ? null : request.getRegion().get(0);
+        return feedService.getPostPage(region, pageable)
+                .map(page -> new PageImpl<>(sortByIds(postRepository.getSummariesByIds(page.getIds()), page.getIds()), pageable, page.getTotalCount()));
+    }
+
+    private List<PostSummaryResponse> sortByIds(List<PostSummaryResponse> posts, List<Long> postIds) {
+        Map<Long, Integer> orderById = new HashMap<>(postIds.size() * 2);
+        for (int i = 0; i < postIds.size(); i++) {
+            orderById.put(postIds.get(i), i);
+        }
+        return posts.stream()
+                .sorted(Comparator.comparing(post -> orderById.get(post.getId())))
+                .toList();
+    }
+
+    // 목록에서는 원본 대신 리스트용으로 줄인 썸네일을 내려줌
+    private Page<PostSummaryResponse> applyListThumbnails(Page<PostSummaryResponse> posts) {
+        applyListThumbnails(posts.getContent());
+        return posts;
+    }
+
+    private List<PostSummaryResponse> applyListThumbnails(List<PostSummaryResponse> posts) {
+        Map<String, String> listImages = imageDerivativeService.resolve(posts.stream().map(PostSummaryResponse::getThumbnail).toList(), LIST);
+        posts.forEach(post -> post.setThumbnail(listImages.getOrDefault(post.getThumbnail(), post.getThumbnail())));
+        return posts;
+    }
+
+    private boolean isRecommended(Long userId, Long postId) {
+        return reactionService.exists(POST_RECOMMEND, userId, postId);
     }
 
-    private User getUserById(Long userId) {
-        return userRepository.findById(userId).orElseThrow(UserException.NotFoundUser::new);
+    private Post validateUserAndPost(Long userId, Long postId) {
+        requestUserContext.getUser(userId);
+        return getPostById(postId);
     }
 
     private Post getPostById(Long postId) {
@@ -2,27 +2,39 @@ package com.pawland.product.controller;
 
 import com.pawland.global.config.security.domain.UserPrincipal;
 import com.pawland.global.config.swagger.SecurityNotRequired;
+import com.pawland.post.domain.Region;
+import com.pawland.product.domain.Category;
+import com.pawland.product.domain.Species;
 import com.pawland.product.dto.request.CreateProductRequest;
 import com.pawland.product.dto.request.SearchMyProductRequest;
 import com.pawland.product.dto.request.SearchProductRequest;
 import com.pawland.product.dto.request.UpdateProductRequest;
+import com.pawland.product.dto.response.ProductImportResponse;
 import com.pawland.product.dto.response.ProductResponse;
+import com.pawland.product.service.ProductImportService;
 import com.pawland.product.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.util.List;
 
+import static com.pawland.global.http.ConditionalResponses.ifModified;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/product")
@@ -30,7 +42,11 @@ import java.util.List;
 @SecurityRequirement(name = "jwt-cookie")
 public class ProductController {
 
+    // 사용자마다 찜 여부가 달라 공유 캐시에는 저장하지 않고, 매번 ETag 로 재검증
+    private static final CacheControl DETAIL_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final ProductService productService;
+    private final ProductImportService productImportService;
 
     @PreAuthorize("hasRole('ROLE_USER')")
     @Operation(summary = "상품 등록")
@@ -41,13 +57,24 @@ public class ProductController {
         return ResponseEntity.status(HttpStatus.CREATED).body(productService.createProduct(userPrincipal.getUserId(), createProductRequest));
     }
 
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @Operation(summary = "상품 일괄 등록", description = "JSON 배열 또는 줄 단위 JSON 으로 받은 상품들을 한 번에 등록합니다. 사용자마다 1시간에 5번까지 요청할 수 있습니다.")
+    @ApiResponse(responseCode = "201", description = "상품 일괄 등록 성공")
+    @ApiResponse(responseCode = "400", description = "잘못된 상품이 포함된 경우 전체 등록 실패")
+    @ApiResponse(responseCode = "429", description = "일괄 등록 횟수 초과")
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ProductImportResponse> importProducts(@AuthenticationPrincipal UserPrincipal userPrincipal, HttpServletRequest request) throws IOException {
+        return ResponseEntity.status(HttpStatus.CREATED).body(productImportService.importProducts(userPrincipal.getUserId(), request.getInputStream()));
+    }
+
     @SecurityNotRequired
     @Operation(summary = "상품 단일 조회")
     @ApiResponse(responseCode = "200", description = "상품 조회 성공")
     @ApiResponse(responseCode = "500", description = "상품 조회 실패")
     @GetMapping("/{productId}")
-    public ResponseEntity<ProductResponse> getProductById(@AuthenticationPrincipal UserPrincipal userPrincipal, @PathVariable Long productId) {
-        return ResponseEntity.ok(productService.getOneProductById(userPrincipal.getUserId(), productId));
+    public ResponseEntity<ProductResponse> getProductById(@AuthenticationPrincipal UserPrincipal userPrincipal, @PathVariable Long productId, WebRequest webRequest) {
+        String eTag = productService.getProductETag(userPrincipal.getUserId(), productId);
+        return ifModified(webRequest, eTag, DETAIL_CACHE_CONTROL, () -> productService.getOneProductById(userPrincipal.getUserId(), productId));
     }
 
     @PreAuthorize("hasRole('ROLE_USER')")
@@ -74,9 +101,9 @@ public class ProductController {
     @ApiResponse(responseCode = "500", description = "상품 페이징 조회 실패")
     @GetMapping
     public Page<ProductResponse> getProducts(@AuthenticationPrincipal UserPrincipal userPrincipal,
-                                             @RequestParam(required = false) List<String> region,
-                                             @RequestParam(required = false) List<String> species,
-                                             @RequestParam(required = false) List<String> category,
+                                             @RequestParam(required = false) List<Region> region,
+                                             @RequestParam(required = false) List<Species> species,
+                                             @RequestParam(required = false) List<Category> category,
                                              @RequestParam(required = false) String orderBy,
                                              @RequestParam(required = false) String content,
                                              @RequestParam(required = false,defaultValue = "false") Boolean isFree,
@@ -87,6 +114,17 @@ public class ProductController {
         return productService.getProducts(userPrincipal.getUserId(), SearchProductRequest.builder().region(region).species(species).category(category).isFree(isFree).orderBy(orderBy).content(content).page(page).size(size).build());
     }
 
+    @SecurityNotRequired
+    @Operation(summary = "인기 상품 조회", description = "최근 조회, 찜이 많은 상품을 지역, 동물 종류별로 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "인기 상품 조회 성공")
+    @GetMapping("/trending")
+    public ResponseEntity<List<ProductResponse>> getTrendingProducts(@AuthenticationPrincipal UserPrincipal userPrincipal,
+                                                                     @RequestParam(required = false) Region region,
+                                                                     @RequestParam(required = false) Species species,
+                                                                     @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(productService.getTrendingProducts(userPrincipal.getUserId(), region, species, size));
+    }
+
     @PreAuthorize("hasRole('ROLE_USER')")
     @Operation(summary = "상품 찜하기")
     @PostMapping("/wish/{productId}")
@@ -1,8 +1,9 @@
 package com.pawland.product.domain;
 
+import com.pawland.global.domain.EnumLookup;
 import lombok.Getter;
 
-import java.util.Arrays;
+import java.util.Optional;
 
 @Getter
 public enum Category {
@@ -12,16 +13,19 @@ public enum Category {
     ACCESSORY("악세사리"),
     ETC("그 외 상품");
 
+    private static final EnumLookup<Category> LOOKUP = EnumLookup.of(values(), Category::getName);
+
     private final String name;
 
     Category(String name) {
         this.name = name;
     }
 
+    public static Optional<Category> find(String name) {
+        return LOOKUP.find(name);
+    }
+
     public static Category getInstance(String category) {
-        return Arrays.stream(Category.values()).
-                filter(c -> c.getName().equals(category))
-                .findFirst()
-                .orElseThrow(IllegalArgumentException::new);
+        return LOOKUP.find(category).orElseThrow(() -> new IllegalArgumentException("카테고리를 확인해주세요."));
     }
 }
@@ -1,23 +1,27 @@
 package com.pawland.product.domain;
 
+import com.pawland.global.domain.EnumLookup;
 import lombok.Getter;
 
-import java.util.Arrays;
+import java.util.Optional;
 
 @Getter
 public enum Condition {
     NEW("새상품"),USED("중고");
 
+    private static final EnumLookup<Condition> LOOKUP = EnumLookup.of(values(), Condition::getName);
+
     private final String name;
 
     Condition(String name) {
         this.name = name;
     }
 
+    public static Optional<Condition> find(String name) {
+        return LOOKUP.find(name);
+    }
+
     public static Condition getInstance(String condition) {
-        return Arrays.stream(Condition.values())
-                .filter(c -> c.getName().equals(condition))
-                .findFirst()
-                .orElseThrow(IllegalArgumentException::new);
+        return LOOKUP.find(condition).orElseThrow(() -> new IllegalArgumentException("상품 상태를 확인해주세요."));
     }
 }
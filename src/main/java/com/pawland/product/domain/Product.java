@@ -1,6 +1,7 @@
 package com.pawland.product.domain;
 
 import com.pawland.global.domain.BaseTimeEntity;
+import com.pawland.global.id.IdGenerators;
 import com.pawland.post.domain.Region;
 import com.pawland.product.dto.request.UpdateProductRequest;
 import com.pawland.user.domain.User;
@@ -20,8 +21,19 @@ import java.util.Set;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "product")
 public class Product extends BaseTimeEntity {
+    private static final String PRODUCT_ID_GENERATOR = "product_id";
+
+    // IDENTITY 는 insert 배치가 꺼지므로 테이블 기반 id 를 50개씩 미리 받아 씀
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = PRODUCT_ID_GENERATOR)
+    @TableGenerator(
+        name = PRODUCT_ID_GENERATOR,
+        table = IdGenerators.TABLE,
+        pkColumnName = IdGenerators.NAME_COLUMN,
+        valueColumnName = IdGenerators.VALUE_COLUMN,
+        pkColumnValue = "product",
+        allocationSize = IdGenerators.ALLOCATION_SIZE
+    )
     private Long id;
     @Enumerated(EnumType.STRING)
     private Category category;
@@ -50,8 +62,10 @@ public class Product extends BaseTimeEntity {
 
     private String thumbnailImageUrl;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    private List<String> imageUrls = new ArrayList<>();
+    // 상세 화면에서만 필요하므로 지연 로딩, 여러 상품은 ProductImageRepository 로 한 번에 조회
+    @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("displayOrder asc")
+    private List<ProductImage> images = new ArrayList<>();
 
     @OneToMany(mappedBy = "product")
     private Set<WishProduct> wishProducts = new HashSet<>();
@@ -71,7 +85,17 @@ public class Product extends BaseTimeEntity {
         this.seller = seller;
         this.status = Status.SELLING;
         this.thumbnailImageUrl = thumbnailImageUrl;
-        this.imageUrls = imageUrls;
+        if (imageUrls != null) {
+            for (int i = 0; i < imageUrls.size(); i++) {
+                this.images.add(new ProductImage(this, imageUrls.get(i), i));
+            }
+        }
+    }
+
+    public List<String> getImageUrls() {
+        return images.stream()
+            .map(ProductImage::getUrl)
+            .toList();
     }
 
     public void update(UpdateProductRequest updateProductRequest) {
@@ -112,7 +136,7 @@ public class Product extends BaseTimeEntity {
         this.purchaserId = purchaserId;
     }
 
-    public void upView() {
-        this.view++;
+    public void sell() {
+        this.status = Status.DONE;
     }
 }
@@ -0,0 +1,42 @@
+package com.pawland.product.domain;
+
+import com.pawland.global.id.IdGenerators;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "product_image", indexes = @Index(name = "idx_product_image_product_order", columnList = "product_id, display_order"))
+public class ProductImage {
+    private static final String PRODUCT_IMAGE_ID_GENERATOR = "product_image_id";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = PRODUCT_IMAGE_ID_GENERATOR)
+    @TableGenerator(
+        name = PRODUCT_IMAGE_ID_GENERATOR,
+        table = IdGenerators.TABLE,
+        pkColumnName = IdGenerators.NAME_COLUMN,
+        valueColumnName = IdGenerators.VALUE_COLUMN,
+        pkColumnValue = "product_image",
+        allocationSize = IdGenerators.ALLOCATION_SIZE
+    )
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    private Product product;
+
+    @Column(nullable = false)
+    private String url;
+
+    @Column(name = "display_order", nullable = false)
+    private int displayOrder;
+
+    public ProductImage(Product product, String url, int displayOrder) {
+        this.product = product;
+        this.url = url;
+        this.displayOrder = displayOrder;
+    }
+}
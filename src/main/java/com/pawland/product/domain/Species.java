@@ -1,8 +1,9 @@
 package com.pawland.product.domain;
 
+import com.pawland.global.domain.EnumLookup;
 import lombok.Getter;
 
-import java.util.Arrays;
+import java.util.Optional;
 
 @Getter
 public enum Species {
@@ -10,17 +11,19 @@ public enum Species {
     CAT("고양이"),
     ETC("그외 동물");
 
+    private static final EnumLookup<Species> LOOKUP = EnumLookup.of(values(), Species::getName);
+
     private final String name;
 
     Species(String name) {
         this.name = name;
     }
 
-    public static Species getInstance(String species) {
-        return Arrays.stream(Species.values())
-                .filter(s -> s.getName().equals(species))
-                .findFirst()
-                .orElseThrow(IllegalArgumentException::new);
+    public static Optional<Species> find(String name) {
+        return LOOKUP.find(name);
     }
 
+    public static Species getInstance(String species) {
+        return LOOKUP.find(species).orElseThrow(() -> new IllegalArgumentException("동물 종류를 확인해주세요."));
+    }
 }
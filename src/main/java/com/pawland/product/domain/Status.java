@@ -1,24 +1,28 @@
 package com.pawland.product.domain;
 
+import com.pawland.global.domain.EnumLookup;
 import lombok.Getter;
 
-import java.util.Arrays;
+import java.util.Optional;
 
 @Getter
 public enum Status {
     DONE("판매 완료"),
     SELLING("판매중");
 
+    private static final EnumLookup<Status> LOOKUP = EnumLookup.of(values(), Status::getName);
+
     private final String name;
 
     Status(String name) {
         this.name = name;
     }
 
+    public static Optional<Status> find(String name) {
+        return LOOKUP.find(name);
+    }
+
     public static Status getInstance(String name) {
-        return Arrays.stream(Status.values())
-                .filter(status -> status.getName().equals(name))
-                .findFirst()
-                .orElseThrow(IllegalArgumentException::new);
+        return LOOKUP.find(name).orElseThrow(() -> new IllegalArgumentException("판매 상태를 확인해주세요."));
     }
 }
@@ -1,5 +1,8 @@
 package com.pawland.product.dto.request;
 
+import com.pawland.post.domain.Region;
+import com.pawland.product.domain.Category;
+import com.pawland.product.domain.Species;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -7,18 +10,32 @@ import lombok.NoArgsConstructor;
 
 import java.util.List;
 
+import static com.pawland.global.http.EnumNameConverter.withoutBlank;
+
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
 public class SearchProductRequest {
-    private List<String> region;
-    private List<String> species;
-    private List<String> category;
+    private List<Region> region;
+    private List<Species> species;
+    private List<Category> category;
     private String orderBy;
     private String content;
     private boolean isFree;
     private int page;
     private int size;
 
+    // 빈 값으로 들어온 조건은 조건이 없는 것으로 봄
+    public List<Region> getRegion() {
+        return withoutBlank(region);
+    }
+
+    public List<Species> getSpecies() {
+        return withoutBlank(species);
+    }
+
+    public List<Category> getCategory() {
+        return withoutBlank(category);
+    }
 }
@@ -0,0 +1,12 @@
+package com.pawland.product.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(name = "상품 일괄 등록 응답")
+public class ProductImportResponse {
+    private int importedCount;
+}
@@ -1,5 +1,6 @@
 package com.pawland.product.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.pawland.product.domain.Product;
 import com.pawland.product.domain.WishProduct;
 import com.pawland.user.domain.User;
@@ -25,11 +26,17 @@ public class ProductResponse {
     private int view;
     private String status;
     private String thumbnailImage;
+    // 목록에서는 썸네일만 내려주므로 비어 있으면 응답에서 뺌
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<String> imageUrls;
     private boolean isWished;
     private LocalDateTime createAt;
 
     public ProductResponse(Product product, User user) {
+        this(product, isWishedBy(product, user));
+    }
+
+    private ProductResponse(Product product, boolean isWished) {
         this.id = product.getId();
         this.seller = UserResponse.of(product.getSeller());
         this.category = product.getCategory().getName();
@@ -42,12 +49,34 @@ public class ProductResponse {
         this.view = product.getView();
         this.status = product.getStatus().getName();
         this.thumbnailImage = product.getThumbnailImageUrl();
-        this.imageUrls = product.getImageUrls();
-        this.isWished = product.getWishProducts().stream().map(WishProduct::getUser).toList().contains(user);
+        this.isWished = isWished;
         this.createAt = product.getCreatedDate();
     }
 
     public static ProductResponse of(Product product,User user) {
         return new ProductResponse(product,user);
     }
+
+    public static ProductResponse of(Product product, User user, List<String> imageUrls) {
+        ProductResponse response = new ProductResponse(product, user);
+        response.imageUrls = imageUrls;
+        return response;
+    }
+
+    // 목록처럼 찜 여부를 한 번에 조회해 둔 경우 사용, 상품마다 찜 목록을 읽지 않음
+    public static ProductResponse of(Product product, boolean isWished) {
+        return new ProductResponse(product, isWished);
+    }
+
+    // 주문 응답처럼 찜 여부가 필요 없는 곳에서 사용, 상품마다 찜 목록을 읽는 쿼리가 나가지 않음
+    public static ProductResponse withoutWish(Product product) {
+        return new ProductResponse(product, false);
+    }
+
+    // 비회원은 찜 목록을 읽지 않음, 요청 사용자는 다른 영속성 컨텍스트에서 읽혀 올 수 있어서 id 로 비교
+    private static boolean isWishedBy(Product product, User user) {
+        return user != null && user.getId() != null && product.getWishProducts().stream()
+            .map(WishProduct::getUser)
+            .anyMatch(wisher -> user.getId().equals(wisher.getId()));
+    }
 }
@@ -21,6 +21,17 @@ public class ProductException extends PawLandException {
         }
     }
 
+    public static class ImportLimitExceeded extends ProductException {
+        public ImportLimitExceeded() {
+            super(ProductExceptionMessage.IMPORT_LIMIT_EXCEEDED.getMessage());
+        }
+
+        @Override
+        public int getStatusCode() {
+            return HttpStatus.TOO_MANY_REQUESTS.value();
+        }
+    }
+
     @Override
     public int getStatusCode() {
         return HttpStatus.BAD_REQUEST.value();
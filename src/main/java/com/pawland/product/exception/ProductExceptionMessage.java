@@ -5,7 +5,8 @@ import lombok.Getter;
 @Getter
 public enum ProductExceptionMessage {
     PRODUCT_NOT_FOUND("상품을 찾을수 없습니다."),
-    ACCESS_DENIED_EXCEPTION("변경 권한이 없습니다.");
+    ACCESS_DENIED_EXCEPTION("변경 권한이 없습니다."),
+    IMPORT_LIMIT_EXCEEDED("상품 일괄 등록 횟수를 초과했습니다. 잠시 후 다시 시도해주세요.");
 
     private final String message;
 
@@ -0,0 +1,39 @@
+package com.pawland.product.respository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.pawland.product.domain.QProductImage.productImage;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductImageRepository {
+    private final JPAQueryFactory jpaQueryFactory;
+
+    // 여러 상품의 이미지를 IN 쿼리 한 번으로 가져와 상품별로 노출 순서대로 묶음
+    public Map<Long, List<String>> getImageUrlsByProductIds(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Tuple> rows = jpaQueryFactory.select(productImage.product.id, productImage.url)
+                .from(productImage)
+                .where(productImage.product.id.in(productIds))
+                .orderBy(productImage.product.id.asc(), productImage.displayOrder.asc())
+                .fetch();
+
+        Map<Long, List<String>> imageUrls = new HashMap<>();
+        for (Tuple row : rows) {
+            imageUrls.computeIfAbsent(row.get(productImage.product.id), productId -> new ArrayList<>())
+                    .add(row.get(productImage.url));
+        }
+        return imageUrls;
+    }
+}
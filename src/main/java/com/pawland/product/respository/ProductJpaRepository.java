@@ -2,6 +2,24 @@ package com.pawland.product.respository;
 
 import com.pawland.product.domain.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 public interface ProductJpaRepository extends JpaRepository<Product,Long> {
+
+    // 엔티티를 수정하지 않고 올려서 조회만으로 수정 시각(ETag 버전)이 바뀌지 않게 함
+    @Transactional
+    @Modifying
+    @Query("update Product p set p.view = p.view + 1 where p.id = :productId")
+    int incrementView(@Param("productId") Long productId);
+
+    @Query("select p.modifiedDate as modifiedDate, p.status as status, " +
+        "(select count(w) from WishProduct w where w.product = p) as wishCount, " +
+        "s.modifiedDate as sellerModifiedDate, s.star as sellerStar, s.reviewCount as sellerReviewCount " +
+        "from Product p left join p.seller s where p.id = :productId")
+    Optional<ProductVersion> findVersionById(@Param("productId") Long productId);
 }
@@ -1,5 +1,6 @@
 package com.pawland.product.respository;
 
+import com.pawland.feed.domain.FeedEntry;
 import com.pawland.post.domain.Region;
 import com.pawland.product.domain.Category;
 import com.pawland.product.domain.Product;
@@ -9,6 +10,7 @@ import com.pawland.product.dto.request.SearchProductRequest;
 import com.pawland.user.domain.QUser;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -21,7 +23,10 @@ import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.pawland.product.domain.QProduct.product;
 
@@ -80,25 +85,67 @@ public class ProductRepository {
         return PageableExecutionUtils.getPage(products, pageable, countQuery::fetchOne);
     }
 
-    private BooleanExpression eqRegion(List<String> region) {
+    // 피드에서 받은 id 순서 그대로 돌려줌, 그 사이 삭제되거나 판매중이 아니게 된 상품은 빠짐
+    public List<Product> getProductsByIds(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Product> productById = jpaQueryFactory.selectFrom(product)
+                .leftJoin(product.seller, QUser.user)
+                .fetchJoin()
+                .where(product.id.in(productIds), product.status.eq(Status.SELLING))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        return productIds.stream()
+                .map(productById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // 피드를 다시 만들 때 쓰는 판매중 상품의 최신순 id
+    public List<FeedEntry> getFeedEntries(Region region, int limit) {
+        return jpaQueryFactory
+                .select(Projections.constructor(FeedEntry.class, product.id, product.createdDate))
+                .from(product)
+                .where(product.status.eq(Status.SELLING), eqFeedRegion(region))
+                .orderBy(product.createdDate.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    public long countFeed(Region region) {
+        Long count = jpaQueryFactory
+                .select(product.count())
+                .from(product)
+                .where(product.status.eq(Status.SELLING), eqFeedRegion(region))
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    private BooleanExpression eqFeedRegion(Region region) {
+        return region == null ? null : product.region.eq(region);
+    }
+
+    private BooleanExpression eqRegion(List<Region> region) {
         if (region == null || region.isEmpty()) {
             return null;
         }
-        return product.region.in(region.stream().map(Region::fromString).toList());
+        return product.region.in(region);
     }
 
-    private BooleanExpression eqSpecies(List<String> species) {
+    private BooleanExpression eqSpecies(List<Species> species) {
         if(species == null || species.isEmpty()) {
             return null;
         }
-        return product.species.in(species.stream().map(Species::getInstance).toList());
+        return product.species.in(species);
     }
 
-    private BooleanExpression eqCategory(List<String> category) {
+    private BooleanExpression eqCategory(List<Category> category) {
         if (category == null || category.isEmpty()) {
             return null;
         }
-        return product.category.in(category.stream().map(Category::getInstance).toList());
+        return product.category.in(category);
     }
 
     private BooleanExpression eqPrice(Boolean price) {
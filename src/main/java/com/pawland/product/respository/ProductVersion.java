@@ -0,0 +1,15 @@
+package com.pawland.product.respository;
+
+import com.pawland.product.domain.Status;
+
+import java.time.LocalDateTime;
+
+// 상품 상세 응답이 바뀌었는지 판단하는 값들, 조회수는 제외
+public interface ProductVersion {
+    LocalDateTime getModifiedDate();
+    Status getStatus();
+    Long getWishCount();
+    LocalDateTime getSellerModifiedDate();
+    Double getSellerStar();
+    Integer getSellerReviewCount();
+}
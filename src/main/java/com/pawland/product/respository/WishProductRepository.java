@@ -11,7 +11,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static com.pawland.product.domain.QWishProduct.wishProduct;
 
@@ -21,18 +24,6 @@ import static com.pawland.product.domain.QWishProduct.wishProduct;
 public class WishProductRepository {
     private final JPAQueryFactory jpaQueryFactory;
 
-    public WishProduct findWishProductByUserIdAndProductId(Long userId, Long productId) {
-
-        return jpaQueryFactory.selectFrom(wishProduct)
-                .leftJoin(wishProduct.product, QProduct.product)
-                .fetchJoin()
-                .leftJoin(wishProduct.user, QUser.user)
-                .fetchJoin()
-                .where(wishProduct.product.id.eq(productId))
-                .where(wishProduct.user.id.eq(userId))
-                .fetchOne();
-    }
-
     public Page<WishProduct> getWishProductByUserId(Long userId, Pageable pageable) {
         List<WishProduct> wishProducts = jpaQueryFactory.selectFrom(wishProduct)
                 .leftJoin(wishProduct.product, QProduct.product)
@@ -54,4 +45,13 @@ public class WishProductRepository {
 
     }
 
+
+    // 목록에 있는 상품 중 사용자가 찜한 상품 id 를 한 번에 조회
+    public Set<Long> getWishedProductIds(Long userId, Collection<Long> productIds) {
+        return new HashSet<>(jpaQueryFactory.select(wishProduct.product.id)
+                .from(wishProduct)
+                .where(wishProduct.user.id.eq(userId),
+                        wishProduct.product.id.in(productIds))
+                .fetch());
+    }
 }
@@ -0,0 +1,156 @@
+package com.pawland.product.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.pawland.feed.service.FeedService;
+import com.pawland.global.redis.RateLimiter;
+import com.pawland.image.service.ImageDerivativeService;
+import com.pawland.post.domain.Region;
+import com.pawland.product.domain.Product;
+import com.pawland.product.dto.request.CreateProductRequest;
+import com.pawland.product.dto.response.ProductImportResponse;
+import com.pawland.product.exception.ProductException;
+import com.pawland.user.domain.User;
+import com.pawland.user.exception.UserException;
+import com.pawland.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.pawland.global.id.IdGenerators.ALLOCATION_SIZE;
+
+// 요청 본문을 한 건씩 읽으며 저장하고, 배치 크기마다 flush/clear 해서 영속성 컨텍스트가 커지지 않게 함
+@Slf4j
+@Service
+public class ProductImportService {
+
+    static final int MAX_IMPORT_SIZE = 5_000;
+    static final String RATE_LIMIT_NAME = "product-import:";
+    private static final int MAX_IMPORTS_PER_WINDOW = 5;
+    private static final Duration RATE_LIMIT_WINDOW = Duration.ofHours(1);
+
+    private final EntityManager entityManager;
+    private final UserRepository userRepository;
+    private final ImageDerivativeService imageDerivativeService;
+    private final FeedService feedService;
+    private final RateLimiter rateLimiter;
+    private final Validator validator;
+    private final ObjectReader requestReader;
+
+    public ProductImportService(EntityManager entityManager, UserRepository userRepository,
+                                ImageDerivativeService imageDerivativeService, FeedService feedService,
+                                RateLimiter rateLimiter, Validator validator, ObjectMapper objectMapper) {
+        this.entityManager = entityManager;
+        this.userRepository = userRepository;
+        this.imageDerivativeService = imageDerivativeService;
+        this.feedService = feedService;
+        this.rateLimiter = rateLimiter;
+        this.validator = validator;
+        this.requestReader = objectMapper.readerFor(CreateProductRequest.class);
+    }
+
+    // JSON 배열이나 줄 단위 JSON 모두 받음, 하나라도 잘못되면 전체를 되돌림
+    // 한 번에 수천 건을 쓰는 요청이라 사용자마다 구간당 횟수를 제한함, 커밋되지 못한 요청은 횟수를 돌려줌
+    @Transactional
+    public ProductImportResponse importProducts(Long userId, InputStream body) {
+        if (!userRepository.existsById(userId)) {
+            throw new UserException.NotFoundUser();
+        }
+        acquireImportSlot(userId);
+        User seller = entityManager.getReference(User.class, userId);
+        List<String> imageUrls = new ArrayList<>();
+        Set<Region> regions = EnumSet.noneOf(Region.class);
+        int count = 0;
+
+        try (MappingIterator<CreateProductRequest> requests = requestReader.readValues(body)) {
+            while (requests.hasNextValue()) {
+                CreateProductRequest request = requests.nextValue();
+                if (++count > MAX_IMPORT_SIZE) {
+                    throw new IllegalArgumentException("한 번에 등록할 수 있는 상품은 " + MAX_IMPORT_SIZE + "개까지입니다.");
+                }
+                validate(count, request);
+                Product product = toProduct(request, seller);
+                entityManager.persist(product);
+                regions.add(product.getRegion());
+                collectImageUrls(request, imageUrls);
+
+                if (count % ALLOCATION_SIZE == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    seller = entityManager.getReference(User.class, userId);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException((count + 1) + "번째 상품을 읽을 수 없습니다.", e);
+        }
+
+        entityManager.flush();
+        // 변환 요청은 커밋된 뒤 Redis 대기열에 들어가고, 워커가 여유 있을 때 나눠서 처리함
+        imageDerivativeService.requestDerivatives(imageUrls);
+        feedService.evictProducts(regions);
+        log.info("[상품 일괄 등록] userId = {}, count = {}", userId, count);
+        return new ProductImportResponse(count);
+    }
+
+    // 본문을 읽으면서 검증하므로 먼저 횟수를 받고, 검증 실패나 롤백으로 끝나면 트랜잭션 완료 시점에 돌려줌
+    private void acquireImportSlot(Long userId) {
+        String name = RATE_LIMIT_NAME + userId;
+        if (!rateLimiter.tryAcquire(name, MAX_IMPORTS_PER_WINDOW, RATE_LIMIT_WINDOW)) {
+            throw new ProductException.ImportLimitExceeded();
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                try {
+                    rateLimiter.release(name);
+                } catch (RuntimeException e) {
+                    log.warn("[상품 일괄 등록 횟수 반환 실패] userId = {}, {}", userId, e.getMessage());
+                }
+            }
+        });
+    }
+
+    private void validate(int index, CreateProductRequest request) {
+        if (!validator.validate(request).isEmpty()) {
+            throw new IllegalArgumentException(index + "번째 상품의 입력 값을 확인해주세요.");
+        }
+    }
+
+    private Product toProduct(CreateProductRequest request, User seller) {
+        return Product.builder()
+            .category(request.getCategory())
+            .species(request.getSpecies())
+            .condition(request.getCondition())
+            .name(request.getName())
+            .price(request.getPrice())
+            .content(request.getContent())
+            .region(request.getRegion())
+            .seller(seller)
+            .thumbnailImageUrl(request.getThumbnailImage())
+            .imageUrls(request.getImages())
+            .build();
+    }
+
+    private void collectImageUrls(CreateProductRequest request, List<String> imageUrls) {
+        imageUrls.add(request.getThumbnailImage());
+        if (request.getImages() != null) {
+            imageUrls.addAll(request.getImages());
+        }
+    }
+}
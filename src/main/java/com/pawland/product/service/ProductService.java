@@ -1,6 +1,13 @@
 package com.pawland.product.service;
 
+import com.pawland.feed.service.FeedService;
+import com.pawland.global.config.security.RequestUserContext;
+import com.pawland.image.service.ImageDerivativeService;
+import com.pawland.outbox.service.OutboxService;
+import com.pawland.post.domain.Region;
 import com.pawland.product.domain.Product;
+import com.pawland.product.domain.Species;
+import com.pawland.product.domain.Status;
 import com.pawland.product.domain.WishProduct;
 import com.pawland.product.dto.request.CreateProductRequest;
 import com.pawland.product.dto.request.SearchMyProductRequest;
@@ -8,30 +15,56 @@ import com.pawland.product.dto.request.SearchProductRequest;
 import com.pawland.product.dto.request.UpdateProductRequest;
 import com.pawland.product.dto.response.ProductResponse;
 import com.pawland.product.exception.ProductException;
+import com.pawland.product.respository.ProductImageRepository;
 import com.pawland.product.respository.ProductJpaRepository;
 import com.pawland.product.respository.ProductRepository;
-import com.pawland.product.respository.WishProductJpaRepository;
+import com.pawland.product.respository.ProductVersion;
 import com.pawland.product.respository.WishProductRepository;
+import com.pawland.reaction.domain.ReactionResult;
+import com.pawland.reaction.service.ReactionService;
+import com.pawland.trending.service.TrendingService;
 import com.pawland.user.domain.User;
-import com.pawland.user.exception.UserException;
-import com.pawland.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static com.pawland.global.http.ConditionalResponses.weakETag;
+import static com.pawland.image.domain.ImageSize.LIST;
+import static com.pawland.outbox.domain.DomainEventType.PRODUCT_WISHED;
+import static com.pawland.outbox.domain.DomainEventType.PRODUCT_WISH_CANCELED;
+import static com.pawland.reaction.domain.ReactionType.PRODUCT_WISH;
+import static com.pawland.trending.domain.TrendingEvent.VIEW;
+import static com.pawland.trending.domain.TrendingEvent.WISH;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ProductService {
 
-    private final UserRepository userRepository;
     private final ProductJpaRepository productJpaRepository;
     private final ProductRepository productRepository;
-    private final WishProductJpaRepository wishProductJpaRepository;
     private final WishProductRepository wishProductRepository;
+    private final ReactionService reactionService;
+    private final ImageDerivativeService imageDerivativeService;
+    private final ProductImageRepository productImageRepository;
+    private final TrendingService trendingService;
+    private final OutboxService outboxService;
+    private final RequestUserContext requestUserContext;
+    private final FeedService feedService;
 
     @Transactional
     public ProductResponse createProduct(Long userId, CreateProductRequest createProductRequest) {
@@ -52,15 +85,27 @@ public class ProductService {
                 .build();
 
         productJpaRepository.save(product);
+        feedService.addProduct(product.getId(), product.getRegion(), product.getCreatedDate());
+        requestImageDerivatives(product);
 
-        return ProductResponse.of(product, user);
+        return ProductResponse.of(product, user, product.getImageUrls());
     }
 
     @Transactional
     public ProductResponse getOneProductById(Long userId, Long productId) {
+        if (productJpaRepository.incrementView(productId) == 0) {
+            throw new ProductException.NotFoundProduct();
+        }
         Product product = getProductById(productId);
-        product.upView();
-        return ProductResponse.of(product, getUserByIdOrGuest(userId));
+        trendingService.recordProduct(productId, product.getRegion(), product.getSpecies(), VIEW);
+        return toDetailResponse(product, getUserByIdOrGuest(userId));
+    }
+
+    // 상세 본문을 만들기 전에 버전만 조회해 ETag 를 만듦, 찜 여부가 사용자마다 달라 사용자 id 도 포함
+    public String getProductETag(Long userId, Long productId) {
+        ProductVersion version = productJpaRepository.findVersionById(productId).orElseThrow(ProductException.NotFoundProduct::new);
+        return weakETag(productId, userId, version.getModifiedDate(), version.getStatus(), version.getWishCount(),
+                version.getSellerModifiedDate(), version.getSellerStar(), version.getSellerReviewCount());
     }
 
     @Transactional
@@ -68,8 +113,14 @@ public class ProductService {
         Product product = getProductById(productId);
 
         if (canUpdateOrDelete(userId, product)) {
+            Region oldRegion = product.getRegion();
+            Species oldSpecies = product.getSpecies();
             product.update(updateProductRequest);
-            return ProductResponse.of(product, getUserById(userId));
+            trendingService.relocateProduct(productId, oldRegion, oldSpecies, product.getRegion(), product.getSpecies());
+            if (product.getStatus() == Status.SELLING) {
+                feedService.relocateProduct(productId, product.getCreatedDate(), oldRegion, product.getRegion());
+            }
+            return toDetailResponse(product, getUserById(userId));
         } else {
             throw new ProductException.AccessDeniedException();
         }
@@ -81,6 +132,10 @@ public class ProductService {
 
         if (canUpdateOrDelete(userId, product)) {
             productJpaRepository.delete(product);
+            trendingService.removeProduct(productId, product.getRegion(), product.getSpecies());
+            if (product.getStatus() == Status.SELLING) {
+                feedService.removeProduct(productId, product.getRegion());
+            }
             return true;
         } else {
             throw new ProductException.AccessDeniedException();
@@ -90,51 +145,114 @@ public class ProductService {
     @Transactional
     public Page<ProductResponse> getProducts(Long userId, SearchProductRequest searchProductRequest) {
         Pageable pageable = PageRequest.of(searchProductRequest.getPage() - 1, searchProductRequest.getSize());
-        Page<Product> allProducts = productRepository.getAllProducts(searchProductRequest, pageable);
+        Page<Product> allProducts = getFeedProducts(searchProductRequest, pageable)
+                .orElseGet(() -> productRepository.getAllProducts(searchProductRequest, pageable));
 
-        return allProducts.map(product -> ProductResponse.of(product, getUserByIdOrGuest(userId)));
+        return toListResponses(allProducts, () -> getUserByIdOrGuest(userId));
     }
 
-    @Transactional
-    public boolean wishProduct(Long userId, Long productId) {
-
-        if (wishProductRepository.findWishProductByUserIdAndProductId(userId, productId) != null) {
-            throw new IllegalStateException("이미 찜한 상품입니다.");
+    // 랭킹 순서대로 상품을 돌려줌, 그 사이 삭제된 상품은 빠짐
+    public List<ProductResponse> getTrendingProducts(Long userId, Region region, Species species, int size) {
+        List<Long> productIds = trendingService.getTrendingProductIds(region, species, size);
+        Map<Long, Integer> rankById = new HashMap<>(productIds.size() * 2);
+        for (int i = 0; i < productIds.size(); i++) {
+            rankById.put(productIds.get(i), i);
         }
 
-        Product productById = getProductById(productId);
-        User userById = getUserById(userId);
-
-        WishProduct wishProduct = new WishProduct(productById, userById);
-
-        wishProductJpaRepository.save(wishProduct);
-
-        productById.addWishProduct(wishProduct);
-        userById.addWishProduct(wishProduct);
+        List<Product> products = productJpaRepository.findAllById(productIds).stream()
+                .sorted(Comparator.comparing(product -> rankById.get(product.getId())))
+                .toList();
+        Map<String, String> listImages = imageDerivativeService.resolve(products.stream().map(Product::getThumbnailImageUrl).toList(), LIST);
+        Set<Long> wishedIds = getWishedProductIds(getUserByIdOrGuest(userId), products.stream().map(Product::getId).toList());
+        return products.stream()
+                .map(product -> toListResponse(product, wishedIds, listImages))
+                .toList();
+    }
 
+    // 이미 찜한 상태면 아무것도 바뀌지 않음
+    @Transactional
+    public boolean wishProduct(Long userId, Long productId) {
+        getUserById(userId);
+        Product product = getProductById(productId);
+        if (reactionService.add(PRODUCT_WISH, userId, productId).isChanged()) {
+            trendingService.recordProduct(productId, product.getRegion(), product.getSpecies(), WISH);
+            outboxService.append(PRODUCT_WISHED, productId, Map.of("userId", userId));
+        }
         return true;
     }
 
     @Transactional
     public boolean cancelWishProduct(Long userId, Long productId) {
-        WishProduct wishProductByUserIdAndProductId = wishProductRepository.findWishProductByUserIdAndProductId(userId, productId);
-
-        wishProductByUserIdAndProductId.getProduct().deleteWishProduct(wishProductByUserIdAndProductId);
-        wishProductByUserIdAndProductId.getUser().deleteWishProduct(wishProductByUserIdAndProductId);
-
-        wishProductJpaRepository.delete(wishProductByUserIdAndProductId);
-
+        ReactionResult result = reactionService.remove(PRODUCT_WISH, userId, productId);
+        if (result.isChanged()) {
+            outboxService.append(PRODUCT_WISH_CANCELED, productId, Map.of("userId", userId));
+            productJpaRepository.findById(productId)
+                    .ifPresent(product -> trendingService.retractProduct(productId, product.getRegion(), product.getSpecies(), WISH, result.getReactedAt()));
+        }
         return true;
     }
 
     public Page<ProductResponse> getWishedProduct(Long userId, int page, int size) {
         Pageable pageable = PageRequest.of(page-1, size);
-        return wishProductRepository.getWishProductByUserId(userId,pageable).map(WishProduct::getProduct).map(p -> ProductResponse.of(p, getUserById(userId)));
+        return toListResponses(wishProductRepository.getWishProductByUserId(userId,pageable).map(WishProduct::getProduct), () -> getUserById(userId));
     }
 
     public Page<ProductResponse> getMyProduct(Long userId, SearchMyProductRequest searchMyProductRequest) {
         Pageable pageable = PageRequest.of(searchMyProductRequest.getPage() - 1, searchMyProductRequest.getSize());
-        return productRepository.getMyProduct(userId, searchMyProductRequest.getType(), pageable).map(product -> ProductResponse.of(product, getUserByIdOrGuest(userId)));
+        return toListResponses(productRepository.getMyProduct(userId, searchMyProductRequest.getType(), pageable), () -> getUserByIdOrGuest(userId));
+    }
+
+    // 최신순에 지역 하나 이하로만 거른 요청은 피드의 id 로 기본키 조회만 함
+    private Optional<Page<Product>> getFeedProducts(SearchProductRequest request, Pageable pageable) {
+        boolean feedable = (request.getRegion() == null || request.getRegion().size() <= 1)
+                && (request.getSpecies() == null || request.getSpecies().isEmpty())
+                && (request.getCategory() == null || request.getCategory().isEmpty())
+                && !request.isFree()
+                && !StringUtils.hasText(request.getContent())
+                && !StringUtils.hasText(request.getOrderBy());
+        if (!feedable) {
+            return Optional.empty();
+        }
+        Region region = request.getRegion() == null || request.getRegion().isEmpty() ? null : request.getRegion().get(0);
+        return feedService.getProductPage(region, pageable)
+                .map(page -> new PageImpl<>(productRepository.getProductsByIds(page.getIds()), pageable, page.getTotalCount()));
+    }
+
+    private ProductResponse toDetailResponse(Product product, User user) {
+        List<String> imageUrls = productImageRepository.getImageUrlsByProductIds(List.of(product.getId()))
+                .getOrDefault(product.getId(), List.of());
+        return ProductResponse.of(product, user, imageUrls);
+    }
+
+    // 목록에서는 원본 대신 리스트용으로 줄인 썸네일만 내려줌, 사용자와 찜 여부는 목록 전체에서 한 번만 가져옴
+    private Page<ProductResponse> toListResponses(Page<Product> products, Supplier<User> user) {
+        Map<String, String> listImages = imageDerivativeService.resolve(products.map(Product::getThumbnailImageUrl).toList(), LIST);
+        User viewer = products.isEmpty() ? null : user.get();
+        Set<Long> wishedIds = getWishedProductIds(viewer, products.map(Product::getId).toList());
+        return products.map(product -> toListResponse(product, wishedIds, listImages));
+    }
+
+    private ProductResponse toListResponse(Product product, Set<Long> wishedIds, Map<String, String> listImages) {
+        ProductResponse response = ProductResponse.of(product, wishedIds.contains(product.getId()));
+        response.setThumbnailImage(listImages.getOrDefault(product.getThumbnailImageUrl(), product.getThumbnailImageUrl()));
+        return response;
+    }
+
+    // 비회원이거나 목록이 비어 있으면 조회하지 않음
+    private Set<Long> getWishedProductIds(User viewer, List<Long> productIds) {
+        if (viewer == null || viewer.getId() == null || productIds.isEmpty()) {
+            return Set.of();
+        }
+        return wishProductRepository.getWishedProductIds(viewer.getId(), productIds);
+    }
+
+    private void requestImageDerivatives(Product product) {
+        List<String> imageUrls = new ArrayList<>();
+        imageUrls.add(product.getThumbnailImageUrl());
+        if (product.getImageUrls() != null) {
+            imageUrls.addAll(product.getImageUrls());
+        }
+        imageDerivativeService.requestDerivatives(imageUrls);
     }
 
     private Product getProductById(Long productId) {
@@ -142,16 +260,11 @@ public class ProductService {
     }
 
     private User getUserById(Long userId) {
-        return userRepository.findById(userId).orElseThrow(UserException.NotFoundUser::new);
+        return requestUserContext.getUser(userId);
     }
 
     private User getUserByIdOrGuest(Long userId) {
-        return userRepository.findById(userId)
-            .orElse(User.builder()
-                .email("guest")
-                .password("guest")
-                .build()
-            );
+        return requestUserContext.getUserOrGuest(userId);
     }
 
     private boolean canUpdateOrDelete(Long userId, Product product) {
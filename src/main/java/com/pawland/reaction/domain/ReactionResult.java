@@ -0,0 +1,19 @@
+package com.pawland.reaction.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@RequiredArgsConstructor
+public class ReactionResult {
+
+    private final boolean changed;  // 이미 같은 상태였으면 false
+    private final long count;
+    private final LocalDateTime reactedAt;  // 취소일 때 원래 반응한 시각, 랭킹 점수를 되돌릴 때 씀
+
+    public ReactionResult(boolean changed, long count) {
+        this(changed, count, null);
+    }
+}
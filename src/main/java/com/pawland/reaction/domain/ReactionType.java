@@ -0,0 +1,22 @@
+package com.pawland.reaction.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ReactionType {
+
+    POST_RECOMMEND("post_recommend", "post_id", "post", "recommend_count"),
+    COMMENT_RECOMMEND("recommend_comment", "comment_id", null, null),
+    PRODUCT_WISH("wish_product", "product_id", null, null);
+
+    private final String table;
+    private final String targetColumn;
+    private final String counterTable;     // 대상 테이블에 카운터 컬럼이 있으면 함께 증감
+    private final String counterColumn;
+
+    public boolean hasCounter() {
+        return counterTable != null;
+    }
+}
@@ -0,0 +1,89 @@
+package com.pawland.reaction.repository;
+
+import com.pawland.reaction.domain.ReactionType;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// 추천, 찜 테이블은 모두 (대상 id, user_id) unique 제약이 있어서 같은 SQL 모양으로 처리
+@Repository
+public class ReactionRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Map<ReactionType, String> insertSqls = new EnumMap<>(ReactionType.class);
+    private final Map<ReactionType, String> deleteSqls = new EnumMap<>(ReactionType.class);
+    private final Map<ReactionType, String> existsSqls = new EnumMap<>(ReactionType.class);
+    private final Map<ReactionType, String> reactedAtSqls = new EnumMap<>(ReactionType.class);
+    private final Map<ReactionType, String> countSqls = new EnumMap<>(ReactionType.class);
+    private final Map<ReactionType, String> counterSqls = new EnumMap<>(ReactionType.class);
+
+    public ReactionRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        for (ReactionType type : ReactionType.values()) {
+            String table = type.getTable();
+            String target = type.getTargetColumn();
+            String matches = " where " + target + " = :targetId and user_id = :userId";
+            insertSqls.put(type, "insert into " + table + " (" + target + ", user_id, created_date, modified_date)" +
+                " select :targetId, :userId, :now, :now from dual" +
+                " where not exists (select 1 from " + table + matches + ")");
+            deleteSqls.put(type, "delete from " + table + matches);
+            existsSqls.put(type, "select count(*) from " + table + matches);
+            reactedAtSqls.put(type, "select created_date from " + table + matches);
+            if (type.hasCounter()) {
+                countSqls.put(type, "select " + type.getCounterColumn() + " from " + type.getCounterTable() + " where id = :targetId");
+                counterSqls.put(type, "update " + type.getCounterTable() +
+                    " set " + type.getCounterColumn() + " = " + type.getCounterColumn() + " + :delta" +
+                    " where id = :targetId and " + type.getCounterColumn() + " + :delta >= 0");
+            } else {
+                countSqls.put(type, "select count(*) from " + table + " where " + target + " = :targetId");
+            }
+        }
+    }
+
+    // insert ignore, 동시에 들어온 중복 요청은 unique 제약에 걸려서 false
+    public boolean add(ReactionType type, Long userId, Long targetId) {
+        MapSqlParameterSource params = params(userId, targetId).addValue("now", LocalDateTime.now());
+        try {
+            return jdbcTemplate.update(insertSqls.get(type), params) == 1;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    public boolean remove(ReactionType type, Long userId, Long targetId) {
+        return jdbcTemplate.update(deleteSqls.get(type), params(userId, targetId)) == 1;
+    }
+
+    public LocalDateTime findReactedAt(ReactionType type, Long userId, Long targetId) {
+        List<LocalDateTime> reactedAt = jdbcTemplate.queryForList(reactedAtSqls.get(type), params(userId, targetId), LocalDateTime.class);
+        return reactedAt.isEmpty() ? null : reactedAt.get(0);
+    }
+
+    public boolean exists(ReactionType type, Long userId, Long targetId) {
+        Long count = jdbcTemplate.queryForObject(existsSqls.get(type), params(userId, targetId), Long.class);
+        return count != null && count > 0;
+    }
+
+    public long count(ReactionType type, Long targetId) {
+        Long count = jdbcTemplate.queryForObject(countSqls.get(type), new MapSqlParameterSource("targetId", targetId), Long.class);
+        return count == null ? 0 : count;
+    }
+
+    public void addCount(ReactionType type, Long targetId, long delta) {
+        if (!type.hasCounter()) {
+            return;
+        }
+        jdbcTemplate.update(counterSqls.get(type), new MapSqlParameterSource("targetId", targetId).addValue("delta", delta));
+    }
+
+    private MapSqlParameterSource params(Long userId, Long targetId) {
+        return new MapSqlParameterSource("targetId", targetId)
+            .addValue("userId", userId);
+    }
+}
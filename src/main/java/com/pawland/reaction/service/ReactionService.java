@@ -0,0 +1,42 @@
+package com.pawland.reaction.service;
+
+import com.pawland.reaction.domain.ReactionResult;
+import com.pawland.reaction.domain.ReactionType;
+import com.pawland.reaction.repository.ReactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReactionService {
+
+    private final ReactionRepository reactionRepository;
+
+    // 엔티티나 컬렉션을 불러오지 않고 insert 결과로만 중복을 판단
+    @Transactional
+    public ReactionResult add(ReactionType type, Long userId, Long targetId) {
+        boolean added = reactionRepository.add(type, userId, targetId);
+        if (added) {
+            reactionRepository.addCount(type, targetId, 1);
+        }
+        return new ReactionResult(added, reactionRepository.count(type, targetId));
+    }
+
+    @Transactional
+    public ReactionResult remove(ReactionType type, Long userId, Long targetId) {
+        LocalDateTime reactedAt = reactionRepository.findReactedAt(type, userId, targetId);
+        boolean removed = reactedAt != null && reactionRepository.remove(type, userId, targetId);
+        if (removed) {
+            reactionRepository.addCount(type, targetId, -1);
+        }
+        return new ReactionResult(removed, reactionRepository.count(type, targetId), removed ? reactedAt : null);
+    }
+
+    public boolean exists(ReactionType type, Long userId, Long targetId) {
+        return userId != null && reactionRepository.exists(type, userId, targetId);
+    }
+}
@@ -5,17 +5,22 @@ import com.pawland.global.config.swagger.SecurityNotRequired;
 import com.pawland.review.dto.request.CreateReviewRequest;
 import com.pawland.review.dto.response.MyReviewResponse;
 import com.pawland.review.dto.response.OrderReviewResponse;
+import com.pawland.review.dto.response.ReviewCursorResponse;
+import com.pawland.review.dto.response.SellerRatingResponse;
 import com.pawland.review.service.ReviewService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/review")
@@ -45,4 +50,21 @@ public class ReviewController {
     public ResponseEntity<Page<MyReviewResponse>> getReviewByUser(@PathVariable Long userId, @RequestParam(required = true) int page, @RequestParam(required = true) int size) {
         return ResponseEntity.ok(reviewService.getMyReview(userId,page,size));
     }
+
+    @SecurityNotRequired
+    @Operation(summary = "유저가 받은 리뷰 커서 조회", description = "cursorCreatedAt, cursorId 이후의 리뷰를 최신순으로 size 개 조회합니다. 첫 요청은 커서 없이 보냅니다.")
+    @GetMapping("/{userId}/cursor")
+    public ResponseEntity<ReviewCursorResponse> getReviewByUserCursor(@PathVariable Long userId,
+                                                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+                                                                      @RequestParam(required = false) Long cursorId,
+                                                                      @RequestParam(required = false, defaultValue = "20") int size) {
+        return ResponseEntity.ok(reviewService.getMyReviewByCursor(userId, cursorCreatedAt, cursorId, size));
+    }
+
+    @SecurityNotRequired
+    @Operation(summary = "판매자 평점 및 별점 분포 조회")
+    @GetMapping("/rating/{userId}")
+    public ResponseEntity<SellerRatingResponse> getSellerRating(@PathVariable Long userId) {
+        return ResponseEntity.ok(reviewService.getSellerRating(userId));
+    }
 }
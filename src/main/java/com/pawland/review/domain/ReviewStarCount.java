@@ -0,0 +1,28 @@
+package com.pawland.review.domain;
+
+import com.pawland.user.domain.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 판매자가 받은 별점별 리뷰 수, 리뷰 작성 시 SellerRatingRepository 에서 직접 증가시킴
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_review_star_count_seller_star", columnNames = {"seller_id", "star"}))
+public class ReviewStarCount {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private User seller;
+
+    @Column(nullable = false)
+    private Double star;
+
+    @Column(nullable = false)
+    private long reviewCount;
+}
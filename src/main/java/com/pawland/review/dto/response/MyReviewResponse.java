@@ -15,7 +15,7 @@ public class MyReviewResponse {
     private String content;
     private LocalDateTime createAt;
 
-    private MyReviewResponse(String productImage, Long reviewId, Long reviewerId, String sellerId, String sellerProfileImage, Double star, String content, LocalDateTime createAt) {
+    public MyReviewResponse(String productImage, Long reviewId, Long reviewerId, String sellerId, String sellerProfileImage, Double star, String content, LocalDateTime createAt) {
         this.productImage = productImage;
         this.reviewId = reviewId;
         this.reviewerId = reviewerId;
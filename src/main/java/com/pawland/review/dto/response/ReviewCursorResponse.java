@@ -0,0 +1,23 @@
+package com.pawland.review.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Schema(name = "리뷰 커서 페이징 응답")
+public class ReviewCursorResponse {
+    private List<MyReviewResponse> reviews;
+    private LocalDateTime nextCursorCreatedAt;
+    private Long nextCursorId;
+    private boolean hasNext;
+
+    public ReviewCursorResponse(List<MyReviewResponse> reviews, LocalDateTime nextCursorCreatedAt, Long nextCursorId, boolean hasNext) {
+        this.reviews = reviews;
+        this.nextCursorCreatedAt = nextCursorCreatedAt;
+        this.nextCursorId = nextCursorId;
+        this.hasNext = hasNext;
+    }
+}
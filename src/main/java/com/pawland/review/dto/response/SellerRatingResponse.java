@@ -0,0 +1,22 @@
+package com.pawland.review.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class SellerRatingResponse {
+    private Long sellerId;
+    private Double star;
+    private int reviewCount;
+    private List<StarCount> histogram;
+
+    @Data
+    @AllArgsConstructor
+    public static class StarCount {
+        private Double star;
+        private long count;
+    }
+}
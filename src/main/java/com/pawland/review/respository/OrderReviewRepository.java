@@ -0,0 +1,85 @@
+package com.pawland.review.respository;
+
+import com.pawland.review.dto.response.MyReviewResponse;
+import com.pawland.user.domain.QUser;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.pawland.order.domain.QOrder.order;
+import static com.pawland.product.domain.QProduct.product;
+import static com.pawland.review.domain.QOrderReview.orderReview;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderReviewRepository {
+
+    private static final QUser reviewer = new QUser("reviewer");
+    private static final QUser seller = new QUser("seller");
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    public Page<MyReviewResponse> getReceivedReviews(Long sellerId, Pageable pageable) {
+        List<MyReviewResponse> reviews = selectReviews(sellerId)
+            .orderBy(orderReview.createdDate.desc(), orderReview.id.desc())
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize())
+            .fetch();
+
+        // 리뷰 작성, 삭제 시 함께 바뀌는 판매자의 reviewCount 를 전체 개수로 사용, 리뷰가 많은 판매자도 join count 없이 한 행만 읽음
+        JPAQuery<Integer> countQuery = jpaQueryFactory
+            .select(seller.reviewCount)
+            .from(seller)
+            .where(seller.id.eq(sellerId));
+
+        return PageableExecutionUtils.getPage(reviews, pageable, () -> {
+            Integer reviewCount = countQuery.fetchOne();
+            return reviewCount == null ? 0L : reviewCount;
+        });
+    }
+
+    // (작성일, id) 기준으로 커서 다음 리뷰를 조회, offset 없이 바로 다음 위치부터 읽음
+    public List<MyReviewResponse> getReceivedReviewsAfter(Long sellerId, LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        return selectReviews(sellerId)
+            .where(afterCursor(cursorCreatedAt, cursorId))
+            .orderBy(orderReview.createdDate.desc(), orderReview.id.desc())
+            .limit(limit)
+            .fetch();
+    }
+
+    // 응답에 필요한 컬럼만 한 번의 join 으로 조회
+    private JPAQuery<MyReviewResponse> selectReviews(Long sellerId) {
+        return jpaQueryFactory
+            .select(Projections.constructor(MyReviewResponse.class,
+                product.thumbnailImageUrl,
+                orderReview.id,
+                reviewer.id,
+                reviewer.nickname,
+                reviewer.profileImage,
+                orderReview.star,
+                orderReview.content,
+                orderReview.createdDate))
+            .from(orderReview)
+            .join(orderReview.order, order)
+            .leftJoin(order.product, product)
+            .leftJoin(orderReview.user, reviewer)
+            .where(order.seller.id.eq(sellerId));
+    }
+
+    private BooleanExpression afterCursor(LocalDateTime cursorCreatedAt, Long cursorId) {
+        if (cursorCreatedAt == null || cursorId == null) {
+            return null;
+        }
+        return orderReview.createdDate.lt(cursorCreatedAt)
+            .or(orderReview.createdDate.eq(cursorCreatedAt).and(orderReview.id.lt(cursorId)));
+    }
+}
@@ -0,0 +1,93 @@
+package com.pawland.review.respository;
+
+import com.pawland.review.dto.response.SellerRatingResponse;
+import com.pawland.review.dto.response.SellerRatingResponse.StarCount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+// 판매자 평점 합계/개수와 별점 분포를 리뷰 한 건 단위로 증가시키고, 필요하면 리뷰 테이블에서 다시 계산
+@Repository
+@RequiredArgsConstructor
+public class SellerRatingRepository {
+
+    // star 를 가장 먼저 계산해야 MySQL(왼쪽부터 반영)과 표준 SQL(이전 값 기준) 모두 같은 결과가 나옴
+    private static final String ADD_STAR_SQL =
+        "update users set star = (star_sum + :star) / (review_count + 1)," +
+            " star_sum = star_sum + :star, review_count = review_count + 1" +
+            " where id = :sellerId";
+    private static final String INSERT_STAR_COUNT_SQL =
+        "insert into review_star_count (seller_id, star, review_count)" +
+            " select :sellerId, :star, 0 from dual" +
+            " where not exists (select 1 from review_star_count where seller_id = :sellerId and star = :star)";
+    private static final String INCREMENT_STAR_COUNT_SQL =
+        "update review_star_count set review_count = review_count + 1 where seller_id = :sellerId and star = :star";
+    private static final String RATING_SQL =
+        "select id, star, review_count from users where id = :sellerId";
+    private static final String STAR_COUNTS_SQL =
+        "select star, review_count from review_star_count where seller_id = :sellerId order by star desc";
+    private static final String MAX_USER_ID_SQL = "select coalesce(max(id), 0) from users";
+    private static final String RECONCILE_SUM_SQL =
+        "update users set" +
+            " star_sum = coalesce((select sum(r.star) from order_review r join orders o on o.id = r.order_id where o.seller_id = users.id), 0)," +
+            " review_count = (select count(*) from order_review r join orders o on o.id = r.order_id where o.seller_id = users.id)" +
+            " where id between :fromId and :toId";
+    private static final String RECONCILE_STAR_SQL =
+        "update users set star = case when review_count > 0 then star_sum / review_count else 0 end" +
+            " where id between :fromId and :toId";
+    private static final String DELETE_STAR_COUNTS_SQL =
+        "delete from review_star_count where seller_id between :fromId and :toId";
+    private static final String REBUILD_STAR_COUNTS_SQL =
+        "insert into review_star_count (seller_id, star, review_count)" +
+            " select o.seller_id, r.star, count(*) from order_review r join orders o on o.id = r.order_id" +
+            " where o.seller_id between :fromId and :toId and r.star is not null" +
+            " group by o.seller_id, r.star";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void addStar(Long sellerId, Double star) {
+        MapSqlParameterSource params = new MapSqlParameterSource("sellerId", sellerId)
+            .addValue("star", star);
+        jdbcTemplate.update(ADD_STAR_SQL, params);
+        try {
+            jdbcTemplate.update(INSERT_STAR_COUNT_SQL, params);
+        } catch (DuplicateKeyException e) {
+            // 동시에 같은 별점 행이 만들어진 경우, 아래 증가만 하면 됨
+        }
+        jdbcTemplate.update(INCREMENT_STAR_COUNT_SQL, params);
+    }
+
+    // 영속성 컨텍스트에 남아 있는 User 엔티티 대신 방금 증가시킨 컬럼 값을 그대로 읽음
+    public Optional<SellerRatingResponse> findSellerRating(Long sellerId) {
+        MapSqlParameterSource params = new MapSqlParameterSource("sellerId", sellerId);
+        List<StarCount> histogram = jdbcTemplate.query(STAR_COUNTS_SQL, params,
+            (rs, rowNum) -> new StarCount(rs.getDouble("star"), rs.getLong("review_count")));
+        return jdbcTemplate.query(RATING_SQL, params,
+                (rs, rowNum) -> new SellerRatingResponse(rs.getLong("id"), rs.getDouble("star"), rs.getInt("review_count"), histogram))
+            .stream()
+            .findFirst();
+    }
+
+    public long findMaxUserId() {
+        Long maxId = jdbcTemplate.queryForObject(MAX_USER_ID_SQL, new MapSqlParameterSource(), Long.class);
+        return maxId == null ? 0 : maxId;
+    }
+
+    // 합계와 별점 분포가 어긋나지 않도록 구간 하나를 한 트랜잭션에서 다시 계산
+    @Transactional
+    public int reconcile(long fromId, long toId) {
+        MapSqlParameterSource params = new MapSqlParameterSource("fromId", fromId)
+            .addValue("toId", toId);
+        int updated = jdbcTemplate.update(RECONCILE_SUM_SQL, params);
+        jdbcTemplate.update(RECONCILE_STAR_SQL, params);
+        jdbcTemplate.update(DELETE_STAR_COUNTS_SQL, params);
+        jdbcTemplate.update(REBUILD_STAR_COUNTS_SQL, params);
+        return updated;
+    }
+}
@@ -3,11 +3,16 @@ package com.pawland.review.service;
 import com.pawland.order.domain.Order;
 import com.pawland.order.exception.OrderException;
 import com.pawland.order.respository.OrderJpaRepository;
+import com.pawland.outbox.service.OutboxService;
 import com.pawland.review.domain.OrderReview;
 import com.pawland.review.dto.request.CreateReviewRequest;
 import com.pawland.review.dto.response.MyReviewResponse;
 import com.pawland.review.dto.response.OrderReviewResponse;
+import com.pawland.review.dto.response.ReviewCursorResponse;
+import com.pawland.review.dto.response.SellerRatingResponse;
 import com.pawland.review.respository.OrderReviewJpaRepository;
+import com.pawland.review.respository.OrderReviewRepository;
+import com.pawland.review.respository.SellerRatingRepository;
 import com.pawland.user.domain.User;
 import com.pawland.user.exception.UserException;
 import com.pawland.user.repository.UserRepository;
@@ -17,14 +22,23 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+
+import static com.pawland.outbox.domain.DomainEventType.REVIEW_CREATED;
 
 @Service
 @RequiredArgsConstructor
 public class ReviewService {
+    private static final int MAX_CURSOR_SIZE = 100;
+
     private final OrderReviewJpaRepository orderReviewJpaRepository;
+    private final OrderReviewRepository orderReviewRepository;
     private final OrderJpaRepository orderJpaRepository;
     private final UserRepository userRepository;
+    private final SellerRatingRepository sellerRatingRepository;
+    private final OutboxService outboxService;
 
     @Transactional
     public OrderReviewResponse createReview(Long userId, Long orderId, CreateReviewRequest createReviewRequest) {
@@ -34,6 +48,10 @@ public class ReviewService {
         if (!orderById.isBuyerCheck()) {
             throw new IllegalStateException("구매완료가 되지 않은 상품은 리뷰를 작성할수 없습니다.");
         }
+        Double star = createReviewRequest.getStar();
+        if (star == null || star < 0 || star > 5) {
+            throw new IllegalArgumentException("별점을 확인해주세요.");
+        }
 
         User seller = orderById.getSeller();
 
@@ -44,15 +62,23 @@ public class ReviewService {
         userById.addOrderReview(orderReview);
         orderById.addOrderReview(orderReview);
 
-        List<OrderReview> allOrderReviews = orderReviewJpaRepository.findAllByOrderSellerIdOrOrderBuyerIdOrderByCreatedDateDesc(userId,userId);
-        double totalStar = allOrderReviews.stream().mapToDouble(OrderReview::getStar).sum();
-
-        seller.setStar(totalStar / allOrderReviews.size());
-        seller.setReviewCount(allOrderReviews.size());
+        // 지난 리뷰를 다시 읽지 않고 판매자 합계와 별점 분포에 이번 리뷰만 더함
+        sellerRatingRepository.addStar(seller.getId(), star);
+        outboxService.append(REVIEW_CREATED, orderReview.getId(), Map.of(
+            "orderId", orderId,
+            "sellerId", seller.getId(),
+            "reviewerId", userId,
+            "star", star
+        ));
 
         return OrderReviewResponse.of(orderReview);
     }
 
+    @Transactional(readOnly = true)
+    public SellerRatingResponse getSellerRating(Long sellerId) {
+        return sellerRatingRepository.findSellerRating(sellerId).orElseThrow(UserException.NotFoundUser::new);
+    }
+
     private User getUserById(Long buyerId) {
         return userRepository.findById(buyerId).orElseThrow(UserException.NotFoundUser::new);
     }
@@ -61,9 +87,27 @@ public class ReviewService {
         return orderJpaRepository.findById(orderId).orElseThrow(OrderException.NotFoundOrder::new);
     }
 
+    @Transactional(readOnly = true)
     public Page<MyReviewResponse> getMyReview(Long userId, int page, int size) {
-        Page<OrderReview> byOrderSellerId = orderReviewJpaRepository.findByOrderSellerIdOrderByCreatedDateDesc(userId, PageRequest.of(page-1, size));
-        return byOrderSellerId.map(orderReview ->
-                MyReviewResponse.of(orderReview.getOrder().getProduct().getThumbnailImageUrl(), orderReview.getId(),orderReview.getUser().getId(), orderReview.getUser().getNickname(), orderReview.getUser().getProfileImage(), orderReview.getStar(), orderReview.getContent(), orderReview.getCreatedDate()));
+        return orderReviewRepository.getReceivedReviews(userId, PageRequest.of(page-1, size));
+    }
+
+    @Transactional(readOnly = true)
+    public ReviewCursorResponse getMyReviewByCursor(Long userId, LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        if (size < 1 || size > MAX_CURSOR_SIZE) {
+            throw new IllegalArgumentException("조회 개수를 확인해주세요.");
+        }
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        List<MyReviewResponse> reviews = orderReviewRepository.getReceivedReviewsAfter(userId, cursorCreatedAt, cursorId, size + 1);
+        boolean hasNext = reviews.size() > size;
+        if (hasNext) {
+            reviews = reviews.subList(0, size);
+        }
+        if (reviews.isEmpty()) {
+            return new ReviewCursorResponse(List.of(), null, null, false);
+        }
+
+        MyReviewResponse last = reviews.get(reviews.size() - 1);
+        return new ReviewCursorResponse(reviews, last.getCreateAt(), last.getReviewId(), hasNext);
     }
 }
@@ -0,0 +1,47 @@
+package com.pawland.review.service;
+
+import com.pawland.global.redis.DistributedLock;
+import com.pawland.review.respository.SellerRatingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SellerRatingReconcileService {
+
+    private static final long BATCH_SIZE = 1_000L;
+    private static final String LOCK_NAME = "seller-rating-reconcile";
+    private static final Duration LOCK_TTL = Duration.ofHours(1);
+
+    private final SellerRatingRepository sellerRatingRepository;
+    private final DistributedLock distributedLock;
+
+    @Scheduled(cron = "0 0 5 * * *")
+    public void scheduledReconcile() {
+        // 모든 서버에서 스케줄이 돌기 때문에 락을 잡은 한 서버에서만 보정함
+        try {
+            boolean ran = distributedLock.runExclusively(LOCK_NAME, LOCK_TTL,
+                () -> log.info("[판매자 평점 보정 완료] {}명", reconcile()));
+            if (!ran) {
+                log.info("[판매자 평점 보정 건너뜀] 다른 서버에서 실행 중");
+            }
+        } catch (RuntimeException e) {
+            log.error("[판매자 평점 보정 실패]", e);
+        }
+    }
+
+    // id 구간별로 나눠서 갱신해 한 번에 많은 행을 잠그지 않음
+    public int reconcile() {
+        long maxId = sellerRatingRepository.findMaxUserId();
+        int updated = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += BATCH_SIZE) {
+            updated += sellerRatingRepository.reconcile(fromId, fromId + BATCH_SIZE - 1);
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,16 @@
+package com.pawland.trending.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TrendingEvent {
+
+    VIEW(1.0),
+    COMMENT(3.0),
+    RECOMMEND(5.0),
+    WISH(5.0);
+
+    private final double weight;
+}
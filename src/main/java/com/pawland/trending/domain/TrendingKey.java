@@ -0,0 +1,61 @@
+package com.pawland.trending.domain;
+
+import com.pawland.post.domain.Region;
+import com.pawland.product.domain.Species;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 지역/종 조합마다 별도의 sorted set 을 두고, 이벤트가 들어오면 해당하는 키에 모두 점수를 더함
+public final class TrendingKey {
+
+    private static final String POST = "trending:post";
+    private static final String PRODUCT = "trending:product";
+    private static final String ALL = ":all";
+
+    private TrendingKey() {
+    }
+
+    public static String post(Region region) {
+        return region == null ? POST + ALL : POST + ":region:" + region.name();
+    }
+
+    public static String product(Region region, Species species) {
+        if (region == null && species == null) {
+            return PRODUCT + ALL;
+        }
+        StringBuilder key = new StringBuilder(PRODUCT);
+        if (region != null) {
+            key.append(":region:").append(region.name());
+        }
+        if (species != null) {
+            key.append(":species:").append(species.name());
+        }
+        return key.toString();
+    }
+
+    public static List<String> postKeys(Region region) {
+        return List.of(post(null), post(region));
+    }
+
+    public static List<String> productKeys(Region region, Species species) {
+        return List.of(product(null, null), product(region, null), product(null, species), product(region, species));
+    }
+
+    public static List<String> allKeys() {
+        List<String> keys = new ArrayList<>();
+        keys.add(post(null));
+        keys.add(product(null, null));
+        for (Region region : Region.values()) {
+            keys.add(post(region));
+            keys.add(product(region, null));
+            for (Species species : Species.values()) {
+                keys.add(product(region, species));
+            }
+        }
+        for (Species species : Species.values()) {
+            keys.add(product(null, species));
+        }
+        return keys;
+    }
+}
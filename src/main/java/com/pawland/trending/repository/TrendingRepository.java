@@ -0,0 +1,151 @@
+package com.pawland.trending.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class TrendingRepository {
+
+    private static final String BASE_KEY = "trending:base";
+
+    // 기준 시각 이후 지난 시간만큼 가중치를 키워서 더함, 예전 점수는 상대적으로 줄어드는 효과
+    private static final RedisScript<Long> INCREMENT = new DefaultRedisScript<>(
+        "local now = tonumber(ARGV[1]) " +
+        "local base = tonumber(redis.call('GET', KEYS[1])) " +
+        "if not base then " +
+            "base = now " +
+            "redis.call('SET', KEYS[1], now) " +
+        "end " +
+        "local score = tonumber(ARGV[2]) * math.pow(2, (now - base) / tonumber(ARGV[3])) " +
+        "for i = 2, #KEYS do " +
+            "redis.call('ZINCRBY', KEYS[i], score, ARGV[4]) " +
+        "end " +
+        "return 1",
+        Long.class
+    );
+
+    // 기록했던 시각 기준으로 키운 가중치를 그대로 빼서 기록 이후 지난 시간과 관계없이 정확히 되돌림
+    // 이미 정리된 항목은 새로 만들지 않고, 0 이하로 내려가면 랭킹에서 뺌
+    private static final RedisScript<Long> DECREMENT = new DefaultRedisScript<>(
+        "local base = tonumber(redis.call('GET', KEYS[1])) " +
+        "if not base then " +
+            "return 0 " +
+        "end " +
+        "local score = tonumber(ARGV[2]) * math.pow(2, (tonumber(ARGV[1]) - base) / tonumber(ARGV[3])) " +
+        "for i = 2, #KEYS do " +
+            "if redis.call('ZSCORE', KEYS[i], ARGV[4]) then " +
+                "local left = tonumber(redis.call('ZINCRBY', KEYS[i], -score, ARGV[4])) " +
+                "if left <= 0 then " +
+                    "redis.call('ZREM', KEYS[i], ARGV[4]) " +
+                "end " +
+            "end " +
+        "end " +
+        "return 1",
+        Long.class
+    );
+
+    // 기준 시각을 현재로 옮기면서 모든 점수를 같은 비율로 줄이고, 작아진 점수와 순위 밖 항목은 정리
+    private static final RedisScript<Long> REBASE = new DefaultRedisScript<>(
+        "local now = tonumber(ARGV[1]) " +
+        "local base = tonumber(redis.call('GET', KEYS[1])) " +
+        "if base then " +
+            "local factor = math.pow(2, -(now - base) / tonumber(ARGV[2])) " +
+            "for i = 2, #KEYS do " +
+                "if redis.call('EXISTS', KEYS[i]) == 1 then " +
+                    "redis.call('ZUNIONSTORE', KEYS[i], 1, KEYS[i], 'WEIGHTS', factor) " +
+                    "redis.call('ZREMRANGEBYSCORE', KEYS[i], '-inf', '(' .. ARGV[4]) " +
+                    "redis.call('ZREMRANGEBYRANK', KEYS[i], 0, -(tonumber(ARGV[3]) + 1)) " +
+                "end " +
+            "end " +
+        "end " +
+        "redis.call('SET', KEYS[1], now) " +
+        "return 1",
+        Long.class
+    );
+
+    // 지역이나 종이 바뀐 항목을 이전 키에서 빼고, 이전 키에 남아 있던 점수를 그대로 새 키에 넣음
+    // 모든 키가 같은 기준 시각을 쓰므로 점수를 옮기면 지난 시간만큼 줄어든 점수가 그대로 이어짐
+    private static final RedisScript<Long> RELOCATE = new DefaultRedisScript<>(
+        "local oldCount = tonumber(ARGV[2]) " +
+        "local staleCount = tonumber(ARGV[3]) " +
+        "local score = nil " +
+        "for i = 1, oldCount do " +
+            "local current = tonumber(redis.call('ZSCORE', KEYS[i], ARGV[1])) " +
+            "if current and (not score or current > score) then " +
+                "score = current " +
+            "end " +
+        "end " +
+        "for i = oldCount + 1, oldCount + staleCount do " +
+            "redis.call('ZREM', KEYS[i], ARGV[1]) " +
+        "end " +
+        "if score then " +
+            "for i = oldCount + staleCount + 1, #KEYS do " +
+                "redis.call('ZADD', KEYS[i], score, ARGV[1]) " +
+            "end " +
+        "end " +
+        "return 1",
+        Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public void increment(List<String> keys, Long targetId, double weight, long now, long halfLifeMillis) {
+        redisTemplate.execute(INCREMENT, withBaseKey(keys),
+            String.valueOf(now), String.valueOf(weight), String.valueOf(halfLifeMillis), String.valueOf(targetId));
+    }
+
+    public void decrement(List<String> keys, Long targetId, double weight, long recordedAt, long halfLifeMillis) {
+        redisTemplate.execute(DECREMENT, withBaseKey(keys),
+            String.valueOf(recordedAt), String.valueOf(weight), String.valueOf(halfLifeMillis), String.valueOf(targetId));
+    }
+
+    public void remove(List<String> keys, Long targetId) {
+        String member = String.valueOf(targetId);
+        keys.forEach(key -> redisTemplate.opsForZSet().remove(key, member));
+    }
+
+    public void relocate(List<String> oldKeys, List<String> staleKeys, List<String> freshKeys, Long targetId) {
+        List<String> scriptKeys = new ArrayList<>(oldKeys.size() + staleKeys.size() + freshKeys.size());
+        scriptKeys.addAll(oldKeys);
+        scriptKeys.addAll(staleKeys);
+        scriptKeys.addAll(freshKeys);
+        redisTemplate.execute(RELOCATE, scriptKeys,
+            String.valueOf(targetId), String.valueOf(oldKeys.size()), String.valueOf(staleKeys.size()));
+    }
+
+    public List<Long> getTopIds(String key, int size) {
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(key, 0, size - 1L);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    public Double getScore(String key, Long targetId) {
+        return redisTemplate.opsForZSet().score(key, String.valueOf(targetId));
+    }
+
+    public void rebase(List<String> keys, long now, long halfLifeMillis, int maxSize, double minScore) {
+        redisTemplate.execute(REBASE, withBaseKey(keys),
+            String.valueOf(now), String.valueOf(halfLifeMillis), String.valueOf(maxSize), String.valueOf(minScore));
+    }
+
+    public void deleteAll(List<String> keys) {
+        redisTemplate.delete(withBaseKey(keys));
+    }
+
+    private List<String> withBaseKey(List<String> keys) {
+        List<String> scriptKeys = new ArrayList<>(keys.size() + 1);
+        scriptKeys.add(BASE_KEY);
+        scriptKeys.addAll(keys);
+        return scriptKeys;
+    }
+}
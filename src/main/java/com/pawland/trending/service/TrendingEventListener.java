@@ -0,0 +1,30 @@
+package com.pawland.trending.service;
+
+import com.pawland.outbox.domain.DomainEvent;
+import com.pawland.post.domain.Region;
+import com.pawland.product.domain.Species;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import static com.pawland.outbox.domain.DomainEventType.ORDER_DONE;
+
+@Component
+@RequiredArgsConstructor
+public class TrendingEventListener {
+
+    private final TrendingService trendingService;
+
+    // 거래가 끝난 상품은 인기 상품 랭킹에서 뺌
+    @EventListener
+    public void onDomainEvent(DomainEvent event) {
+        if (event.getType() != ORDER_DONE) {
+            return;
+        }
+        trendingService.removeProduct(
+            event.getLong("productId"),
+            Region.valueOf(event.getString("region")),
+            Species.valueOf(event.getString("species"))
+        );
+    }
+}
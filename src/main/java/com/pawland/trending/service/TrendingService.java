@@ -0,0 +1,141 @@
+package com.pawland.trending.service;
+
+import com.pawland.post.domain.Region;
+import com.pawland.product.domain.Species;
+import com.pawland.trending.domain.TrendingEvent;
+import com.pawland.trending.domain.TrendingKey;
+import com.pawland.trending.repository.TrendingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingService {
+
+    public static final int MAX_SIZE = 50;
+    private static final long HALF_LIFE_MILLIS = Duration.ofHours(12).toMillis();
+    private static final int KEEP_SIZE = 1_000;
+    private static final double MIN_SCORE = 0.01;
+
+    private final TrendingRepository trendingRepository;
+
+    public void recordPost(Long postId, Region region, TrendingEvent event) {
+        record(TrendingKey.postKeys(region), postId, event.getWeight());
+    }
+
+    // recordedAt 은 취소되는 이벤트가 원래 기록된 시각, 그 시각 기준 점수를 그대로 빼야 다른 이벤트 점수를 건드리지 않음
+    public void retractPost(Long postId, Region region, TrendingEvent event, LocalDateTime recordedAt) {
+        retract(TrendingKey.postKeys(region), postId, event.getWeight(), recordedAt);
+    }
+
+    public void recordProduct(Long productId, Region region, Species species, TrendingEvent event) {
+        record(TrendingKey.productKeys(region, species), productId, event.getWeight());
+    }
+
+    public void retractProduct(Long productId, Region region, Species species, TrendingEvent event, LocalDateTime recordedAt) {
+        retract(TrendingKey.productKeys(region, species), productId, event.getWeight(), recordedAt);
+    }
+
+    public void removePost(Long postId, Region region) {
+        remove(TrendingKey.postKeys(region), postId);
+    }
+
+    public void removeProduct(Long productId, Region region, Species species) {
+        remove(TrendingKey.productKeys(region, species), productId);
+    }
+
+    // 지역이나 종이 바뀌면 더 이상 속하지 않는 키에서 빼고 새로 속한 키로 점수를 옮김, 전체 랭킹 점수는 유지
+    public void relocatePost(Long postId, Region oldRegion, Region newRegion) {
+        relocate(TrendingKey.postKeys(oldRegion), TrendingKey.postKeys(newRegion), postId);
+    }
+
+    public void relocateProduct(Long productId, Region oldRegion, Species oldSpecies, Region newRegion, Species newSpecies) {
+        relocate(TrendingKey.productKeys(oldRegion, oldSpecies), TrendingKey.productKeys(newRegion, newSpecies), productId);
+    }
+
+    public List<Long> getTrendingPostIds(Region region, int size) {
+        return getTopIds(TrendingKey.post(region), size);
+    }
+
+    public List<Long> getTrendingProductIds(Region region, Species species, int size) {
+        return getTopIds(TrendingKey.product(region, species), size);
+    }
+
+    @Scheduled(cron = "0 0 * * * *")
+    public void scheduledRebase() {
+        try {
+            rebase(System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            log.error("[인기 랭킹 점수 재조정 실패]", e);
+        }
+    }
+
+    // 점수가 계속 커지지 않도록 주기적으로 기준 시각을 옮김, 순위는 바뀌지 않음
+    public void rebase(long now) {
+        trendingRepository.rebase(TrendingKey.allKeys(), now, HALF_LIFE_MILLIS, KEEP_SIZE, MIN_SCORE);
+    }
+
+    private void record(List<String> keys, Long targetId, double weight) {
+        afterCommit(() -> trendingRepository.increment(keys, targetId, weight, System.currentTimeMillis(), HALF_LIFE_MILLIS),
+            "반영", targetId);
+    }
+
+    private void retract(List<String> keys, Long targetId, double weight, LocalDateTime recordedAt) {
+        long recordedMillis = recordedAt == null
+            ? System.currentTimeMillis()
+            : recordedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        afterCommit(() -> trendingRepository.decrement(keys, targetId, weight, recordedMillis, HALF_LIFE_MILLIS),
+            "반영", targetId);
+    }
+
+    private void remove(List<String> keys, Long targetId) {
+        afterCommit(() -> trendingRepository.remove(keys, targetId), "삭제", targetId);
+    }
+
+    private void relocate(List<String> oldKeys, List<String> newKeys, Long targetId) {
+        List<String> staleKeys = oldKeys.stream().filter(key -> !newKeys.contains(key)).toList();
+        List<String> freshKeys = newKeys.stream().filter(key -> !oldKeys.contains(key)).toList();
+        if (staleKeys.isEmpty() && freshKeys.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> trendingRepository.relocate(oldKeys, staleKeys, freshKeys, targetId), "이동", targetId);
+    }
+
+    // 롤백된 요청의 점수가 랭킹에 남지 않도록 커밋 후에 반영, 실패해도 원래 요청은 그대로 처리되도록 예외를 삼킴
+    private void afterCommit(Runnable update, String action, Long targetId) {
+        Runnable safeUpdate = () -> {
+            try {
+                update.run();
+            } catch (RuntimeException e) {
+                log.warn("[인기 랭킹 {} 실패] id = {}, {}", action, targetId, e.getMessage());
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            safeUpdate.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                safeUpdate.run();
+            }
+        });
+    }
+
+    private List<Long> getTopIds(String key, int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("조회 개수를 확인해주세요.");
+        }
+        return trendingRepository.getTopIds(key, size);
+    }
+}
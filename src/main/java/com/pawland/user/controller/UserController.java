@@ -13,12 +13,17 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
+
+import static com.pawland.global.http.ConditionalResponses.ifModified;
 import static org.springframework.http.HttpStatus.OK;
 
 @Slf4j
@@ -29,6 +34,9 @@ import static org.springframework.http.HttpStatus.OK;
 @Tag(name = "UserController", description = "유저 정보 관련 컨트롤러 입니다.")
 public class UserController {
 
+    // 프로필은 자주 바뀌지 않아 잠시 재사용하되, 이메일이 들어 있어 공유 캐시에는 저장하지 않음
+    private static final CacheControl PROFILE_CACHE_CONTROL = CacheControl.maxAge(Duration.ofSeconds(30)).cachePrivate();
+
     private final UserService userService;
 
     @PreAuthorize("hasRole('ROLE_USER')")
@@ -60,7 +68,8 @@ public class UserController {
     @SecurityNotRequired
     @Operation(summary = "유저 프로필 조회")
     @GetMapping("/{userId}")
-    public ResponseEntity<UserInfoResponse> getUserProfile(@PathVariable("userId") Long userId) {
-        return ResponseEntity.ok(userService.getUserInfoByUserId(userId));
+    public ResponseEntity<UserInfoResponse> getUserProfile(@PathVariable("userId") Long userId, WebRequest webRequest) {
+        String eTag = userService.getUserInfoETag(userId);
+        return ifModified(webRequest, eTag, PROFILE_CACHE_CONTROL, () -> userService.getUserInfoByUserId(userId));
     }
 }
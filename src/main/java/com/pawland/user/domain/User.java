@@ -14,6 +14,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -24,6 +25,7 @@ import static com.pawland.user.domain.LoginType.NORMAL;
 
 @Entity
 @Getter
+@DynamicUpdate  // 평점 합계는 update 쿼리로 직접 증가시키므로 프로필 수정 시 옛 값으로 덮어쓰지 않도록 변경된 컬럼만 update
 @Table(name = "users")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseTimeEntity {
@@ -46,6 +48,9 @@ public class User extends BaseTimeEntity {
 
     private Double star;
 
+    @Column(nullable = false)
+    private Double starSum = 0.0;   // 받은 별점 합계, star = starSum / reviewCount
+
     private int reviewCount;
 
     @Enumerated(EnumType.STRING)
@@ -121,12 +126,4 @@ public class User extends BaseTimeEntity {
         orderReview.setUser(this);
         this.orderReviewSet.add(orderReview);
     }
-
-    public void setStar(Double star) {
-        this.star = star;
-    }
-
-    public void setReviewCount(int reviewCount) {
-        this.reviewCount = reviewCount;
-    }
 }
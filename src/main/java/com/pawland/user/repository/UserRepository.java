@@ -1,7 +1,9 @@
 package com.pawland.user.repository;
 
 import com.pawland.user.domain.User;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -12,4 +14,7 @@ public interface UserRepository extends CrudRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     Optional<User> findByNickname(String nickname);
+
+    @Query("select u.modifiedDate as modifiedDate, u.star as star, u.reviewCount as reviewCount from User u where u.id = :userId")
+    Optional<UserVersion> findVersionById(@Param("userId") Long userId);
 }
@@ -0,0 +1,10 @@
+package com.pawland.user.repository;
+
+import java.time.LocalDateTime;
+
+// 별점, 리뷰 수는 JDBC 로 갱신되어 수정 시각이 바뀌지 않으므로 함께 비교
+public interface UserVersion {
+    LocalDateTime getModifiedDate();
+    Double getStar();
+    Integer getReviewCount();
+}
@@ -6,6 +6,7 @@ import com.pawland.user.dto.response.UserInfoResponse;
 import com.pawland.user.dto.response.UserInfoUpdateResponse;
 import com.pawland.user.exception.UserException;
 import com.pawland.user.repository.UserRepository;
+import com.pawland.user.repository.UserVersion;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -13,6 +14,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
+import static com.pawland.global.http.ConditionalResponses.weakETag;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -66,6 +69,11 @@ public class UserService {
         return new UserInfoResponse(user);
     }
 
+    public String getUserInfoETag(Long userId) {
+        UserVersion version = userRepository.findVersionById(userId).orElseThrow(UserException.NotFoundUser::new);
+        return weakETag(userId, version.getModifiedDate(), version.getStar(), version.getReviewCount());
+    }
+
     private static boolean isNicknameChanged(String requestNickname, User user) {
         return !requestNickname.equals(user.getNickname());
     }
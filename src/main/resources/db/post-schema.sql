@@ -0,0 +1,18 @@
+-- Hibernate 가 스키마를 맞춘 뒤, id 생성기 정렬 전에 실행하는 데이터 이전 스크립트
+-- 문장이 실패하면 (이미 이전했거나 옛 테이블이 없으면) 해당 문장만 건너뜀
+
+-- 옛 상품 이미지 컬렉션 테이블을 product_image 로 복사, 옛 테이블에는 순서 컬럼이 없어 url 순으로 채움
+-- id 는 이미 발급됐을 수 있는 생성기 값과 최대 id 중 큰 값 뒤부터 써서, 다른 서버가 받아 둔 구간과도 겹치지 않게 함
+INSERT INTO product_image (id, product_id, url, display_order)
+SELECT b.base + ROW_NUMBER() OVER (ORDER BY u.product_id, u.image_urls), u.product_id, u.image_urls,
+       ROW_NUMBER() OVER (PARTITION BY u.product_id ORDER BY u.image_urls) - 1
+FROM product_image_urls u
+JOIN product p ON p.id = u.product_id
+CROSS JOIN (SELECT GREATEST((SELECT COALESCE(MAX(id), 0) FROM product_image),
+                            (SELECT COALESCE(MAX(next_val), 0) FROM id_generator WHERE sequence_name = 'product_image')) AS base) b
+WHERE NOT EXISTS (SELECT 1 FROM product_image i WHERE i.product_id = u.product_id);
+-- 다시 복사되지 않도록 옛 테이블은 이름만 바꿔서 남겨 둠, 이미지를 모두 지운 상품이 되살아나지 않음
+ALTER TABLE product_image_urls RENAME TO product_image_urls_migrated;
+-- 복사한 id 뒤로 생성기를 옮김, IdGeneratorAligner 와 같이 pooled 구간 (ALLOCATION_SIZE = 50) 만큼 더 띄움
+UPDATE id_generator SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) FROM product_image) + 51)
+WHERE sequence_name = 'product_image';
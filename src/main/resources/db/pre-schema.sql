@@ -0,0 +1,28 @@
+-- Hibernate 가 스키마를 갱신하기 전에 실행됨, 테이블이 아직 없으면 해당 문장은 건너뜀
+
+-- 유니크 제약(uk_*_user)을 걸기 전에 같은 사용자의 중복 반응은 가장 먼저 생긴 것만 남김
+DELETE FROM post_recommend
+WHERE id NOT IN (SELECT keep_id FROM (SELECT MIN(id) AS keep_id FROM post_recommend GROUP BY post_id, user_id) AS keep);
+
+DELETE FROM recommend_comment
+WHERE id NOT IN (SELECT keep_id FROM (SELECT MIN(id) AS keep_id FROM recommend_comment GROUP BY comment_id, user_id) AS keep);
+
+DELETE FROM wish_product
+WHERE id NOT IN (SELECT keep_id FROM (SELECT MIN(id) AS keep_id FROM wish_product GROUP BY product_id, user_id) AS keep);
+
+-- 낙관적 락 version 컬럼이 null 로 먼저 추가된 주문은 0 부터 시작
+UPDATE orders SET version = 0 WHERE version IS NULL;
+
+-- 별점 합계(star_sum)는 Hibernate 보다 먼저 nullable 로 추가해서 기존 판매자를 평균 * 리뷰 수로 채움, 0 으로 시작하면 다음 리뷰에서 평균이 무너짐
+-- 컬럼이 이미 있으면 ALTER 는 실패하고 건너뜀, 0 으로 먼저 추가된 경우도 함께 채움
+ALTER TABLE users ADD COLUMN star_sum DOUBLE;
+UPDATE users SET star_sum = COALESCE(star, 0) * review_count WHERE star_sum IS NULL OR (star_sum = 0 AND review_count > 0);
+
+-- 게시글 추천, 댓글 카운터도 nullable 로 먼저 추가해서 기존 게시글은 실제 개수로 채움, 새벽 보정 작업까지 추천순 정렬이 틀어지지 않도록 함
+-- 0 으로 먼저 추가된 경우는 실제 추천, 댓글이 있는 게시글만 다시 셈
+ALTER TABLE post ADD COLUMN recommend_count BIGINT;
+ALTER TABLE post ADD COLUMN comment_count BIGINT;
+UPDATE post SET recommend_count = (SELECT COUNT(*) FROM post_recommend r WHERE r.post_id = post.id)
+WHERE recommend_count IS NULL OR (recommend_count = 0 AND EXISTS (SELECT 1 FROM post_recommend r WHERE r.post_id = post.id));
+UPDATE post SET comment_count = (SELECT COUNT(*) FROM comment c WHERE c.post_id = post.id)
+WHERE comment_count IS NULL OR (comment_count = 0 AND EXISTS (SELECT 1 FROM comment c WHERE c.post_id = post.id));
@@ -30,6 +30,7 @@ import java.util.stream.IntStream;
 
 import static com.pawland.order.exception.OrderExceptionMessage.ORDER_NOT_FOUND;
 import static com.pawland.product.exception.ProductExceptionMessage.PRODUCT_NOT_FOUND;
+import static com.pawland.global.utils.SqlStatementMatchers.maxSqlStatements;
 import static com.pawland.user.exception.UserExceptionMessage.USER_NOT_FOUND;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -275,6 +276,32 @@ class ChatControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isEmpty());
         }
+
+        @DisplayName("채팅방 수와 관계없이 채팅방 목록과 마지막 메시지를 정해진 개수의 쿼리로 조회한다.")
+        @PawLandMockUser
+        @Test
+        void getMyChatRoomList3() throws Exception {
+            // given
+            User myAccount = userRepository.findByEmail("midcondria@naver.com")
+                .orElseThrow(UserException.NotFoundUser::new);
+            for (int i = 1; i <= 5; i++) {
+                User seller = userRepository.save(createUser("판매자" + i, "seller" + i + "@naver.com", "asd123123"));
+                Product product = productJpaRepository.save(createProduct("나는짱물건" + i, 1000 * i, "장난감", "강아지", "새상품"));
+                ChatRoom chatRoom = chatRoomRepository.save(createChatRoom(myAccount.getId(), seller.getId(), (long) i, product.getId()));
+                chatMessageRepository.saveAll(List.of(
+                    createChatMessage(chatRoom.getId(), "처음", seller.getId(), "2024-05-11T21:00:00.001"),
+                    createChatMessage(chatRoom.getId(), "마지막", myAccount.getId(), "2024-05-11T21:00:00.002")
+                ));
+            }
+
+            // expected
+            mockMvc.perform(get("/api/chat/room"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5))
+                .andExpect(jsonPath("$[*].lastMessage.message", Matchers.everyItem(Matchers.is("마지막"))))
+                .andExpect(maxSqlStatements(3));
+        }
     }
 
     @DisplayName("채팅 내역 조회 시")
@@ -0,0 +1,88 @@
+package com.pawland.comment.controller;
+
+import com.pawland.comment.dto.request.CreateCommentRequest;
+import com.pawland.comment.respository.CommentJpaRepository;
+import com.pawland.comment.service.CommentService;
+import com.pawland.global.config.TestSecurityConfig;
+import com.pawland.post.dto.request.PostCreateRequest;
+import com.pawland.post.repository.PostJpaRepository;
+import com.pawland.post.service.PostService;
+import com.pawland.user.domain.User;
+import com.pawland.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.pawland.global.utils.SqlStatementMatchers.maxSqlStatements;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
+class CommentControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostJpaRepository postJpaRepository;
+
+    @Autowired
+    private CommentJpaRepository commentJpaRepository;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @AfterEach
+    void tearDown() {
+        commentJpaRepository.deleteAllInBatch();
+        userRepository.deleteAll();
+        postJpaRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("댓글 목록은 댓글 수, 댓글 작성자 수와 상관없이 정해진 개수의 쿼리로 조회한다.")
+    @Test
+    void getComments1() throws Exception {
+        // given
+        User user = userRepository.save(createUser("나는짱", "midcon@naver.com"));
+        Long postId = postService.uploadPost(user.getId(), PostCreateRequest.builder().title("제목").region("서울").build()).getId();
+        for (int i = 0; i < 20; i++) {
+            User commenter = userRepository.save(createUser("댓글러" + i, "commenter" + i + "@naver.com"));
+            commentService.createComment(commenter.getId(), postId, new CreateCommentRequest("댓글" + i));
+        }
+
+        // expected
+        mockMvc.perform(get("/api/comment/post/{postId}", postId)
+                .param("page", "1")
+                .param("size", "20")
+            )
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(20))
+            .andExpect(maxSqlStatements(6));
+    }
+
+    private User createUser(String nickname, String email) {
+        return User.builder()
+            .nickname(nickname)
+            .email(email)
+            .password("asd123123")
+            .build();
+    }
+}
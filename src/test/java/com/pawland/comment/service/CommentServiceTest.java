@@ -1,8 +1,11 @@
 package com.pawland.comment.service;
 
+import com.pawland.comment.domain.Comment;
 import com.pawland.comment.dto.request.CreateCommentRequest;
 import com.pawland.comment.dto.request.UpdateCommentRequest;
+import com.pawland.comment.dto.response.CommentCursorResponse;
 import com.pawland.comment.dto.response.CommentResponse;
+import com.pawland.comment.exception.CommentException;
 import com.pawland.comment.respository.CommentJpaRepository;
 import com.pawland.post.domain.Post;
 import com.pawland.post.dto.request.PostCreateRequest;
@@ -19,9 +22,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.NoSuchElementException;
 
 @SpringBootTest
@@ -104,12 +109,196 @@ class CommentServiceTest {
         Assertions.assertThrows(NoSuchElementException.class, () -> commentJpaRepository.findById(comment.getId()).get());
     }
 
-    @DisplayName("")
+    @DisplayName("게시글의 댓글을 대댓글, 추천 수와 함께 트리로 조회한다.")
+    @Test
+    @Transactional
+    void getCommentTree() {
+        //given
+        User user = createUser();
+        PostResponse post = createPost(user);
+        CommentResponse first = commentService.createComment(user.getId(), post.getId(), new CreateCommentRequest("첫번째 댓글"));
+        CommentResponse second = commentService.createComment(user.getId(), post.getId(), new CreateCommentRequest("두번째 댓글"));
+        CommentResponse reply = commentService.createCommentComment(user.getId(), first.getId(), new CreateCommentRequest("대댓글"));
+        commentService.createCommentComment(user.getId(), reply.getId(), new CreateCommentRequest("대대댓글"));
+        commentService.recommendComment(user.getId(), second.getId());
+
+        //when
+        List<CommentResponse> tree = commentService.getCommentTree(post.getId());
+
+        //then
+        Assertions.assertEquals(2, tree.size());
+        Assertions.assertEquals("첫번째 댓글", tree.get(0).getContent());
+        Assertions.assertEquals(2, tree.get(0).getReplyCount());
+        Assertions.assertEquals(1, tree.get(0).getReplies().get(0).getReplyCount());
+        Assertions.assertEquals("대댓글", tree.get(0).getReplies().get(0).getContent());
+        Assertions.assertEquals("대대댓글", tree.get(0).getReplies().get(0).getReplies().get(0).getContent());
+        Assertions.assertEquals(1L, tree.get(1).getRecommendCount());
+    }
+
+    @DisplayName("대대댓글에는 더 이상 답글을 달 수 없다.")
+    @Test
+    @Transactional
+    void createCommentCommentTooDeep() {
+        //given
+        User user = createUser();
+        PostResponse post = createPost(user);
+        CommentResponse root = commentService.createComment(user.getId(), post.getId(), new CreateCommentRequest("댓글"));
+        CommentResponse reply = commentService.createCommentComment(user.getId(), root.getId(), new CreateCommentRequest("대댓글"));
+        CommentResponse deepest = commentService.createCommentComment(user.getId(), reply.getId(), new CreateCommentRequest("대대댓글"));
+
+        //expected
+        Assertions.assertThrows(CommentException.ReplyTooDeep.class,
+            () -> commentService.createCommentComment(user.getId(), deepest.getId(), new CreateCommentRequest("대대대댓글")));
+    }
+
+    @DisplayName("깊이 제한 전에 달린 대대댓글보다 깊은 답글은 대대댓글 단계로 올려서 보여준다.")
+    @Test
+    @Transactional
+    void getCommentTreeTooDeep() {
+        //given
+        User user = createUser();
+        PostResponse post = createPost(user);
+        CommentResponse root = commentService.createComment(user.getId(), post.getId(), new CreateCommentRequest("댓글"));
+        CommentResponse reply = commentService.createCommentComment(user.getId(), root.getId(), new CreateCommentRequest("대댓글"));
+        CommentResponse deepest = commentService.createCommentComment(user.getId(), reply.getId(), new CreateCommentRequest("대대댓글"));
+        Comment legacy = createLegacyReply(user, deepest.getId(), "대대대댓글");
+        createLegacyReply(user, legacy.getId(), "대대대대댓글");
+
+        //when
+        List<CommentResponse> tree = commentService.getCommentTree(post.getId());
+
+        //then
+        List<CommentResponse> deepReplies = tree.get(0).getReplies().get(0).getReplies();
+        Assertions.assertEquals(4, tree.get(0).getReplyCount());
+        Assertions.assertEquals(List.of("대대댓글", "대대대댓글", "대대대대댓글"), deepReplies.stream().map(CommentResponse::getContent).toList());
+        Assertions.assertEquals(5, commentService.getCommentTreeVersion(post.getId()).getCommentCount());
+    }
+
+    @DisplayName("최상위 댓글을 페이징하고 대댓글은 미리보기 개수만 포함한다.")
+    @Test
+    @Transactional
+    void getComments() {
+        //given
+        User user = createUser();
+        PostResponse post = createPost(user);
+        CommentResponse first = commentService.createComment(user.getId(), post.getId(), new CreateCommentRequest("첫번째 댓글"));
+        commentService.createComment(user.getId(), post.getId(), new CreateCommentRequest("두번째 댓글"));
+        commentService.createComment(user.getId(), post.getId(), new CreateCommentRequest("세번째 댓글"));
+        for (int i = 0; i < 5; i++) {
+            commentService.createCommentComment(user.getId(), first.getId(), new CreateCommentRequest("대댓글" + i));
+        }
+
+        //when
+        Page<CommentResponse> firstPage = commentService.getComments(post.getId(), 1, 2, 3);
+        Page<CommentResponse> secondPage = commentService.getComments(post.getId(), 2, 2, 3);
+
+        //then
+        Assertions.assertEquals(3, firstPage.getTotalElements());
+        Assertions.assertEquals(2, firstPage.getContent().size());
+        Assertions.assertEquals(5, firstPage.getContent().get(0).getReplyCount());
+        Assertions.assertEquals(3, firstPage.getContent().get(0).getReplies().size());
+        Assertions.assertEquals("대댓글0", firstPage.getContent().get(0).getReplies().get(0).getContent());
+        Assertions.assertEquals(1, secondPage.getContent().size());
+        Assertions.assertEquals("세번째 댓글", secondPage.getContent().get(0).getContent());
+    }
+
+    @DisplayName("커서 이후의 최상위 댓글을 조회하고 다음 커서를 알려준다.")
+    @Test
+    @Transactional
+    void getCommentsByCursor() {
+        //given
+        User user = createUser();
+        PostResponse post = createPost(user);
+        for (int i = 0; i < 3; i++) {
+            commentService.createComment(user.getId(), post.getId(), new CreateCommentRequest("댓글" + i));
+        }
+
+        //when
+        CommentCursorResponse first = commentService.getCommentsByCursor(post.getId(), null, 2, 3);
+        CommentCursorResponse second = commentService.getCommentsByCursor(post.getId(), first.getNextCursor(), 2, 3);
+
+        //then
+        Assertions.assertEquals(2, first.getComments().size());
+        Assertions.assertTrue(first.isHasNext());
+        Assertions.assertEquals(first.getComments().get(1).getId(), first.getNextCursor());
+        Assertions.assertEquals(1, second.getComments().size());
+        Assertions.assertEquals("댓글2", second.getComments().get(0).getContent());
+        Assertions.assertFalse(second.isHasNext());
+    }
+
+    @DisplayName("같은 댓글을 여러 번 추천해도 추천 수는 한 번만 늘어난다.")
+    @Test
+    @Transactional
+    void recommendComment() {
+        //given
+        User user = createUser();
+        PostResponse post = createPost(user);
+        CommentResponse comment = commentService.createComment(user.getId(), post.getId(), new CreateCommentRequest("댓글입니다."));
+
+        //when
+        CommentResponse first = commentService.recommendComment(user.getId(), comment.getId());
+        CommentResponse second = commentService.recommendComment(user.getId(), comment.getId());
+
+        //then
+        Assertions.assertEquals(1L, first.getRecommendCount());
+        Assertions.assertEquals(1L, second.getRecommendCount());
+    }
+
+    @DisplayName("답글을 추천하면 그 답글의 하위 답글과 추천 수를 함께 돌려준다.")
+    @Test
+    @Transactional
+    void recommendReply() {
+        //given
+        User user = createUser();
+        PostResponse post = createPost(user);
+        CommentResponse root = commentService.createComment(user.getId(), post.getId(), new CreateCommentRequest("댓글"));
+        CommentResponse reply = commentService.createCommentComment(user.getId(), root.getId(), new CreateCommentRequest("대댓글"));
+        commentService.createCommentComment(user.getId(), reply.getId(), new CreateCommentRequest("대대댓글"));
+
+        //when
+        CommentResponse result = commentService.recommendComment(user.getId(), reply.getId());
+
+        //then
+        Assertions.assertEquals(reply.getId(), result.getId());
+        Assertions.assertEquals(1L, result.getRecommendCount());
+        Assertions.assertEquals(1, result.getReplyCount());
+        Assertions.assertEquals("대대댓글", result.getReplies().get(0).getContent());
+    }
+
+    @DisplayName("댓글이 추천되거나 답글이 삭제되면 게시글 ETag 가 바뀐다.")
+    @Test
+    @Transactional
+    void postETagChangesWithComments() {
+        //given
+        User user = createUser();
+        PostResponse post = createPost(user);
+        CommentResponse comment = commentService.createComment(user.getId(), post.getId(), new CreateCommentRequest("댓글"));
+        CommentResponse reply = commentService.createCommentComment(user.getId(), comment.getId(), new CreateCommentRequest("대댓글"));
+        String initial = postService.getPostETag(user.getId(), post.getId());
+
+        //when
+        commentService.recommendComment(user.getId(), reply.getId());
+        String afterRecommend = postService.getPostETag(user.getId(), post.getId());
+        commentService.removeCommentComment(user.getId(), reply.getId());
+        String afterReplyDelete = postService.getPostETag(user.getId(), post.getId());
+
+        //then
+        Assertions.assertNotEquals(initial, afterRecommend);
+        Assertions.assertNotEquals(afterRecommend, afterReplyDelete);
+    }
 
     private PostResponse createPost(User user) {
         return postService.uploadPost(user.getId(), new PostCreateRequest("테스트게시글", "테스트게시글입니다.", null, "서울"));
     }
 
+    // 깊이 제한이 생기기 전처럼 서비스를 거치지 않고 답글을 닮
+    private Comment createLegacyReply(User user, Long parentId, String content) {
+        Comment parent = commentJpaRepository.findById(parentId).orElseThrow();
+        Comment reply = commentJpaRepository.save(new Comment(null, user, content));
+        parent.addReply(reply);
+        return reply;
+    }
+
     private User createUser() {
         User tester = User.builder()
                 .email("test@test.com")
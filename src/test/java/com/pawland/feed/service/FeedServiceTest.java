@@ -0,0 +1,372 @@
+package com.pawland.feed.service;
+
+import com.pawland.feed.domain.FeedEntry;
+import com.pawland.feed.domain.FeedKey;
+import com.pawland.feed.domain.FeedPage;
+import com.pawland.feed.repository.FeedRepository;
+import com.pawland.post.dto.request.PostCreateRequest;
+import com.pawland.post.dto.request.PostSearchRequest;
+import com.pawland.post.dto.response.PostSummaryResponse;
+import com.pawland.post.repository.PostJpaRepository;
+import com.pawland.post.service.PostService;
+import com.pawland.product.domain.Product;
+import com.pawland.product.dto.request.CreateProductRequest;
+import com.pawland.product.dto.request.SearchProductRequest;
+import com.pawland.product.dto.response.ProductResponse;
+import com.pawland.product.respository.ProductJpaRepository;
+import com.pawland.product.service.ProductService;
+import com.pawland.user.domain.LoginType;
+import com.pawland.user.domain.User;
+import com.pawland.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.pawland.post.domain.Region.BUSAN;
+import static com.pawland.post.domain.Region.JEJU;
+import static com.pawland.post.domain.Region.SEOUL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"pawland.feed.enabled=true", "pawland.feed.size=3"})
+@ActiveProfiles("local")
+class FeedServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 5, 1, 12, 0);
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @Autowired
+    private FeedService feedService;
+
+    @Autowired
+    private FeedRepository feedRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private PostJpaRepository postJpaRepository;
+
+    private final List<Long> productIds = new ArrayList<>();
+    private final List<Long> postIds = new ArrayList<>();
+    private User user;
+
+    @AfterEach
+    void tearDown() {
+        feedRepository.deleteAll(FeedKey.allKeys());
+        redisTemplate.delete(FeedKey.allKeys().stream()
+            .flatMap(key -> Stream.of(FeedKey.rebuilding(key), FeedKey.pending(key)))
+            .toList());
+        productJpaRepository.deleteAllByIdInBatch(productIds);
+        postJpaRepository.deleteAllByIdInBatch(postIds);
+        if (user != null) {
+            userRepository.delete(user);
+        }
+    }
+
+    @DisplayName("새 상품은 지역 피드와 전체 피드의 맨 앞에 추가된다.")
+    @Test
+    void addProduct1() {
+        // given
+        warmUp(FeedKey.product(null), 2L, 1L);
+        warmUp(FeedKey.product(SEOUL), 1L);
+
+        // when
+        feedService.addProduct(3L, SEOUL, BASE.plusMinutes(3));
+
+        // then
+        FeedPage all = feedService.getProductPage(null, PageRequest.of(0, 3)).orElseThrow();
+        FeedPage seoul = feedService.getProductPage(SEOUL, PageRequest.of(0, 3)).orElseThrow();
+        assertThat(all.getIds()).containsExactly(3L, 2L, 1L);
+        assertThat(all.getTotalCount()).isEqualTo(3);
+        assertThat(seoul.getIds()).containsExactly(3L, 1L);
+        assertThat(seoul.getTotalCount()).isEqualTo(2);
+    }
+
+    @DisplayName("지역이 바뀐 상품은 이전 지역 피드에서 빠지고 새 지역 피드에 들어간다.")
+    @Test
+    void relocateProduct1() {
+        // given
+        warmUp(FeedKey.product(SEOUL), 1L);
+        warmUp(FeedKey.product(BUSAN));
+
+        // when
+        feedService.relocateProduct(1L, BASE.plusMinutes(1), SEOUL, BUSAN);
+
+        // then
+        assertThat(feedService.getProductPage(SEOUL, PageRequest.of(0, 3)).orElseThrow().getTotalCount()).isZero();
+        assertThat(feedService.getProductPage(BUSAN, PageRequest.of(0, 3)).orElseThrow().getIds()).containsExactly(1L);
+    }
+
+    @DisplayName("판매 완료되거나 삭제된 상품은 피드에서 빠진다.")
+    @Test
+    void removeProduct1() {
+        // given
+        warmUp(FeedKey.product(SEOUL), 2L, 1L);
+
+        // when
+        feedService.removeProduct(2L, SEOUL);
+
+        // then
+        FeedPage seoul = feedService.getProductPage(SEOUL, PageRequest.of(0, 3)).orElseThrow();
+        assertThat(seoul.getIds()).containsExactly(1L);
+        assertThat(seoul.getTotalCount()).isEqualTo(1);
+    }
+
+    @DisplayName("피드 크기를 넘어가는 페이지는 피드로 응답하지 않는다.")
+    @Test
+    void getProductPage1() {
+        // given
+        rebuild(FeedKey.product(SEOUL), entries(3L, 2L, 1L), 10);
+
+        // expected
+        assertThat(feedService.getProductPage(SEOUL, PageRequest.of(0, 3))).isPresent();
+        assertThat(feedService.getProductPage(SEOUL, PageRequest.of(1, 3))).isEmpty();
+    }
+
+    @DisplayName("피드에 보관된 범위 안에서 전체 개수가 유지된다.")
+    @Test
+    void getPostPage1() {
+        // given
+        warmUp(FeedKey.post(null), 2L, 1L);
+
+        // when
+        feedService.addPost(3L, SEOUL, BASE.plusMinutes(3));
+        feedService.addPost(4L, SEOUL, BASE.plusMinutes(4));
+
+        // then
+        FeedPage page = feedService.getPostPage(null, PageRequest.of(0, 3)).orElseThrow();
+        assertThat(page.getIds()).containsExactly(4L, 3L, 2L);
+        assertThat(page.getTotalCount()).isEqualTo(4);
+    }
+
+    @DisplayName("이미 피드에 있는 상품을 다시 추가해도 전체 개수는 늘지 않는다.")
+    @Test
+    void addProduct2() {
+        // given
+        warmUp(FeedKey.product(SEOUL), 2L, 1L);
+
+        // when
+        feedService.addProduct(2L, SEOUL, BASE.plusMinutes(2));
+
+        // then
+        FeedPage seoul = feedService.getProductPage(SEOUL, PageRequest.of(0, 3)).orElseThrow();
+        assertThat(seoul.getIds()).containsExactly(2L, 1L);
+        assertThat(seoul.getTotalCount()).isEqualTo(2);
+    }
+
+    @DisplayName("피드를 다시 만드는 동안 커밋된 추가, 삭제는 저장할 때 함께 반영된다.")
+    @Test
+    void rebuild1() {
+        // given
+        String key = FeedKey.product(SEOUL);
+        String token = feedRepository.startRebuild(key, TTL);
+
+        // when
+        feedService.addProduct(3L, SEOUL, BASE.plusMinutes(3));
+        feedService.addProduct(2L, SEOUL, BASE.plusMinutes(2));
+        feedService.removeProduct(1L, SEOUL);
+        boolean rebuilt = feedRepository.rebuild(key, token, entries(2L, 1L), 2, TTL, 3);
+
+        // then
+        FeedPage seoul = feedService.getProductPage(SEOUL, PageRequest.of(0, 3)).orElseThrow();
+        assertThat(rebuilt).isTrue();
+        assertThat(seoul.getIds()).containsExactly(3L, 2L);
+        assertThat(seoul.getTotalCount()).isEqualTo(2);
+    }
+
+    @DisplayName("다른 요청이 피드를 다시 만드는 중이면 피드로 응답하지 않고 DB 로 넘긴다.")
+    @Test
+    void rebuild2() {
+        // given
+        String key = FeedKey.product(BUSAN);
+        String token = feedRepository.startRebuild(key, TTL);
+
+        // expected
+        assertThat(token).isNotNull();
+        assertThat(feedRepository.startRebuild(key, TTL)).isNull();
+        assertThat(feedService.getProductPage(BUSAN, PageRequest.of(0, 3))).isEmpty();
+        feedRepository.cancelRebuild(key, token);
+    }
+
+    @DisplayName("피드를 다시 만드는 동안 피드가 지워지면 읽어 둔 목록을 저장하지 않는다.")
+    @Test
+    void rebuild3() {
+        // given
+        String key = FeedKey.product(SEOUL);
+        String token = feedRepository.startRebuild(key, TTL);
+
+        // when
+        feedService.evictProducts(List.of(SEOUL));
+        boolean rebuilt = feedRepository.rebuild(key, token, entries(2L, 1L), 2, TTL, 3);
+
+        // then
+        assertThat(rebuilt).isFalse();
+        assertThat(feedRepository.getPage(key, 0, 3)).isNull();
+        assertThat(feedRepository.startRebuild(key, TTL)).isNotNull();
+    }
+
+    @DisplayName("상품 목록 첫 페이지는 피드의 id 순서 그대로 응답한다.")
+    @Test
+    void getProducts1() {
+        // given
+        Long first = createProduct();
+        Long second = createProduct();
+        Long third = createProduct();
+        rebuild(FeedKey.product(JEJU), List.of(
+            new FeedEntry(first, BASE.plusMinutes(3)),
+            new FeedEntry(third, BASE.plusMinutes(2)),
+            new FeedEntry(second, BASE.plusMinutes(1))
+        ), 3);
+
+        // when
+        Page<ProductResponse> products = productService.getProducts(user.getId(), searchProducts(3));
+
+        // then
+        assertThat(products.getContent()).extracting(ProductResponse::getId).containsExactly(first, third, second);
+        assertThat(products.getTotalElements()).isEqualTo(3);
+    }
+
+    @DisplayName("피드가 없으면 DB 에서 다시 만들어 DB 조회와 같은 상품으로 응답하고, 다시 만드는 중이면 DB 로 조회한다.")
+    @Test
+    void getProducts2() {
+        // given
+        Long first = createProduct();
+        Long second = createProduct();
+        String token = feedRepository.startRebuild(FeedKey.product(JEJU), TTL);
+
+        // when
+        Page<ProductResponse> fallback = productService.getProducts(user.getId(), searchProducts(3));
+        feedRepository.cancelRebuild(FeedKey.product(JEJU), token);
+        Page<ProductResponse> feed = productService.getProducts(user.getId(), searchProducts(3));
+        Page<ProductResponse> sql = productService.getProducts(user.getId(), searchProducts(4));
+
+        // then
+        assertThat(fallback.getContent()).extracting(ProductResponse::getId).contains(first, second);
+        assertThat(feedRepository.getPage(FeedKey.product(JEJU), 0, 3)).isNotNull();
+        assertThat(feed.getContent()).extracting(ProductResponse::getId)
+            .containsExactlyInAnyOrderElementsOf(sql.getContent().stream().limit(3).map(ProductResponse::getId).toList());
+        assertThat(feed.getTotalElements()).isEqualTo(sql.getTotalElements());
+    }
+
+    @DisplayName("피드에 남아 있어도 판매 완료된 상품은 상품 목록에서 빠진다.")
+    @Test
+    void getProducts3() {
+        // given
+        Long first = createProduct();
+        Long second = createProduct();
+        rebuild(FeedKey.product(JEJU), List.of(
+            new FeedEntry(second, BASE.plusMinutes(2)),
+            new FeedEntry(first, BASE.plusMinutes(1))
+        ), 2);
+        Product sold = productJpaRepository.findById(second).orElseThrow();
+        sold.sell();
+        productJpaRepository.save(sold);
+
+        // when
+        Page<ProductResponse> products = productService.getProducts(user.getId(), searchProducts(3));
+
+        // then
+        assertThat(products.getContent()).extracting(ProductResponse::getId).containsExactly(first);
+    }
+
+    @DisplayName("게시글 목록 첫 페이지는 피드의 id 순서 그대로 응답하고, 다시 만드는 중이면 DB 로 조회한다.")
+    @Test
+    void getPosts1() {
+        // given
+        Long first = createPost();
+        Long second = createPost();
+        Long third = createPost();
+        rebuild(FeedKey.post(JEJU), List.of(
+            new FeedEntry(second, BASE.plusMinutes(3)),
+            new FeedEntry(first, BASE.plusMinutes(2)),
+            new FeedEntry(third, BASE.plusMinutes(1))
+        ), 3);
+
+        // when
+        Page<PostSummaryResponse> feed = postService.getPosts(searchPosts());
+        feedRepository.deleteAll(List.of(FeedKey.post(JEJU)));
+        String token = feedRepository.startRebuild(FeedKey.post(JEJU), TTL);
+        Page<PostSummaryResponse> fallback = postService.getPosts(searchPosts());
+        feedRepository.cancelRebuild(FeedKey.post(JEJU), token);
+
+        // then
+        assertThat(feed.getContent()).extracting(PostSummaryResponse::getId).containsExactly(second, first, third);
+        assertThat(fallback.getContent()).extracting(PostSummaryResponse::getId).contains(first, second, third);
+    }
+
+    private Long createProduct() {
+        Long productId = productService.createProduct(createUser().getId(), new CreateProductRequest(
+            "사료", "고양이", "새상품", "상품", 10000, "상품입니다.", "제주", null, null)).getId();
+        productIds.add(productId);
+        return productId;
+    }
+
+    private Long createPost() {
+        Long postId = postService.uploadPost(createUser().getId(), PostCreateRequest.builder()
+            .title("제목")
+            .region("제주")
+            .build()).getId();
+        postIds.add(postId);
+        return postId;
+    }
+
+    private User createUser() {
+        if (user == null) {
+            user = userRepository.save(User.builder()
+                .email("feed@test.com")
+                .password("123123")
+                .nickname("feed")
+                .type(LoginType.GOOGLE)
+                .build());
+        }
+        return user;
+    }
+
+    private SearchProductRequest searchProducts(int size) {
+        return SearchProductRequest.builder().region(List.of(JEJU)).page(1).size(size).build();
+    }
+
+    private PostSearchRequest searchPosts() {
+        return PostSearchRequest.builder().region(List.of(JEJU)).page(1).size(3).build();
+    }
+
+    private void warmUp(String key, Long... ids) {
+        rebuild(key, entries(ids), ids.length);
+    }
+
+    private void rebuild(String key, List<FeedEntry> entries, long totalCount) {
+        feedRepository.rebuild(key, feedRepository.startRebuild(key, TTL), entries, totalCount, TTL, 3);
+    }
+
+    // id 가 클수록 나중에 등록된 것으로 둠
+    private List<FeedEntry> entries(Long... ids) {
+        return Arrays.stream(ids)
+            .map(id -> new FeedEntry(id, BASE.plusMinutes(id)))
+            .toList();
+    }
+}
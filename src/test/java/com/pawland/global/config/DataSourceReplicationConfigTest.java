@@ -0,0 +1,208 @@
+package com.pawland.global.config;
+
+import com.pawland.global.config.security.JwtUtils;
+import com.pawland.global.datasource.ReadYourWritesFilter;
+import com.pawland.global.datasource.ReplicationRoutingDataSource;
+import com.pawland.post.repository.PostJpaRepository;
+import com.pawland.user.domain.User;
+import com.pawland.user.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewFilter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "pawland.datasource.replication.enabled=true",
+    "pawland.datasource.replication.replicas[0].url=" + DataSourceReplicationConfigTest.REPLICA_URL,
+    "pawland.datasource.replication.replicas[0].username=sa",
+    "pawland.datasource.replication.replicas[0].password="
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("local")
+class DataSourceReplicationConfigTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1";
+    private static final String EMAIL = "replication@test.com";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter;
+
+    @Autowired
+    private FilterRegistrationBean<OpenEntityManagerInViewFilter> openEntityManagerInViewFilter;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostJpaRepository postJpaRepository;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete("rw-pin:" + EMAIL);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> userRepository.findByEmail(EMAIL)
+            .ifPresent(user -> {
+                postJpaRepository.deleteAll(postJpaRepository.findAll().stream()
+                    .filter(post -> post.getAuthor().getId().equals(user.getId()))
+                    .toList());
+                userRepository.delete(user);
+            }));
+    }
+
+    @DisplayName("복제 라우팅을 켜면 기본 DataSource 는 라우팅 DataSource 를 감싼 지연 커넥션 프록시다.")
+    @Test
+    void dataSource1() {
+        // expected
+        assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+        assertThat(((LazyConnectionDataSourceProxy) dataSource).getTargetDataSource()).isInstanceOf(ReplicationRoutingDataSource.class);
+    }
+
+    @DisplayName("애플리케이션 트랜잭션 매니저로 연 읽기 전용 트랜잭션은 replica 로, 쓰기 트랜잭션은 primary 로 간다.")
+    @Test
+    void route1() {
+        // when
+        String read = readOnlyTransaction().execute(status -> currentDatabase());
+        String write = new TransactionTemplate(transactionManager).execute(status -> currentDatabase());
+
+        // then
+        assertThat(read).isEqualTo(replicaDatabase());
+        assertThat(write).isNotEqualTo(replicaDatabase());
+    }
+
+    @DisplayName("primary 고정 필터는 영속성 컨텍스트 필터와 시큐리티 필터보다 먼저 실행된다.")
+    @Test
+    void readYourWritesFilter1() {
+        // expected
+        assertThat(readYourWritesFilter.getOrder())
+            .isLessThan(openEntityManagerInViewFilter.getOrder())
+            .isLessThan(SecurityProperties.DEFAULT_FILTER_ORDER);
+    }
+
+    @DisplayName("쓰기 요청에 성공한 사용자의 다음 조회 요청은 읽기 전용 트랜잭션도 primary 로 보낸다.")
+    @Test
+    void readYourWritesFilter2() throws Exception {
+        // given
+        String jwt = jwt();
+        String primary = new TransactionTemplate(transactionManager).execute(status -> currentDatabase());
+        List<String> reads = new ArrayList<>();
+        FilterChain readChain = (request, response) -> reads.add(readOnlyTransaction().execute(status -> currentDatabase()));
+
+        // when
+        readYourWritesFilter.getFilter().doFilter(request("GET", jwt), new MockHttpServletResponse(), readChain);
+        readYourWritesFilter.getFilter().doFilter(request("POST", jwt), new MockHttpServletResponse(), (request, response) -> {
+        });
+        readYourWritesFilter.getFilter().doFilter(request("GET", jwt), new MockHttpServletResponse(), readChain);
+
+        // then
+        assertThat(reads).containsExactly(replicaDatabase(), primary);
+    }
+
+    @DisplayName("JWT 인증 때의 조회가 replica 로 가도, 같은 요청의 쓰기 트랜잭션은 primary 로 간다.")
+    @Test
+    void writeAfterAuthentication() throws Exception {
+        // given
+        User user = userRepository.save(User.builder()
+            .email(EMAIL)
+            .password("123123")
+            .nickname("replication")
+            .build());
+        // replica 에는 사용자 테이블만 primary 에 연결해 두어서, 인증 조회는 replica 에서 성공하고 다른 테이블은 primary 에만 있음
+        new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", "")).execute(String.format(
+            "CREATE LINKED TABLE IF NOT EXISTS users('', '%s', '%s', '%s', 'USERS')",
+            primaryDataSource.getJdbcUrl(), primaryDataSource.getUsername(), nullToEmpty(primaryDataSource.getPassword())));
+
+        // when
+        mockMvc.perform(post("/api/post")
+                .cookie(new Cookie("jwt", jwt()))
+                .contentType(APPLICATION_JSON)
+                .content("{\"title\": \"제목\", \"region\": \"서울\"}")
+            )
+            .andDo(print())
+            .andExpect(status().isCreated());
+
+        // then
+        Long postCount = new TransactionTemplate(transactionManager).execute(status -> postJpaRepository.findAll().stream()
+            .filter(post -> post.getAuthor().getId().equals(user.getId()))
+            .count());
+        assertThat(postCount).isEqualTo(1);
+    }
+
+    private String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate;
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT DATABASE()", String.class);
+    }
+
+    private String replicaDatabase() {
+        return new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""))
+            .queryForObject("SELECT DATABASE()", String.class);
+    }
+
+    private String jwt() {
+        String cookie = jwtUtils.generateJwtCookie(EMAIL, new Date());
+        return cookie.substring("jwt=".length(), cookie.indexOf(';'));
+    }
+
+    private MockHttpServletRequest request(String method, String jwt) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/post");
+        request.setCookies(new Cookie("jwt", jwt));
+        return request;
+    }
+}
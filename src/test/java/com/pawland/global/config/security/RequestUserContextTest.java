@@ -0,0 +1,121 @@
+package com.pawland.global.config.security;
+
+import com.pawland.user.domain.User;
+import com.pawland.user.exception.UserException;
+import com.pawland.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RequestUserContextTest {
+
+    private UserRepository userRepository;
+    private RequestUserContext requestUserContext;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        requestUserContext = new RequestUserContext(userRepository);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @DisplayName("한 요청 안에서 같은 사용자는 한 번만 조회한다.")
+    @Test
+    void getUser1() {
+        // given
+        User user = createUser(1L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        // when
+        User first = requestUserContext.getUser(1L);
+        User second = requestUserContext.getUserOrGuest(1L);
+
+        // then
+        assertThat(first).isSameAs(user);
+        assertThat(second).isSameAs(user);
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @DisplayName("인증 필터에서 등록한 사용자는 다시 조회하지 않는다.")
+    @Test
+    void getUser2() {
+        // given
+        User user = createUser(1L);
+        requestUserContext.remember(user);
+
+        // when
+        User result = requestUserContext.getUser(1L);
+
+        // then
+        assertThat(result).isSameAs(user);
+        verify(userRepository, never()).findById(any());
+    }
+
+    @DisplayName("존재하지 않는 사용자를 조회하면 예외를 던진다.")
+    @Test
+    void getUser3() {
+        // given
+        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // expected
+        assertThatThrownBy(() -> requestUserContext.getUser(1L))
+            .isInstanceOf(UserException.NotFoundUser.class);
+    }
+
+    @DisplayName("비회원은 한 요청 안에서 같은 게스트 사용자를 받는다.")
+    @Test
+    void getUserOrGuest1() {
+        // when
+        User first = requestUserContext.getUserOrGuest(null);
+        User second = requestUserContext.getUserOrGuest(null);
+
+        // then
+        assertThat(first.getEmail()).isEqualTo("guest");
+        assertThat(first).isSameAs(second);
+        verify(userRepository, never()).findById(any());
+    }
+
+    @DisplayName("요청 밖에서는 캐시 없이 매번 조회한다.")
+    @Test
+    void getUserOrGuest2() {
+        // given
+        RequestContextHolder.resetRequestAttributes();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(createUser(1L)));
+
+        // when
+        requestUserContext.getUser(1L);
+        requestUserContext.getUser(1L);
+
+        // then
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    private User createUser(Long id) {
+        return User.builder()
+            .id(id)
+            .email("test@test.com")
+            .password("1234")
+            .nickname("닉네임")
+            .build();
+    }
+}
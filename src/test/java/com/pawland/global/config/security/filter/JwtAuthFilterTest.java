@@ -0,0 +1,142 @@
+package com.pawland.global.config.security.filter;
+
+import com.pawland.global.config.security.JwtUtils;
+import com.pawland.global.config.security.domain.UserPrincipal;
+import jakarta.servlet.http.Cookie;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Slf4j
+class JwtAuthFilterTest {
+
+    private static final int ITERATIONS = 100_000;
+
+    private JwtUtils jwtUtils;
+    private JwtAuthFilter jwtAuthFilter;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtils = mock(JwtUtils.class);
+        when(jwtUtils.findJwt(any())).thenCallRealMethod();
+        jwtAuthFilter = new JwtAuthFilter(jwtUtils);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("JWT 쿠키가 없으면 토큰을 검사하지 않고 공유 게스트 인증을 사용한다.")
+    @Test
+    void doFilter1() throws Exception {
+        // when
+        jwtAuthFilter.doFilter(new MockHttpServletRequest("GET", "/api/product"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isSameAs(JwtAuthFilter.GUEST_AUTHENTICATION);
+        verify(jwtUtils, never()).getAuthentication(anyString());
+    }
+
+    @DisplayName("올바르지 않은 JWT 는 게스트로 처리한다.")
+    @Test
+    void doFilter2() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/product");
+        request.setCookies(new Cookie("jwt", "invalid"));
+        when(jwtUtils.getAuthentication("invalid")).thenThrow(new BadCredentialsException("올바르지 않은 JWT 토큰 정보입니다."));
+
+        // when
+        jwtAuthFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isSameAs(JwtAuthFilter.GUEST_AUTHENTICATION);
+    }
+
+    @DisplayName("문서 경로는 필터를 건너뛴다.")
+    @Test
+    void doFilter3() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/swagger-ui/index.html");
+        request.setCookies(new Cookie("jwt", "token"));
+
+        // when
+        jwtAuthFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(jwtUtils, never()).getAuthentication(anyString());
+    }
+
+    @DisplayName("공유 게스트 인증은 자격 증명을 지워도 바뀌지 않는다.")
+    @Test
+    void guestAuthentication() {
+        // given
+        UserPrincipal guest = (UserPrincipal) JwtAuthFilter.GUEST_AUTHENTICATION.getPrincipal();
+
+        // when
+        ((AnonymousAuthenticationToken) JwtAuthFilter.GUEST_AUTHENTICATION).eraseCredentials();
+
+        // then
+        assertThat(guest).isSameAs(UserPrincipal.GUEST);
+        assertThat(guest.getUserId()).isEqualTo(0L);
+        assertThat(guest.getUsername()).isEqualTo("guest");
+        assertThat(guest.getPassword()).isEqualTo("guest");
+        assertThat(guest.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_GUEST");
+    }
+
+    @DisplayName("비회원 요청 한 건당 필터 처리 비용을 측정한다.")
+    @Test
+    void benchmark() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/product");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        long cpuNanos = cpuNanosPerRequest(request, response);
+
+        // then
+        log.info("[JWT 필터 비회원 요청] 요청당 CPU = {}ns", cpuNanos);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isSameAs(JwtAuthFilter.GUEST_AUTHENTICATION);
+    }
+
+    private long cpuNanosPerRequest(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < ITERATIONS; i++) {
+            filterOnce(request, response);
+        }
+        long start = threadMXBean.getCurrentThreadCpuTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            filterOnce(request, response);
+        }
+        return (threadMXBean.getCurrentThreadCpuTime() - start) / ITERATIONS;
+    }
+
+    // OncePerRequestFilter 가 같은 요청을 다시 거르지 않도록 실행 표시를 지움
+    private void filterOnce(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception {
+        request.clearAttributes();
+        jwtAuthFilter.doFilter(request, response, new MockFilterChain());
+    }
+}
@@ -0,0 +1,89 @@
+package com.pawland.global.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicationRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = createNode("primary");
+        DataSource replica = createNode("replica");
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicationRoutingDataSource(primary, List.of(replica)));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicationContext.clear();
+    }
+
+    @DisplayName("읽기 전용 트랜잭션은 replica 로 보낸다.")
+    @Test
+    void route1() {
+        // when
+        String node = readOnlyTransaction.execute(status -> currentNode());
+
+        // then
+        assertThat(node).isEqualTo("replica");
+    }
+
+    @DisplayName("쓰기 트랜잭션과 트랜잭션 밖의 쿼리는 primary 로 보낸다.")
+    @Test
+    void route2() {
+        // when
+        String inTransaction = writeTransaction.execute(status -> currentNode());
+        String withoutTransaction = currentNode();
+
+        // then
+        assertThat(inTransaction).isEqualTo("primary");
+        assertThat(withoutTransaction).isEqualTo("primary");
+    }
+
+    @DisplayName("최근에 쓰기를 한 요청은 읽기 전용 트랜잭션도 primary 로 보낸다.")
+    @Test
+    void route3() {
+        // given
+        ReplicationContext.pinPrimary();
+
+        // when
+        String node = readOnlyTransaction.execute(status -> currentNode());
+
+        // then
+        assertThat(node).isEqualTo("primary");
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private DataSource createNode(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        template.update("DELETE FROM node");
+        template.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,87 @@
+package com.pawland.global.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pawland.post.domain.Region;
+import com.pawland.post.dto.response.PostSummaryResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 기본 Jackson 직렬화 + 서버 gzip 압축 경로의 요청당 바이트, CPU 비용을 기록
+@Slf4j
+class PageResponseCompressionTest {
+
+    private static final int ITERATIONS = 500;
+    private static final int MIN_RESPONSE_SIZE = 1024;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @DisplayName("목록 응답의 크기, 압축 후 크기, 요청당 직렬화와 압축 CPU 시간을 기록한다.")
+    @Test
+    void benchmark() throws Exception {
+        for (int size : new int[]{8, 20, 100}) {
+            // given
+            Page<PostSummaryResponse> page = createPage(size);
+
+            // when
+            byte[] body = objectMapper.writeValueAsBytes(page);
+            byte[] gzipped = gzip(body);
+            long serializeCpuNanos = cpuNanosPerRequest(() -> objectMapper.writeValueAsBytes(page));
+            long gzipCpuNanos = cpuNanosPerRequest(() -> gzip(body));
+
+            // then
+            log.info("[목록 응답 {}건] 원본 = {}B, gzip = {}B, 직렬화 CPU = {}us, gzip CPU = {}us, 압축 대상 = {}",
+                size, body.length, gzipped.length, serializeCpuNanos / 1_000, gzipCpuNanos / 1_000, body.length >= MIN_RESPONSE_SIZE);
+            assertThat(gzipped.length).isLessThan(body.length);
+        }
+    }
+
+    private long cpuNanosPerRequest(Work work) throws IOException {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < ITERATIONS; i++) {
+            work.run();
+        }
+        long start = threadMXBean.getCurrentThreadCpuTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            work.run();
+        }
+        return (threadMXBean.getCurrentThreadCpuTime() - start) / ITERATIONS;
+    }
+
+    private byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    private Page<PostSummaryResponse> createPage(int size) {
+        List<PostSummaryResponse> content = new ArrayList<>();
+        for (long i = 0; i < size; i++) {
+            content.add(new PostSummaryResponse(i, "제목" + i, "https://image.test/" + i + ".png", Region.SEOUL, i * 10,
+                i % 7, "작성자" + (i % 7), "https://image.test/profile.png", i % 5, i % 3, LocalDateTime.of(2024, 5, 1, 12, 0)));
+        }
+        return new PageImpl<>(content, PageRequest.of(0, size), 1_000);
+    }
+
+    @FunctionalInterface
+    private interface Work {
+        Object run() throws IOException;
+    }
+}
@@ -0,0 +1,79 @@
+package com.pawland.global.redis;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("local")
+class DistributedLockTest {
+
+    private static final String LOCK_NAME = "test-job";
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @Autowired
+    private DistributedLock distributedLock;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete("lock:" + LOCK_NAME);
+    }
+
+    @DisplayName("다른 서버가 락을 잡고 있으면 작업을 실행하지 않는다.")
+    @Test
+    void runExclusively1() {
+        // given
+        String token = distributedLock.tryLock(LOCK_NAME, TTL);
+        AtomicInteger runs = new AtomicInteger();
+
+        // when
+        boolean ran = distributedLock.runExclusively(LOCK_NAME, TTL, runs::incrementAndGet);
+
+        // then
+        assertThat(token).isNotNull();
+        assertThat(ran).isFalse();
+        assertThat(runs.get()).isZero();
+    }
+
+    @DisplayName("작업이 끝나면 락을 풀어 다음 실행이 가능하다.")
+    @Test
+    void runExclusively2() {
+        // given
+        AtomicInteger runs = new AtomicInteger();
+
+        // when
+        boolean first = distributedLock.runExclusively(LOCK_NAME, TTL, runs::incrementAndGet);
+        boolean second = distributedLock.runExclusively(LOCK_NAME, TTL, runs::incrementAndGet);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(runs.get()).isEqualTo(2);
+    }
+
+    @DisplayName("다른 토큰으로는 락을 풀 수 없다.")
+    @Test
+    void unlock1() {
+        // given
+        String token = distributedLock.tryLock(LOCK_NAME, TTL);
+
+        // when
+        distributedLock.unlock(LOCK_NAME, "other-token");
+
+        // then
+        assertThat(token).isNotNull();
+        assertThat(distributedLock.tryLock(LOCK_NAME, TTL)).isNull();
+    }
+}
@@ -0,0 +1,100 @@
+package com.pawland.global.redis;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("local")
+class NamespacedRedisStoreTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private NamespacedRedisStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new NamespacedRedisStore(redisTemplate, "test:store");
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.deleteAll();
+        redisTemplate.delete("test:other:key");
+    }
+
+    @DisplayName("여러 값을 파이프라인으로 저장하고 한 번에 조회한다.")
+    @Test
+    void multiSet1() {
+        // given
+        store.multiSet(Map.of("a", "1", "b", "2"), TTL);
+
+        // when
+        List<String> result = store.multiGet(List.of("a", "b", "c"));
+
+        // then
+        assertThat(result).containsExactly("1", "2", null);
+        assertThat(redisTemplate.getExpire("test:store:a")).isPositive();
+    }
+
+    @DisplayName("값을 조회하면서 삭제한다.")
+    @Test
+    void getAndDelete1() {
+        // given
+        store.set("code", "123456", TTL);
+
+        // when
+        String first = store.getAndDelete("code");
+        String second = store.getAndDelete("code");
+
+        // then
+        assertThat(first).isEqualTo("123456");
+        assertThat(second).isNull();
+    }
+
+    @DisplayName("저장된 값이 기대값과 같을 때만 값을 교체한다.")
+    @Test
+    void compareAndSet1() {
+        // given
+        store.set("email", "123456", TTL);
+
+        // when
+        boolean wrong = store.compareAndSet("email", "111111", "ok", TTL);
+        boolean matched = store.compareAndSet("email", "123456", "ok", TTL);
+
+        // then
+        assertThat(wrong).isFalse();
+        assertThat(matched).isTrue();
+        assertThat(store.get("email")).isEqualTo("ok");
+    }
+
+    @DisplayName("namespace 삭제 시 다른 namespace 의 키는 남아있다.")
+    @Test
+    void deleteAll1() {
+        // given
+        store.multiSet(Map.of("a", "1", "b", "2"), TTL);
+        redisTemplate.opsForValue().set("test:other:key", "value", TTL);
+
+        // when
+        long deleted = store.deleteAll();
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(store.get("a")).isNull();
+        assertThat(redisTemplate.opsForValue().get("test:other:key")).isEqualTo("value");
+    }
+}
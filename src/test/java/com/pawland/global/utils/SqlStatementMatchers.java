@@ -0,0 +1,22 @@
+package com.pawland.global.utils;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static com.pawland.global.metrics.SqlStatementHeaderAdvice.STATEMENT_COUNT_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 응답 헤더의 SQL 개수로 엔드포인트별 쿼리 수 상한을 검증
+public class SqlStatementMatchers {
+
+    public static ResultMatcher maxSqlStatements(int max) {
+        return result -> {
+            String count = result.getResponse().getHeader(STATEMENT_COUNT_HEADER);
+            assertThat(count)
+                .as("SQL 개수 헤더가 없습니다.")
+                .isNotNull();
+            assertThat(Integer.parseInt(count))
+                .as("실행된 SQL 개수")
+                .isLessThanOrEqualTo(max);
+        };
+    }
+}
@@ -3,6 +3,8 @@ package com.pawland.image.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pawland.global.config.TestSecurityConfig;
 import com.pawland.global.utils.PawLandMockUser;
+import com.pawland.image.dto.request.ImageBatchUploadRequest;
+import com.pawland.image.dto.request.ImageFileRequest;
 import com.pawland.image.dto.request.ImageUploadRequest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,6 +15,8 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -92,4 +96,47 @@ class ImageControllerTest {
             .andExpect(jsonPath("$.message").value("파일명을 확인해주세요."));
 
     }
+
+    @DisplayName("여러 파일을 요청하면 파일별 Presigned Url을 발급한다.")
+    @PawLandMockUser
+    @Test
+    void uploadImages1() throws Exception {
+        // given
+        ImageBatchUploadRequest request = new ImageBatchUploadRequest(List.of(
+            new ImageFileRequest("thumbnail.png", "image/png", 1024L),
+            new ImageFileRequest("detail.jpg", "image/jpeg", 2048L)
+        ));
+
+        String json = objectMapper.writeValueAsString(request);
+
+        // expected
+        mockMvc.perform(post("/api/image/batch")
+                .contentType(APPLICATION_JSON)
+                .content(json)
+            )
+            .andDo(print())
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.presignedUrls.length()").value(2))
+            .andExpect(jsonPath("$.presignedUrls[0].fileName").value("thumbnail.png"))
+            .andExpect(jsonPath("$.presignedUrls[1].presignedUrl").isString());
+    }
+
+    @DisplayName("요청 파일 목록이 비어있으면 에러 메시지를 출력한다.")
+    @PawLandMockUser
+    @Test
+    void uploadImages2() throws Exception {
+        // given
+        ImageBatchUploadRequest request = new ImageBatchUploadRequest(List.of());
+
+        String json = objectMapper.writeValueAsString(request);
+
+        // expected
+        mockMvc.perform(post("/api/image/batch")
+                .contentType(APPLICATION_JSON)
+                .content(json)
+            )
+            .andDo(print())
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("업로드할 파일을 확인해주세요."));
+    }
 }
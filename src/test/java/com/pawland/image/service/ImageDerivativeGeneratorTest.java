@@ -0,0 +1,138 @@
+package com.pawland.image.service;
+
+import com.pawland.global.config.AwsConfig;
+import com.pawland.image.domain.ImageSize;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Testcontainers(disabledWithoutDocker = true)
+class ImageDerivativeGeneratorTest {
+
+    private static final String BUCKET = "pawland-test";
+
+    @Container
+    private static final MinIOContainer minio = new MinIOContainer("minio/minio:RELEASE.2024-01-16T16-07-38Z");
+
+    private static S3Client s3Client;
+    private static ImageDerivativeGenerator imageDerivativeGenerator;
+
+    @BeforeAll
+    static void setUp() {
+        s3Client = S3Client.builder()
+            .endpointOverride(URI.create(minio.getS3URL()))
+            .credentialsProvider(StaticCredentialsProvider.create(
+                AwsBasicCredentials.create(minio.getUserName(), minio.getPassword())
+            ))
+            .region(Region.US_EAST_1)
+            .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+            .build();
+        s3Client.createBucket(builder -> builder.bucket(BUCKET));
+
+        AwsConfig awsConfig = new AwsConfig(minio.getUserName(), minio.getPassword(), BUCKET, minio.getS3URL());
+        imageDerivativeGenerator = new ImageDerivativeGenerator(s3Client, awsConfig);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        s3Client.close();
+    }
+
+    @DisplayName("원본 이미지로 썸네일, 목록, 상세 사이즈의 JPEG 이미지를 만든다.")
+    @Test
+    void generate1() throws Exception {
+        // given
+        String originalUrl = upload("products/original.png", new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_ARGB));
+
+        // when
+        Map<ImageSize, String> result = imageDerivativeGenerator.generate(originalUrl);
+
+        // then
+        assertThat(result).containsOnlyKeys(ImageSize.values());
+        assertThat(read("derivatives/thumbnail/products/original.jpg").getWidth()).isEqualTo(200);
+        assertThat(read("derivatives/list/products/original.jpg").getWidth()).isEqualTo(480);
+        BufferedImage detail = read("derivatives/detail/products/original.jpg");
+        assertThat(detail.getWidth()).isEqualTo(1280);
+        assertThat(detail.getHeight()).isEqualTo(640);
+        assertThat(result.get(ImageSize.LIST)).endsWith("derivatives/list/products/original.jpg");
+    }
+
+    @DisplayName("원본이 목표 크기보다 작으면 확대하지 않는다.")
+    @Test
+    void generate2() throws Exception {
+        // given
+        String originalUrl = upload("small.png", new BufferedImage(100, 50, BufferedImage.TYPE_INT_RGB));
+
+        // when
+        imageDerivativeGenerator.generate(originalUrl);
+
+        // then
+        assertThat(read("derivatives/detail/small.jpg").getWidth()).isEqualTo(100);
+        assertThat(read("derivatives/thumbnail/small.jpg").getWidth()).isEqualTo(100);
+    }
+
+    @DisplayName("가로, 세로를 곱한 픽셀 수가 제한을 넘는 이미지는 디코딩하지 않고 거절한다.")
+    @Test
+    void generate3() throws Exception {
+        // given
+        String originalUrl = upload("huge.png", new BufferedImage(6000, 5000, BufferedImage.TYPE_BYTE_BINARY));
+
+        // expected
+        assertThatThrownBy(() -> imageDerivativeGenerator.generate(originalUrl))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("이미지 크기가 너무 큽니다.");
+    }
+
+    @DisplayName("http 주소가 아니거나 이미 변환된 이미지는 변환 대상이 아니다.")
+    @Test
+    void supports1() {
+        // expected
+        assertThat(imageDerivativeGenerator.supports("이미지.png")).isFalse();
+        assertThat(imageDerivativeGenerator.supports(null)).isFalse();
+        assertThat(imageDerivativeGenerator.supports(minio.getS3URL() + "/" + BUCKET + "/derivatives/list/a.jpg")).isFalse();
+        assertThat(imageDerivativeGenerator.supports(minio.getS3URL() + "/" + BUCKET + "/a.png")).isTrue();
+    }
+
+    @DisplayName("설정된 버킷이 아닌 호스트나 버킷의 주소는 변환 대상이 아니다.")
+    @Test
+    void supports2() {
+        // expected
+        assertThat(imageDerivativeGenerator.supports("https://example.com/" + BUCKET + "/a.png")).isFalse();
+        assertThat(imageDerivativeGenerator.supports(minio.getS3URL() + "/other-bucket/a.png")).isFalse();
+        assertThat(imageDerivativeGenerator.supports(minio.getS3URL() + "/" + BUCKET + "/")).isFalse();
+        assertThat(imageDerivativeGenerator.supports(minio.getS3URL() + "/" + BUCKET + "/../other-bucket/a.png")).isFalse();
+    }
+
+    private String upload(String key, BufferedImage image) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+        s3Client.putObject(builder -> builder.bucket(BUCKET).key(key), RequestBody.fromBytes(outputStream.toByteArray()));
+        return minio.getS3URL() + "/" + BUCKET + "/" + key;
+    }
+
+    private BufferedImage read(String key) throws Exception {
+        ResponseBytes<GetObjectResponse> bytes = s3Client.getObjectAsBytes(builder -> builder.bucket(BUCKET).key(key));
+        return ImageIO.read(bytes.asInputStream());
+    }
+}
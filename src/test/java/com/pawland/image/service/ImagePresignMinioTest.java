@@ -0,0 +1,116 @@
+package com.pawland.image.service;
+
+import com.pawland.global.config.AwsConfig;
+import com.pawland.image.dto.request.ImageFileRequest;
+import com.pawland.image.dto.response.PresignedImageResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 로컬 S3 호환 서버(MinIO)에 실제로 업로드해서 서명 조건을 확인
+@Testcontainers(disabledWithoutDocker = true)
+class ImagePresignMinioTest {
+
+    private static final String BUCKET = "pawland-test";
+
+    @Container
+    private static final MinIOContainer minio = new MinIOContainer("minio/minio:RELEASE.2024-01-16T16-07-38Z");
+
+    private static S3Presigner s3Presigner;
+    private static ImageService imageService;
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @BeforeAll
+    static void setUp() {
+        URI endpoint = URI.create(minio.getS3URL());
+        StaticCredentialsProvider credentials = StaticCredentialsProvider.create(
+            AwsBasicCredentials.create(minio.getUserName(), minio.getPassword())
+        );
+        S3Configuration pathStyle = S3Configuration.builder().pathStyleAccessEnabled(true).build();
+
+        try (S3Client s3Client = S3Client.builder()
+            .endpointOverride(endpoint)
+            .credentialsProvider(credentials)
+            .region(Region.US_EAST_1)
+            .serviceConfiguration(pathStyle)
+            .build()) {
+            s3Client.createBucket(builder -> builder.bucket(BUCKET));
+        }
+
+        s3Presigner = S3Presigner.builder()
+            .endpointOverride(endpoint)
+            .credentialsProvider(credentials)
+            .region(Region.US_EAST_1)
+            .serviceConfiguration(pathStyle)
+            .build();
+        AwsConfig awsConfig = new AwsConfig(minio.getUserName(), minio.getPassword(), BUCKET, minio.getS3URL());
+        imageService = new ImageService(awsConfig, s3Presigner);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        s3Presigner.close();
+    }
+
+    @DisplayName("일괄 발급한 Presigned Url로 요청한 형식과 크기의 파일을 업로드한다.")
+    @Test
+    void upload1() throws Exception {
+        // given
+        byte[] thumbnail = new byte[128];
+        byte[] detail = new byte[256];
+        List<PresignedImageResponse> urls = imageService.getPresignedUrls(List.of(
+            new ImageFileRequest("thumbnail.png", "image/png", (long) thumbnail.length),
+            new ImageFileRequest("detail.jpg", "image/jpeg", (long) detail.length)
+        ));
+
+        // when
+        int thumbnailStatus = put(urls.get(0).getPresignedUrl(), "image/png", thumbnail);
+        int detailStatus = put(urls.get(1).getPresignedUrl(), "image/jpeg", detail);
+
+        // then
+        assertThat(thumbnailStatus).isEqualTo(200);
+        assertThat(detailStatus).isEqualTo(200);
+    }
+
+    @DisplayName("요청과 다른 형식의 파일은 업로드가 거부된다.")
+    @Test
+    void upload2() throws Exception {
+        // given
+        byte[] file = new byte[128];
+        List<PresignedImageResponse> urls = imageService.getPresignedUrls(List.of(
+            new ImageFileRequest("thumbnail.png", "image/png", (long) file.length)
+        ));
+
+        // when
+        int status = put(urls.get(0).getPresignedUrl(), "text/html", file);
+
+        // then
+        assertThat(status).isEqualTo(403);
+    }
+
+    private int put(String url, String contentType, byte[] body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+            .header("Content-Type", contentType)
+            .PUT(HttpRequest.BodyPublishers.ofByteArray(body))
+            .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
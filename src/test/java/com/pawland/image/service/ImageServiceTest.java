@@ -1,5 +1,7 @@
 package com.pawland.image.service;
 
+import com.pawland.image.dto.request.ImageFileRequest;
+import com.pawland.image.dto.response.PresignedImageResponse;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -7,6 +9,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
@@ -49,4 +53,51 @@ class ImageServiceTest {
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessage("파일명을 확인해주세요.");
     }
+
+    @DisplayName("Presigned Url을 여러 번 발급해도 공유 presigner가 닫히지 않는다.")
+    @Test
+    void getPresignedUrl3() {
+        // when
+        String first = imageService.getPresignedUrl("test1");
+        String second = imageService.getPresignedUrl("test2");
+
+        // then
+        assertThat(first).contains("test1");
+        assertThat(second).contains("test2");
+    }
+
+    @DisplayName("여러 파일의 Presigned Url을 요청 순서대로 한 번에 발급한다.")
+    @Test
+    void getPresignedUrls1() {
+        // given
+        List<ImageFileRequest> files = List.of(
+            new ImageFileRequest("thumbnail.png", "image/png", 1024L),
+            new ImageFileRequest("detail.jpg", "image/jpeg", 2048L)
+        );
+
+        // when
+        List<PresignedImageResponse> result = imageService.getPresignedUrls(files);
+
+        // then
+        assertThat(result).hasSize(2)
+            .extracting(PresignedImageResponse::getFileName)
+            .containsExactly("thumbnail.png", "detail.jpg");
+        assertThat(result.get(0).getPresignedUrl()).contains("content-type");
+    }
+
+    @DisplayName("지원하지 않는 형식이나 허용 크기를 넘는 파일이 있으면 예외를 던진다.")
+    @Test
+    void getPresignedUrls2() {
+        // given
+        List<ImageFileRequest> wrongType = List.of(new ImageFileRequest("a.exe", "application/octet-stream", 1024L));
+        List<ImageFileRequest> tooLarge = List.of(new ImageFileRequest("a.png", "image/png", 11 * 1024 * 1024L));
+
+        // expected
+        Assertions.assertThatThrownBy(() -> imageService.getPresignedUrls(wrongType))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("지원하지 않는 파일 형식입니다.");
+        Assertions.assertThatThrownBy(() -> imageService.getPresignedUrls(tooLarge))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("파일 크기는 10MB 이하만 가능합니다.");
+    }
 }
@@ -0,0 +1,125 @@
+package com.pawland.mail.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.pawland.global.config.MailConfig;
+import com.pawland.mail.domain.OutboxMail;
+import com.pawland.mail.repository.MailOutboxRepository;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("local")
+class MailOutboxServiceTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @DynamicPropertySource
+    static void mailProperties(DynamicPropertyRegistry registry) {
+        registry.add("gmail.host", () -> "localhost");
+        registry.add("gmail.port", () -> ServerSetupTest.SMTP.getPort());
+        registry.add("gmail.smtp-properties.auth", () -> false);
+        registry.add("gmail.smtp-properties.starttls-enable", () -> false);
+        registry.add("gmail.smtp-properties.starttls-required", () -> false);
+    }
+
+    @Autowired
+    private MailOutboxService mailOutboxService;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Autowired
+    private MailConfig mailConfig;
+
+    @DisplayName("대기열에 쌓인 메일은 워커가 한 번의 연결로 모아서 전송한다.")
+    @Test
+    void dispatch1() {
+        // given
+        mailOutboxService.enqueue(createMail("first@example.com"));
+        mailOutboxService.enqueue(createMail("second@example.com"));
+
+        // when
+        mailOutboxService.dispatch();
+
+        // then
+        assertThat(greenMail.waitForIncomingEmail(5_000, 2)).isTrue();
+        List<String> recipients = Arrays.stream(greenMail.getReceivedMessages())
+            .map(this::firstRecipient)
+            .toList();
+        assertThat(recipients).contains("first@example.com", "second@example.com");
+    }
+
+    @DisplayName("전송에 계속 실패한 메일은 최대 횟수 이후 Dead Letter 대기열로 옮겨진다.")
+    @Test
+    void deliver1() {
+        // given
+        JavaMailSenderImpl unreachableSender = new JavaMailSenderImpl();
+        unreachableSender.setHost("localhost");
+        unreachableSender.setPort(1);
+        MailOutboxService failingService = new MailOutboxService(mailOutboxRepository, unreachableSender, mailConfig);
+        OutboxMail mail = createMail("fail@example.com");
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            failingService.deliver(List.of(mail));
+        }
+        failingService.shutdown();
+
+        // then
+        assertThat(mail.getAttempts()).isEqualTo(5);
+        assertThat(mailOutboxRepository.findDeadLetters(100))
+            .extracting(OutboxMail::getId)
+            .contains(mail.getId());
+    }
+
+    @DisplayName("꺼낸 메일은 ack 전까지 처리중으로 남고, 임대가 만료되면 다시 발송 대기열로 돌아간다.")
+    @Test
+    void recoverExpired1() {
+        // given
+        OutboxMail mail = createMail("lease@example.com");
+        mailOutboxRepository.push(mail);
+        long now = System.currentTimeMillis();
+        List<OutboxMail> popped = mailOutboxRepository.pop(1, now - 1);
+
+        // when
+        int recovered = mailOutboxRepository.recoverExpired(now, 100);
+        List<OutboxMail> poppedAgain = mailOutboxRepository.pop(1, now + 60_000);
+        poppedAgain.forEach(mailOutboxRepository::ack);
+
+        // then
+        assertThat(popped).extracting(OutboxMail::getId).containsExactly(mail.getId());
+        assertThat(recovered).isGreaterThanOrEqualTo(1);
+        assertThat(poppedAgain).extracting(OutboxMail::getId).containsExactly(mail.getId());
+    }
+
+    private OutboxMail createMail(String to) {
+        return OutboxMail.builder()
+            .to(to)
+            .subject("PAWLAND 테스트")
+            .content("<p>테스트</p>")
+            .build();
+    }
+
+    private String firstRecipient(MimeMessage message) {
+        try {
+            return message.getAllRecipients()[0].toString();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.pawland.mail.template;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+import java.util.Locale;
+import java.util.Map;
+
+import static com.pawland.mail.template.MailTemplateType.VERIFICATION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MailTemplateEngineTest {
+
+    private MailTemplateEngine mailTemplateEngine;
+
+    @BeforeEach
+    void setUp() {
+        mailTemplateEngine = new MailTemplateEngine();
+        mailTemplateEngine.load();
+    }
+
+    @DisplayName("인증 메일 템플릿에 인증번호를 채워 렌더링한다.")
+    @Test
+    void render1() {
+        // when
+        RenderedMail result = mailTemplateEngine.render(VERIFICATION, Locale.KOREA, Map.of("code", "123456"));
+
+        // then
+        assertThat(result.getSubject()).isEqualTo("PAWLAND 이메일 인증");
+        assertThat(result.getContent()).contains("<h2>123456</h2>");
+        assertThat(result.getContent()).doesNotContain("{{");
+    }
+
+    @DisplayName("요청 언어에 맞는 템플릿이 있으면 해당 템플릿을 사용한다.")
+    @Test
+    void render2() {
+        // when
+        RenderedMail result = mailTemplateEngine.render(VERIFICATION, Locale.US, Map.of("code", "123456"));
+
+        // then
+        assertThat(result.getSubject()).isEqualTo("PAWLAND Email Verification");
+        assertThat(result.getContent()).contains("<h2>123456</h2>");
+    }
+
+    @DisplayName("요청 언어의 템플릿이 없으면 기본 템플릿을 사용한다.")
+    @Test
+    void render3() {
+        // when
+        RenderedMail result = mailTemplateEngine.render(VERIFICATION, Locale.JAPAN, Map.of("code", "123456"));
+
+        // then
+        assertThat(result.getSubject()).isEqualTo("PAWLAND 이메일 인증");
+    }
+
+    @DisplayName("요청 언어를 모르면 JVM 기본 언어와 관계없이 한국어 템플릿을 사용한다.")
+    @Test
+    void render6() {
+        // given
+        Locale jvmDefault = Locale.getDefault();
+        Locale.setDefault(Locale.US);
+
+        LocaleContextHolder.resetLocaleContext();
+
+        // when
+        RenderedMail result;
+        try {
+            result = mailTemplateEngine.render(VERIFICATION, Map.of("code", "123456"));
+        } finally {
+            Locale.setDefault(jvmDefault);
+        }
+
+        // then
+        assertThat(result.getSubject()).isEqualTo("PAWLAND 이메일 인증");
+    }
+
+    @DisplayName("템플릿 변수 값은 HTML 이스케이프 된다.")
+    @Test
+    void render4() {
+        // when
+        RenderedMail result = mailTemplateEngine.render(VERIFICATION, Locale.KOREA, Map.of("code", "<b>1</b>"));
+
+        // then
+        assertThat(result.getContent()).contains("&lt;b&gt;1&lt;/b&gt;");
+    }
+
+    @DisplayName("템플릿 변수 값이 누락되면 예외를 던진다.")
+    @Test
+    void render5() {
+        // expected
+        assertThatThrownBy(() -> mailTemplateEngine.render(VERIFICATION, Locale.KOREA, Map.of()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
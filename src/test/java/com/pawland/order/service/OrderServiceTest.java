@@ -1,24 +1,42 @@
 package com.pawland.order.service;
 
 import com.pawland.order.domain.OrderStatus;
+import com.pawland.order.dto.request.MyOrderRequest;
+import com.pawland.order.dto.response.OrderCursorResponse;
 import com.pawland.order.dto.response.OrderResponse;
+import com.pawland.order.dto.response.OrderSummaryResponse;
+import com.pawland.order.facade.OrderFacade;
+import com.pawland.order.respository.OrderJpaRepository;
+import com.pawland.product.domain.Product;
+import com.pawland.product.domain.Status;
 import com.pawland.product.dto.request.CreateProductRequest;
+import com.pawland.product.dto.request.SearchProductRequest;
 import com.pawland.product.dto.response.ProductResponse;
+import com.pawland.product.respository.ProductJpaRepository;
 import com.pawland.product.service.ProductService;
 import com.pawland.user.domain.LoginType;
 import com.pawland.user.domain.User;
 import com.pawland.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 @SpringBootTest
 @ActiveProfiles("local")
@@ -32,7 +50,21 @@ class OrderServiceTest {
     @Autowired
     ProductService productService;
 
+    @Autowired
+    OrderFacade orderFacade;
+
+    @Autowired
+    OrderJpaRepository orderJpaRepository;
+
+    @Autowired
+    ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
     private List<User> list = new ArrayList<>();
+    private final List<Long> committedOrderIds = new ArrayList<>();
+    private final List<Long> committedProductIds = new ArrayList<>();
 
     @BeforeEach
     void init() {
@@ -63,6 +95,17 @@ class OrderServiceTest {
 
     }
 
+    // 트랜잭션 없이 실행된 테스트는 커밋된 주문, 상품, 사용자를 직접 지움
+    @AfterEach
+    void tearDown() {
+        if (TestTransaction.isActive()) {
+            return;
+        }
+        orderJpaRepository.deleteAllByIdInBatch(committedOrderIds);
+        productJpaRepository.deleteAllByIdInBatch(committedProductIds);
+        userRepository.deleteAll(list);
+    }
+
     private ProductResponse createProduct(Long userId) {
         CreateProductRequest createProductRequest = new CreateProductRequest(
                 "사료",
@@ -178,6 +221,29 @@ class OrderServiceTest {
         Assertions.assertEquals(OrderStatus.DONE, oneOrderById.getOrderStatus());
     }
 
+    @DisplayName("거래가 끝난 상품은 판매 완료로 바뀌고 상품 목록에서 빠진다.")
+    @Test
+    @Transactional
+    void doneOrderBoth2() {
+        //given
+        User seller = list.get(0);
+        User buyer = list.get(1);
+        ProductResponse product = createProduct(seller.getId());
+        ProductResponse other = createProduct(seller.getId());
+        OrderResponse order = orderService.createOrder(buyer.getId(), product.getId());
+
+        //when
+        orderService.doneOrder(seller.getId(), order.getId());
+        orderService.doneOrder(buyer.getId(), order.getId());
+
+        //then
+        List<Long> productIds = productService.getProducts(buyer.getId(), SearchProductRequest.builder().page(1).size(8).build())
+                .getContent().stream().map(ProductResponse::getId).toList();
+        Assertions.assertEquals(Status.DONE, productJpaRepository.findById(product.getId()).orElseThrow().getStatus());
+        Assertions.assertFalse(productIds.contains(product.getId()));
+        Assertions.assertTrue(productIds.contains(other.getId()));
+    }
+
     @DisplayName("판매자의 주문 취소")
     @Test
     @Transactional
@@ -215,4 +281,133 @@ class OrderServiceTest {
         Assertions.assertEquals(OrderStatus.CANCEL, oneOrderById.getOrderStatus());
     }
 
+    @DisplayName("판매내역과 구매내역을 상태로 걸러서 목록 응답으로 조회한다.")
+    @Test
+    @Transactional
+    void getMyOrder1() {
+        //given
+        User seller = list.get(0);
+        User buyer = list.get(1);
+        ProductResponse product1 = createProduct(seller.getId());
+        ProductResponse product2 = createProduct(seller.getId());
+        OrderResponse order1 = orderService.createOrder(buyer.getId(), product1.getId());
+        OrderResponse order2 = orderService.createOrder(buyer.getId(), product2.getId());
+        orderService.cancelOrder(buyer.getId(), order2.getId());
+
+        //when
+        Page<OrderSummaryResponse> sells = orderService.getMyOrderSummaries(seller.getId(), new MyOrderRequest("판매내역", 1, 10));
+        Page<OrderSummaryResponse> buys = orderService.getMyOrderSummaries(seller.getId(), new MyOrderRequest("구매내역", 1, 10));
+        Page<OrderSummaryResponse> proceeding = orderService.getMyOrderSummaries(buyer.getId(), new MyOrderRequest(null, "진행중", 1, 10));
+
+        //then
+        Assertions.assertEquals(List.of(order1.getId(), order2.getId()), sells.map(OrderSummaryResponse::getId).getContent());
+        Assertions.assertEquals(0, buys.getTotalElements());
+        Assertions.assertEquals(List.of(order1.getId()), proceeding.map(OrderSummaryResponse::getId).getContent());
+        Assertions.assertEquals(buyer.getNickname(), sells.getContent().get(0).getBuyer().getNickname());
+        Assertions.assertEquals("상품", sells.getContent().get(0).getProduct().getName());
+    }
+
+    @DisplayName("기존 거래내역 조회는 상품, 판매자, 구매자를 모두 담은 주문 응답을 그대로 돌려준다.")
+    @Test
+    @Transactional
+    void getMyOrder2() {
+        //given
+        User seller = list.get(0);
+        User buyer = list.get(1);
+        OrderResponse order = orderService.createOrder(buyer.getId(), createProduct(seller.getId()).getId());
+
+        //when
+        Page<OrderResponse> buys = orderService.getMyOrder(buyer.getId(), new MyOrderRequest("구매내역", 1, 10));
+
+        //then
+        Assertions.assertEquals(1, buys.getTotalElements());
+        OrderResponse result = buys.getContent().get(0);
+        Assertions.assertEquals(order.getId(), result.getId());
+        Assertions.assertEquals(seller.getNickname(), result.getSeller().getNickname());
+        Assertions.assertEquals(buyer.getNickname(), result.getBuyer().getNickname());
+        Assertions.assertEquals("상품", result.getProduct().getName());
+        Assertions.assertEquals(OrderStatus.PROCEEDING, result.getOrderStatus());
+    }
+
+    @DisplayName("기존 거래내역 조회는 주문마다 상품의 찜 목록을 읽지 않는다.")
+    @Test
+    @Transactional
+    void getMyOrder3() {
+        //given
+        User seller = list.get(0);
+        User buyer = list.get(1);
+        Long productId = createProduct(seller.getId()).getId();
+        orderService.createOrder(buyer.getId(), productId);
+        entityManager.flush();
+        entityManager.clear();
+
+        //when
+        Page<OrderResponse> buys = orderService.getMyOrder(buyer.getId(), new MyOrderRequest("구매내역", 1, 10));
+
+        //then
+        Product product = entityManager.find(Product.class, productId);
+        Assertions.assertEquals(1, buys.getTotalElements());
+        Assertions.assertFalse(buys.getContent().get(0).getProduct().isWished());
+        Assertions.assertFalse(Hibernate.isInitialized(product.getWishProducts()));
+    }
+
+    @DisplayName("거래내역을 최신순 커서로 이어서 조회한다.")
+    @Test
+    @Transactional
+    void getMyOrderByCursor1() {
+        //given
+        User seller = list.get(0);
+        User buyer = list.get(1);
+        OrderResponse order1 = orderService.createOrder(buyer.getId(), createProduct(seller.getId()).getId());
+        OrderResponse order2 = orderService.createOrder(buyer.getId(), createProduct(seller.getId()).getId());
+
+        //when
+        OrderCursorResponse first = orderService.getMyOrderByCursor(buyer.getId(), "구매내역", null, null, 1);
+        OrderCursorResponse second = orderService.getMyOrderByCursor(buyer.getId(), "구매내역", null, first.getNextCursor(), 1);
+
+        //then
+        Assertions.assertEquals(order2.getId(), first.getOrders().get(0).getId());
+        Assertions.assertTrue(first.isHasNext());
+        Assertions.assertEquals(order1.getId(), second.getOrders().get(0).getId());
+    }
+
+    @DisplayName("판매자와 구매자가 동시에 거래 완료해도 두 확인이 모두 반영된다.")
+    @Test
+    void doneOrderConcurrently() throws Exception {
+        //given
+        User seller = list.get(0);
+        User buyer = list.get(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            for (int i = 0; i < 5; i++) {
+                ProductResponse product = createProduct(seller.getId());
+                committedProductIds.add(product.getId());
+                OrderResponse order = orderService.createOrder(buyer.getId(), product.getId());
+                committedOrderIds.add(order.getId());
+                CountDownLatch start = new CountDownLatch(1);
+
+                //when
+                Future<Boolean> sellerDone = executor.submit(() -> {
+                    start.await();
+                    return orderFacade.doneOrder(seller.getId(), order.getId());
+                });
+                Future<Boolean> buyerDone = executor.submit(() -> {
+                    start.await();
+                    return orderFacade.doneOrder(buyer.getId(), order.getId());
+                });
+                start.countDown();
+                sellerDone.get();
+                buyerDone.get();
+                OrderResponse oneOrderById = orderService.getOneOrderById(order.getId());
+
+                //then
+                Assertions.assertTrue(oneOrderById.isSellerCheck());
+                Assertions.assertTrue(oneOrderById.isBuyerCheck());
+                Assertions.assertEquals(OrderStatus.DONE, oneOrderById.getOrderStatus());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
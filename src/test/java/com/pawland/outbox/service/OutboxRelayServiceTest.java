@@ -0,0 +1,65 @@
+package com.pawland.outbox.service;
+
+import com.pawland.outbox.domain.DomainEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.pawland.outbox.domain.DomainEventType.REVIEW_CREATED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("local")
+@RecordApplicationEvents
+class OutboxRelayServiceTest {
+
+    private static final long AGGREGATE_ID = 987_654_321L;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxRelayService outboxRelayService;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @DisplayName("트랜잭션 안에서 저장한 이벤트를 리스너에 한 번만 전달한다.")
+    @Test
+    @Transactional
+    void relay1() {
+        // given
+        outboxService.append(REVIEW_CREATED, AGGREGATE_ID, Map.of("star", 4.5, "sellerId", 1L));
+
+        // when
+        outboxRelayService.relay();
+        outboxRelayService.relay();
+
+        // then
+        List<DomainEvent> events = applicationEvents.stream(DomainEvent.class)
+            .filter(event -> event.getAggregateId() == AGGREGATE_ID)
+            .toList();
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getType()).isEqualTo(REVIEW_CREATED);
+        assertThat(events.get(0).getLong("sellerId")).isEqualTo(1L);
+        assertThat(events.get(0).getPayload().get("star")).isEqualTo(4.5);
+    }
+
+    @DisplayName("트랜잭션 밖에서는 이벤트를 저장할 수 없다.")
+    @Test
+    void append1() {
+        // expected
+        assertThatThrownBy(() -> outboxService.append(REVIEW_CREATED, AGGREGATE_ID, Map.of()))
+            .isInstanceOf(IllegalTransactionStateException.class);
+    }
+}
@@ -1,10 +1,15 @@
 package com.pawland.post.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pawland.comment.dto.request.CreateCommentRequest;
+import com.pawland.comment.respository.CommentJpaRepository;
+import com.pawland.comment.service.CommentService;
 import com.pawland.global.config.TestSecurityConfig;
 import com.pawland.global.utils.PawLandMockUser;
 import com.pawland.post.dto.request.PostCreateRequest;
 import com.pawland.post.repository.PostJpaRepository;
+import com.pawland.post.service.PostService;
+import com.pawland.user.domain.User;
 import com.pawland.user.repository.UserRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,12 +19,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static com.pawland.global.utils.SqlStatementMatchers.maxSqlStatements;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -42,8 +53,18 @@ class PostControllerTest {
     @Autowired
     private PostJpaRepository postJpaRepository;
 
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentJpaRepository commentJpaRepository;
+
     @AfterEach
     void tearDown() {
+        commentJpaRepository.deleteAllInBatch();
         userRepository.deleteAll();
         postJpaRepository.deleteAllInBatch();
     }
@@ -137,4 +158,126 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.message").value("지역 값을 확인해주세요."));
         }
     }
+
+    @DisplayName("게시글 목록은 게시글 수와 상관없이 정해진 개수의 쿼리로 조회한다.")
+    @Test
+    void getPosts1() throws Exception {
+        // given
+        User user = User.builder()
+            .nickname("나는짱")
+            .email("midcon@naver.com")
+            .password("asd123123")
+            .build();
+        userRepository.save(user);
+        for (int i = 0; i < 5; i++) {
+            postService.uploadPost(user.getId(), PostCreateRequest.builder().title("제목" + i).region("서울").build());
+        }
+
+        // expected
+        mockMvc.perform(get("/api/post")
+                .param("page", "1")
+                .param("size", "10")
+            )
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(5))
+            .andExpect(maxSqlStatements(3));
+    }
+
+    @DisplayName("게시글 목록 조회 시 빈 지역 값은 지역 조건이 없는 것으로 보고, 없는 지역을 넘기면 400 으로 실패한다.")
+    @Test
+    void getPosts2() throws Exception {
+        // given
+        User user = User.builder()
+            .nickname("나는짱")
+            .email("midcon@naver.com")
+            .password("asd123123")
+            .build();
+        userRepository.save(user);
+        postService.uploadPost(user.getId(), PostCreateRequest.builder().title("서울 제목").region("서울").build());
+        postService.uploadPost(user.getId(), PostCreateRequest.builder().title("부산 제목").region("부산").build());
+
+        // expected
+        mockMvc.perform(get("/api/post")
+                .param("page", "1")
+                .param("size", "10")
+                .param("region", "")
+            )
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(2));
+
+        mockMvc.perform(get("/api/post")
+                .param("page", "1")
+                .param("size", "10")
+                .param("region", "서울", " ")
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(1))
+            .andExpect(jsonPath("$.content[0].title").value("서울 제목"));
+
+        mockMvc.perform(get("/api/post")
+                .param("page", "1")
+                .param("size", "10")
+                .param("region", "나는짱")
+            )
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("지역 값을 확인해주세요."));
+    }
+
+    @DisplayName("게시글이 바뀌지 않았으면 If-None-Match 요청에 본문 없이 304 로 응답하고 조회수를 올리지 않는다.")
+    @Test
+    void getPostById1() throws Exception {
+        // given
+        User user = User.builder()
+            .nickname("나는짱")
+            .email("midcon@naver.com")
+            .password("asd123123")
+            .build();
+        userRepository.save(user);
+        Long postId = postService.uploadPost(user.getId(), PostCreateRequest.builder().title("제목").region("서울").build()).getId();
+
+        String eTag = mockMvc.perform(get("/api/post/{postId}", postId))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        // expected
+        mockMvc.perform(get("/api/post/{postId}", postId)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            )
+            .andDo(print())
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+        assertThat(postJpaRepository.findById(postId).orElseThrow().getViews()).isEqualTo(1L);
+    }
+
+    @DisplayName("게시글 상세는 댓글 수, 댓글 작성자 수와 상관없이 정해진 개수의 쿼리로 조회한다.")
+    @Test
+    void getPostById2() throws Exception {
+        // given
+        User user = userRepository.save(User.builder()
+            .nickname("나는짱")
+            .email("midcon@naver.com")
+            .password("asd123123")
+            .build());
+        Long postId = postService.uploadPost(user.getId(), PostCreateRequest.builder().title("제목").region("서울").build()).getId();
+        for (int i = 0; i < 20; i++) {
+            User commenter = userRepository.save(User.builder()
+                .nickname("댓글러" + i)
+                .email("commenter" + i + "@naver.com")
+                .password("asd123123")
+                .build());
+            commentService.createComment(commenter.getId(), postId, new CreateCommentRequest("댓글" + i));
+        }
+
+        // expected
+        mockMvc.perform(get("/api/post/{postId}", postId))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.comments.length()").value(20))
+            .andExpect(maxSqlStatements(12));
+    }
 }
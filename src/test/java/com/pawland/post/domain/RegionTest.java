@@ -41,4 +41,23 @@ class RegionTest {
             assertThat(result).isEqualTo(Region.SEOUL);
         }
     }
+
+    @DisplayName("find 메서드 사용 시")
+    @Nested
+    class find {
+        @DisplayName("입력 값에 해당하는 Region을 반환한다.")
+        @Test
+        void find1() {
+            // expected
+            assertThat(Region.find("제주")).contains(Region.JEJU);
+        }
+
+        @DisplayName("설정 지역 이외의 지역이나 null 입력 시 빈 값을 반환한다.")
+        @Test
+        void find2() {
+            // expected
+            assertThat(Region.find("나는짱")).isEmpty();
+            assertThat(Region.find(null)).isEmpty();
+        }
+    }
 }
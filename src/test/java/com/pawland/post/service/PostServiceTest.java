@@ -3,6 +3,8 @@ package com.pawland.post.service;
 import com.pawland.post.domain.Post;
 import com.pawland.post.domain.Region;
 import com.pawland.post.dto.request.PostCreateRequest;
+import com.pawland.post.dto.request.PostSearchRequest;
+import com.pawland.post.dto.response.PostSummaryResponse;
 import com.pawland.post.repository.PostJpaRepository;
 import com.pawland.user.domain.User;
 import com.pawland.user.repository.UserRepository;
@@ -13,6 +15,10 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
@@ -34,6 +40,12 @@ class PostServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PostCountReconcileService postCountReconcileService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @AfterEach
     void tearDown() {
         userRepository.deleteAll();
@@ -151,4 +163,132 @@ class PostServiceTest {
                 .isInstanceOf(ConstraintViolationException.class);
         }
     }
+
+    @DisplayName("게시글 목록은 본문과 댓글 없이 요약 정보와 개수만 조회한다.")
+    @Test
+    void getPosts1() {
+        // given
+        User user = User.builder()
+            .nickname("나는짱")
+            .email("midcon@naver.com")
+            .password("asd123123")
+            .build();
+        userRepository.save(user);
+        postService.uploadPost(user.getId(), PostCreateRequest.builder().title("첫번째").region("서울").build());
+        postService.uploadPost(user.getId(), PostCreateRequest.builder().title("두번째").region("서울").build());
+
+        // when
+        Page<PostSummaryResponse> result = postService.getPosts(PostSearchRequest.builder().page(1).size(10).build());
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent())
+            .extracting(PostSummaryResponse::getTitle)
+            .containsExactlyInAnyOrder("첫번째", "두번째");
+        PostSummaryResponse summary = result.getContent().get(0);
+        assertThat(summary.getAuthor().getNickname()).isEqualTo("나는짱");
+        assertThat(summary.getRegion()).isEqualTo("서울");
+        assertThat(summary.getCommentCount()).isZero();
+        assertThat(summary.getRecommendCount()).isZero();
+    }
+
+    @DisplayName("게시글 추천, 추천 취소 시 추천 수 컬럼이 함께 변경된다.")
+    @Test
+    void recommend1() {
+        // given
+        User author = userRepository.save(User.builder()
+            .nickname("나는짱")
+            .email("midcon@naver.com")
+            .password("asd123123")
+            .build());
+        User reader = userRepository.save(User.builder()
+            .nickname("독자")
+            .email("reader@naver.com")
+            .password("asd123123")
+            .build());
+        Long postId = postService.uploadPost(author.getId(), PostCreateRequest.builder().title("제목").region("서울").build()).getId();
+
+        // when
+        postService.recommend(reader.getId(), postId);
+        Long afterRecommend = postJpaRepository.findById(postId).orElseThrow().getRecommendCount();
+        postService.cancelRecommend(reader.getId(), postId);
+        Long afterCancel = postJpaRepository.findById(postId).orElseThrow().getRecommendCount();
+
+        // then
+        assertThat(afterRecommend).isEqualTo(1L);
+        assertThat(afterCancel).isEqualTo(0L);
+    }
+
+    @DisplayName("같은 게시글을 여러 번 추천해도 한 번만 반영되고, 추천하지 않은 글의 추천 취소는 무시된다.")
+    @Test
+    void recommend2() {
+        // given
+        User user = userRepository.save(User.builder()
+            .nickname("나는짱")
+            .email("midcon@naver.com")
+            .password("asd123123")
+            .build());
+        Long postId = postService.uploadPost(user.getId(), PostCreateRequest.builder().title("제목").region("서울").build()).getId();
+
+        // when
+        postService.recommend(user.getId(), postId);
+        postService.recommend(user.getId(), postId);
+        Long afterRecommend = postJpaRepository.findById(postId).orElseThrow().getRecommendCount();
+        postService.cancelRecommend(user.getId(), postId);
+        postService.cancelRecommend(user.getId(), postId);
+        Long afterCancel = postJpaRepository.findById(postId).orElseThrow().getRecommendCount();
+
+        // then
+        assertThat(afterRecommend).isEqualTo(1L);
+        assertThat(afterCancel).isEqualTo(0L);
+    }
+
+    @DisplayName("카운터 보정 시 실제 추천 수로 다시 맞춘다.")
+    @Test
+    void reconcile1() {
+        // given
+        User user = userRepository.save(User.builder()
+            .nickname("나는짱")
+            .email("midcon@naver.com")
+            .password("asd123123")
+            .build());
+        Long postId = postService.uploadPost(user.getId(), PostCreateRequest.builder().title("제목").region("서울").build()).getId();
+        postJpaRepository.addRecommendCount(postId, 5);
+        postJpaRepository.addCommentCount(postId, 3);
+
+        // when
+        postCountReconcileService.reconcile();
+        Post result = postJpaRepository.findById(postId).orElseThrow();
+
+        // then
+        assertThat(result.getRecommendCount()).isZero();
+        assertThat(result.getCommentCount()).isZero();
+    }
+
+    @DisplayName("카운터가 0 으로 추가된 기존 게시글은 스키마 준비 스크립트가 실제 추천 수로 채운다.")
+    @Test
+    void backfillCounts() {
+        // given
+        User author = userRepository.save(User.builder()
+            .nickname("나는짱")
+            .email("midcon@naver.com")
+            .password("asd123123")
+            .build());
+        User reader = userRepository.save(User.builder()
+            .nickname("독자")
+            .email("reader@naver.com")
+            .password("asd123123")
+            .build());
+        Long postId = postService.uploadPost(author.getId(), PostCreateRequest.builder().title("제목").region("서울").build()).getId();
+        postService.recommend(reader.getId(), postId);
+        jdbcTemplate.update("update post set recommend_count = 0, comment_count = 0 where id = ?", postId);
+
+        // when
+        new ResourceDatabasePopulator(true, false, "UTF-8", new ClassPathResource("db/pre-schema.sql")).execute(jdbcTemplate.getDataSource());
+        Post result = postJpaRepository.findById(postId).orElseThrow();
+
+        // then
+        assertThat(result.getRecommendCount()).isEqualTo(1L);
+        assertThat(result.getCommentCount()).isZero();
+    }
 }
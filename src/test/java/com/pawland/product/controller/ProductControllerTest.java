@@ -0,0 +1,124 @@
+package com.pawland.product.controller;
+
+import com.pawland.global.config.TestSecurityConfig;
+import com.pawland.global.utils.PawLandMockUser;
+import com.pawland.product.domain.Product;
+import com.pawland.product.domain.WishProduct;
+import com.pawland.product.respository.ProductJpaRepository;
+import com.pawland.product.respository.WishProductJpaRepository;
+import com.pawland.user.domain.User;
+import com.pawland.user.exception.UserException;
+import com.pawland.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.pawland.global.utils.SqlStatementMatchers.maxSqlStatements;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestSecurityConfig.class)
+@ActiveProfiles("test")
+class ProductControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private WishProductJpaRepository wishProductJpaRepository;
+
+    @AfterEach
+    void tearDown() {
+        wishProductJpaRepository.deleteAllInBatch();
+        productJpaRepository.deleteAllInBatch();
+        userRepository.deleteAll();
+    }
+
+    @DisplayName("로그인 사용자의 상품 목록은 상품 수와 상관없이 정해진 개수의 쿼리로 찜 여부까지 조회한다.")
+    @PawLandMockUser
+    @Test
+    void getProducts1() throws Exception {
+        // given
+        User myAccount = userRepository.findByEmail("midcondria@naver.com")
+            .orElseThrow(UserException.NotFoundUser::new);
+        User seller = userRepository.save(createUser("판매자", "seller@naver.com"));
+        for (int i = 0; i < 12; i++) {
+            Product product = productJpaRepository.save(createProduct("나는짱물건" + i, seller));
+            if (i % 2 == 0) {
+                wishProductJpaRepository.save(new WishProduct(product, myAccount));
+            }
+        }
+
+        // expected
+        mockMvc.perform(get("/api/product")
+                .param("species", "강아지")
+                .param("page", "1")
+                .param("size", "12")
+            )
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(12))
+            .andExpect(jsonPath("$.content[?(@.wished == true)]", hasSize(6)))
+            .andExpect(maxSqlStatements(5));
+    }
+
+    @DisplayName("상품 상세는 찜한 사용자 수와 상관없이 정해진 개수의 쿼리로 조회한다.")
+    @PawLandMockUser
+    @Test
+    void getProductById1() throws Exception {
+        // given
+        User myAccount = userRepository.findByEmail("midcondria@naver.com")
+            .orElseThrow(UserException.NotFoundUser::new);
+        User seller = userRepository.save(createUser("판매자", "seller@naver.com"));
+        Product product = productJpaRepository.save(createProduct("나는짱물건", seller));
+        wishProductJpaRepository.save(new WishProduct(product, myAccount));
+        for (int i = 0; i < 10; i++) {
+            User wisher = userRepository.save(createUser("찜한사람" + i, "wisher" + i + "@naver.com"));
+            wishProductJpaRepository.save(new WishProduct(product, wisher));
+        }
+
+        // expected
+        mockMvc.perform(get("/api/product/{productId}", product.getId()))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.wished").value(true))
+            .andExpect(maxSqlStatements(9));
+    }
+
+    private User createUser(String nickname, String email) {
+        return User.builder()
+            .nickname(nickname)
+            .email(email)
+            .password("asd123123")
+            .build();
+    }
+
+    private Product createProduct(String name, User seller) {
+        return Product.builder()
+            .name(name)
+            .price(1000)
+            .category("장난감")
+            .species("강아지")
+            .condition("새상품")
+            .region("서울")
+            .seller(seller)
+            .build();
+    }
+}
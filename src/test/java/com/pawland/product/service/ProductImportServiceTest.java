@@ -0,0 +1,217 @@
+package com.pawland.product.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pawland.global.redis.RateLimiter;
+import com.pawland.product.domain.Product;
+import com.pawland.product.dto.request.CreateProductRequest;
+import com.pawland.product.dto.response.ProductImportResponse;
+import com.pawland.product.exception.ProductException;
+import com.pawland.product.respository.ProductJpaRepository;
+import com.pawland.user.domain.LoginType;
+import com.pawland.user.domain.User;
+import com.pawland.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("local")
+class ProductImportServiceTest {
+
+    private static final int PRODUCT_COUNT = 1_000;
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final List<Long> userIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        userIds.forEach(userId -> rateLimiter.reset(ProductImportService.RATE_LIMIT_NAME + userId));
+    }
+
+    @DisplayName("줄 단위 JSON 으로 받은 상품을 모두 등록하고 각 상품에 id 를 부여한다.")
+    @Test
+    @Transactional
+    void importProducts1() throws Exception {
+        // given
+        User user = createUser();
+        byte[] body = toNdjson(createRequests(50));
+
+        // when
+        ProductImportResponse result = productImportService.importProducts(user.getId(), new ByteArrayInputStream(body));
+
+        // then
+        List<Product> products = productJpaRepository.findAll().stream()
+            .filter(product -> product.getSeller().getId().equals(user.getId()))
+            .toList();
+        assertThat(result.getImportedCount()).isEqualTo(50);
+        assertThat(products).hasSize(50);
+        assertThat(products).extracting(Product::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(products).extracting(Product::getName).contains("상품0", "상품49");
+    }
+
+    @DisplayName("잘못된 상품이 하나라도 있으면 몇 번째 상품인지 알려주고 등록하지 않는다.")
+    @Test
+    @Transactional
+    void importProducts2() throws Exception {
+        // given
+        User user = createUser();
+        List<CreateProductRequest> requests = createRequests(3);
+        requests.get(1).setName("");
+        byte[] body = objectMapper.writeValueAsBytes(requests);
+
+        // expected
+        assertThatThrownBy(() -> productImportService.importProducts(user.getId(), new ByteArrayInputStream(body)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("2번째 상품의 입력 값을 확인해주세요.");
+    }
+
+    @DisplayName("한 번에 등록할 수 있는 개수를 넘으면 전체 등록을 거절한다.")
+    @Test
+    @Transactional
+    void importProducts3() throws Exception {
+        // given
+        User user = createUser();
+        byte[] body = toNdjson(createRequests(ProductImportService.MAX_IMPORT_SIZE + 1));
+
+        // expected
+        assertThatThrownBy(() -> productImportService.importProducts(user.getId(), new ByteArrayInputStream(body)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("한 번에 등록할 수 있는 상품은 " + ProductImportService.MAX_IMPORT_SIZE + "개까지입니다.");
+    }
+
+    @DisplayName("읽을 수 없는 본문은 원인 예외와 함께 거절한다.")
+    @Test
+    @Transactional
+    void importProducts4() {
+        // given
+        User user = createUser();
+        byte[] body = "{\"name\": ".getBytes(StandardCharsets.UTF_8);
+
+        // expected
+        assertThatThrownBy(() -> productImportService.importProducts(user.getId(), new ByteArrayInputStream(body)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("1번째 상품을 읽을 수 없습니다.")
+            .hasCauseInstanceOf(IOException.class);
+    }
+
+    @DisplayName("사용자마다 정해진 횟수를 넘겨 일괄 등록하면 거절한다.")
+    @Test
+    @Transactional
+    void importProducts5() throws Exception {
+        // given
+        User user = createUser();
+        byte[] body = toNdjson(createRequests(1));
+        for (int i = 0; i < 5; i++) {
+            productImportService.importProducts(user.getId(), new ByteArrayInputStream(body));
+        }
+
+        // expected
+        assertThatThrownBy(() -> productImportService.importProducts(user.getId(), new ByteArrayInputStream(body)))
+            .isInstanceOf(ProductException.ImportLimitExceeded.class);
+    }
+
+    @DisplayName("검증에 실패해 되돌려진 일괄 등록은 횟수 제한에 포함되지 않는다.")
+    @Test
+    void importProducts6() throws Exception {
+        // given
+        User user = createUser();
+        List<CreateProductRequest> requests = createRequests(2);
+        requests.get(1).setName("");
+        byte[] body = toNdjson(requests);
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> productImportService.importProducts(user.getId(), new ByteArrayInputStream(body)))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        // expected
+        assertThatThrownBy(() -> productImportService.importProducts(user.getId(), new ByteArrayInputStream(body)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("2번째 상품의 입력 값을 확인해주세요.");
+        userRepository.delete(user);
+    }
+
+    @DisplayName("줄 단위 JSON 으로 받은 상품을 모두 등록하고, 한 건씩 등록할 때와 처리 속도를 비교한다.")
+    @Test
+    @Transactional
+    void importProductsBenchmark() throws Exception {
+        // given
+        User user = createUser();
+        List<CreateProductRequest> requests = createRequests(PRODUCT_COUNT);
+        byte[] body = toNdjson(requests);
+
+        long before = productJpaRepository.count();
+        long oneByOneStart = System.nanoTime();
+        requests.forEach(request -> productService.createProduct(user.getId(), request));
+        long oneByOneMillis = (System.nanoTime() - oneByOneStart) / 1_000_000;
+
+        // when
+        long importStart = System.nanoTime();
+        ProductImportResponse result = productImportService.importProducts(user.getId(), new ByteArrayInputStream(body));
+        long importMillis = (System.nanoTime() - importStart) / 1_000_000;
+
+        // then
+        log.info("[상품 등록 {}건] 한 건씩 = {}ms, 일괄 등록 = {}ms", PRODUCT_COUNT, oneByOneMillis, importMillis);
+        assertThat(result.getImportedCount()).isEqualTo(PRODUCT_COUNT);
+        assertThat(productJpaRepository.count() - before).isEqualTo(PRODUCT_COUNT * 2L);
+    }
+
+    private User createUser() {
+        User user = userRepository.save(User.builder()
+            .email("test@test.com")
+            .password("123123")
+            .nickname("tester")
+            .type(LoginType.GOOGLE)
+            .build());
+        userIds.add(user.getId());
+        return user;
+    }
+
+    private byte[] toNdjson(List<CreateProductRequest> requests) throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (CreateProductRequest request : requests) {
+            body.append(objectMapper.writeValueAsString(request)).append('\n');
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private List<CreateProductRequest> createRequests(int count) {
+        List<CreateProductRequest> requests = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            requests.add(new CreateProductRequest("사료", "고양이", "새상품", "상품" + i, 10000,
+                "상품입니다.", "서울", null, List.of("https://image.test/" + i + ".png")));
+        }
+        return requests;
+    }
+}
@@ -1,5 +1,6 @@
 package com.pawland.product.service;
 
+import com.pawland.post.domain.Region;
 import com.pawland.product.dto.request.CreateProductRequest;
 import com.pawland.product.dto.request.SearchProductRequest;
 import com.pawland.product.dto.request.UpdateProductRequest;
@@ -13,7 +14,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +33,9 @@ class ProductServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private User createUser() {
         User tester = User.builder()
                 .email("test@test.com")
@@ -191,10 +198,72 @@ class ProductServiceTest {
         }
 
         //when
-        Page<ProductResponse> products = productService.getProducts(user.getId(), SearchProductRequest.builder().region(List.of("서울")).page(1).size(8).build());
+        Page<ProductResponse> products = productService.getProducts(user.getId(), SearchProductRequest.builder().region(List.of(Region.SEOUL)).page(1).size(8).build());
 
         //then
         Assertions.assertEquals(2, products.getContent().size());
 
     }
+
+    @DisplayName("상품 이미지는 상세 조회에서만 등록 순서대로 내려주고, 목록에서는 썸네일만 내려준다.")
+    @Test
+    @Transactional
+    void getProductImages() {
+        //given
+        User user = createUser();
+        ProductResponse product = productService.createProduct(user.getId(), new CreateProductRequest(
+                "사료",
+                "고양이",
+                "새상품",
+                "상품",
+                10000,
+                "상품입니다.",
+                "서울",
+                "thumbnail.png",
+                List.of("c.png", "a.png", "b.png")));
+
+        //when
+        ProductResponse detail = productService.getOneProductById(user.getId(), product.getId());
+        Page<ProductResponse> products = productService.getProducts(user.getId(), SearchProductRequest.builder().page(1).size(8).build());
+
+        //then
+        Assertions.assertEquals(List.of("c.png", "a.png", "b.png"), detail.getImageUrls());
+        Assertions.assertNull(products.getContent().get(0).getImageUrls());
+        Assertions.assertEquals("thumbnail.png", products.getContent().get(0).getThumbnailImage());
+    }
+
+    @DisplayName("옛 이미지 컬렉션 테이블의 이미지는 스키마 이전 스크립트가 product_image 로 복사하고, id 생성기를 복사한 id 뒤로 옮긴다.")
+    @Test
+    void migrateProductImages() {
+        //given
+        User user = createUser();
+        ProductResponse product = productService.createProduct(user.getId(), new CreateProductRequest(
+                "사료",
+                "고양이",
+                "새상품",
+                "상품",
+                10000,
+                "상품입니다.",
+                "서울",
+                null,
+                null));
+        jdbcTemplate.execute("create table product_image_urls (product_id bigint not null, image_urls varchar(255))");
+        jdbcTemplate.update("insert into product_image_urls (product_id, image_urls) values (?, 'b.png'), (?, 'a.png')", product.getId(), product.getId());
+
+        //when
+        new ResourceDatabasePopulator(true, false, "UTF-8", new ClassPathResource("db/post-schema.sql")).execute(jdbcTemplate.getDataSource());
+        List<String> urls = jdbcTemplate.queryForList("select url from product_image where product_id = ? order by display_order", String.class, product.getId());
+        Long maxId = jdbcTemplate.queryForObject("select max(id) from product_image", Long.class);
+        Long nextVal = jdbcTemplate.queryForObject("select next_val from id_generator where sequence_name = 'product_image'", Long.class);
+        Integer remaining = jdbcTemplate.queryForObject("select count(*) from information_schema.tables where upper(table_name) = 'PRODUCT_IMAGE_URLS'", Integer.class);
+        jdbcTemplate.execute("drop table product_image_urls_migrated");
+        jdbcTemplate.update("delete from product_image where product_id = ?", product.getId());
+        jdbcTemplate.update("delete from product where id = ?", product.getId());
+        userRepository.delete(user);
+
+        //then
+        Assertions.assertEquals(List.of("a.png", "b.png"), urls);
+        Assertions.assertTrue(nextVal > maxId);
+        Assertions.assertEquals(0, remaining);
+    }
 }
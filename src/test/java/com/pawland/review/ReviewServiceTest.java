@@ -6,8 +6,12 @@ import com.pawland.product.dto.request.CreateProductRequest;
 import com.pawland.product.dto.response.ProductResponse;
 import com.pawland.product.service.ProductService;
 import com.pawland.review.dto.request.CreateReviewRequest;
+import com.pawland.review.dto.response.MyReviewResponse;
 import com.pawland.review.dto.response.OrderReviewResponse;
+import com.pawland.review.dto.response.ReviewCursorResponse;
+import com.pawland.review.dto.response.SellerRatingResponse;
 import com.pawland.review.service.ReviewService;
+import com.pawland.review.service.SellerRatingReconcileService;
 import com.pawland.user.domain.LoginType;
 import com.pawland.user.domain.User;
 import com.pawland.user.repository.UserRepository;
@@ -16,9 +20,16 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
 @SpringBootTest
 @ActiveProfiles("local")
 class ReviewServiceTest {
@@ -34,6 +45,12 @@ class ReviewServiceTest {
     @Autowired
     OrderService orderService;
 
+    @Autowired
+    SellerRatingReconcileService sellerRatingReconcileService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
     @DisplayName("리뷰 작성 테스트")
     @Test
     @Transactional
@@ -54,6 +71,141 @@ class ReviewServiceTest {
         Assertions.assertEquals(review,oneOrderById.getOrderReviewResponse());
     }
 
+    @DisplayName("리뷰를 작성하면 판매자 평점과 별점 분포에 해당 리뷰만 더해진다.")
+    @Test
+    @Transactional
+    void createReview2() {
+        //given
+        User seller = createUser1();
+        User buyer = createUser2();
+        ProductResponse product = createProduct(seller.getId());
+        OrderResponse order = orderService.createOrder(buyer.getId(), product.getId());
+        orderService.doneOrder(seller.getId(), order.getId());
+        orderService.doneOrder(buyer.getId(), order.getId());
+
+        //when
+        reviewService.createReview(buyer.getId(), order.getId(), new CreateReviewRequest("리뷰입니다.", 4.5));
+        SellerRatingResponse rating = reviewService.getSellerRating(seller.getId());
+
+        //then
+        assertThat(rating.getStar()).isEqualTo(4.5);
+        assertThat(rating.getReviewCount()).isEqualTo(1);
+        assertThat(rating.getHistogram())
+                .extracting(SellerRatingResponse.StarCount::getStar, SellerRatingResponse.StarCount::getCount)
+                .containsExactly(tuple(4.5, 1L));
+    }
+
+    @DisplayName("판매자 평점 보정 작업은 리뷰 테이블 기준으로 합계와 별점 분포를 다시 만든다.")
+    @Test
+    @Transactional
+    void reconcile1() {
+        //given
+        User seller = createUser1();
+        User buyer = createUser2();
+        ProductResponse product = createProduct(seller.getId());
+        OrderResponse order = orderService.createOrder(buyer.getId(), product.getId());
+        orderService.doneOrder(seller.getId(), order.getId());
+        orderService.doneOrder(buyer.getId(), order.getId());
+        reviewService.createReview(buyer.getId(), order.getId(), new CreateReviewRequest("리뷰입니다.", 3.0));
+
+        //when
+        sellerRatingReconcileService.reconcile();
+        SellerRatingResponse rating = reviewService.getSellerRating(seller.getId());
+
+        //then
+        assertThat(rating.getStar()).isEqualTo(3.0);
+        assertThat(rating.getReviewCount()).isEqualTo(1);
+        assertThat(rating.getHistogram())
+                .extracting(SellerRatingResponse.StarCount::getStar, SellerRatingResponse.StarCount::getCount)
+                .containsExactly(tuple(3.0, 1L));
+    }
+
+    @DisplayName("별점 합계가 비어 있던 기존 판매자는 스키마 준비 스크립트가 평균 * 리뷰 수로 채운다.")
+    @Test
+    void backfillStarSum() {
+        //given
+        User seller = createUser1();
+        jdbcTemplate.update("update users set star = 4.5, review_count = 10, star_sum = 0 where id = ?", seller.getId());
+
+        //when
+        new ResourceDatabasePopulator(true, false, "UTF-8", new ClassPathResource("db/pre-schema.sql")).execute(jdbcTemplate.getDataSource());
+        Double starSum = jdbcTemplate.queryForObject("select star_sum from users where id = ?", Double.class, seller.getId());
+        userRepository.delete(seller);
+
+        //then
+        assertThat(starSum).isEqualTo(45.0);
+    }
+
+    @DisplayName("받은 리뷰를 상품 이미지, 작성자 정보와 함께 조회한다.")
+    @Test
+    @Transactional
+    void getMyReview1() {
+        //given
+        User seller = createUser1();
+        User buyer = createUser2();
+        ProductResponse product = createProduct(seller.getId());
+        OrderResponse order = orderService.createOrder(buyer.getId(), product.getId());
+        orderService.doneOrder(seller.getId(), order.getId());
+        orderService.doneOrder(buyer.getId(), order.getId());
+        reviewService.createReview(buyer.getId(), order.getId(), new CreateReviewRequest("리뷰입니다.", 5.0));
+
+        //when
+        Page<MyReviewResponse> result = reviewService.getMyReview(seller.getId(), 1, 10);
+
+        //then
+        assertThat(result.getTotalElements()).isEqualTo(1L);
+        assertThat(result.getContent()).hasSize(1)
+                .extracting(MyReviewResponse::getReviewerId, MyReviewResponse::getReviewerNickName, MyReviewResponse::getContent)
+                .containsExactly(tuple(buyer.getId(), "tester2", "리뷰입니다."));
+    }
+
+    @DisplayName("받은 리뷰의 전체 개수는 리뷰를 세지 않고 판매자에 저장된 리뷰 수를 사용한다.")
+    @Test
+    @Transactional
+    void getMyReview2() {
+        //given
+        User seller = createUser1();
+        User buyer = createUser2();
+        ProductResponse product = createProduct(seller.getId());
+        OrderResponse order = orderService.createOrder(buyer.getId(), product.getId());
+        orderService.doneOrder(seller.getId(), order.getId());
+        orderService.doneOrder(buyer.getId(), order.getId());
+        reviewService.createReview(buyer.getId(), order.getId(), new CreateReviewRequest("리뷰입니다.", 5.0));
+        long totalAfterReview = reviewService.getMyReview(seller.getId(), 1, 1).getTotalElements();
+        jdbcTemplate.update("update users set review_count = 7 where id = ?", seller.getId());
+
+        //when
+        Page<MyReviewResponse> result = reviewService.getMyReview(seller.getId(), 1, 1);
+
+        //then
+        assertThat(totalAfterReview).isEqualTo(1L);
+        assertThat(result.getTotalElements()).isEqualTo(7L);
+        assertThat(result.getTotalPages()).isEqualTo(7);
+    }
+
+    @DisplayName("받은 리뷰를 커서 기준으로 이어서 조회한다.")
+    @Test
+    @Transactional
+    void getMyReviewByCursor1() {
+        //given
+        User seller = createUser1();
+        User buyer = createUser2();
+        ProductResponse product = createProduct(seller.getId());
+        OrderResponse order = orderService.createOrder(buyer.getId(), product.getId());
+        orderService.doneOrder(seller.getId(), order.getId());
+        orderService.doneOrder(buyer.getId(), order.getId());
+        reviewService.createReview(buyer.getId(), order.getId(), new CreateReviewRequest("리뷰입니다.", 5.0));
+
+        //when
+        ReviewCursorResponse first = reviewService.getMyReviewByCursor(seller.getId(), null, null, 1);
+        ReviewCursorResponse second = reviewService.getMyReviewByCursor(seller.getId(), first.getNextCursorCreatedAt(), first.getNextCursorId(), 1);
+
+        //then
+        assertThat(first.getReviews()).hasSize(1);
+        assertThat(first.isHasNext()).isFalse();
+        assertThat(second.getReviews()).isEmpty();
+    }
+
     private User createUser1() {
         User tester = User.builder().email("test@test.com")
                 .password("123123")
@@ -0,0 +1,211 @@
+package com.pawland.trending.service;
+
+import com.pawland.trending.domain.TrendingKey;
+import com.pawland.trending.repository.TrendingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static com.pawland.post.domain.Region.BUSAN;
+import static com.pawland.post.domain.Region.SEOUL;
+import static com.pawland.product.domain.Species.CAT;
+import static com.pawland.product.domain.Species.DOG;
+import static com.pawland.trending.domain.TrendingEvent.COMMENT;
+import static com.pawland.trending.domain.TrendingEvent.RECOMMEND;
+import static com.pawland.trending.domain.TrendingEvent.VIEW;
+import static com.pawland.trending.domain.TrendingEvent.WISH;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+@SpringBootTest
+@ActiveProfiles("local")
+class TrendingServiceTest {
+
+    @Autowired
+    private TrendingService trendingService;
+
+    @Autowired
+    private TrendingRepository trendingRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        trendingRepository.deleteAll(TrendingKey.allKeys());
+    }
+
+    @DisplayName("가중치가 큰 이벤트를 받은 게시글이 더 높은 순위에 오른다.")
+    @Test
+    void getTrendingPostIds1() {
+        // given
+        trendingService.recordPost(1L, SEOUL, VIEW);
+        trendingService.recordPost(1L, SEOUL, VIEW);
+        trendingService.recordPost(2L, SEOUL, RECOMMEND);
+        trendingService.recordPost(3L, BUSAN, COMMENT);
+
+        // when
+        // then
+        assertThat(trendingService.getTrendingPostIds(null, 10)).containsExactly(2L, 3L, 1L);
+        assertThat(trendingService.getTrendingPostIds(SEOUL, 10)).containsExactly(2L, 1L);
+        assertThat(trendingService.getTrendingPostIds(BUSAN, 10)).containsExactly(3L);
+    }
+
+    @DisplayName("상품은 지역과 동물 종류 조합별로 랭킹을 조회할 수 있다.")
+    @Test
+    void getTrendingProductIds1() {
+        // given
+        trendingService.recordProduct(1L, SEOUL, DOG, WISH);
+        trendingService.recordProduct(2L, SEOUL, CAT, VIEW);
+        trendingService.recordProduct(3L, BUSAN, DOG, VIEW);
+
+        // when
+        // then
+        assertThat(trendingService.getTrendingProductIds(null, null, 10)).containsExactly(1L, 2L, 3L);
+        assertThat(trendingService.getTrendingProductIds(null, DOG, 10)).containsExactly(1L, 3L);
+        assertThat(trendingService.getTrendingProductIds(SEOUL, CAT, 10)).containsExactly(2L);
+    }
+
+    @DisplayName("취소된 이벤트의 점수는 다시 빠진다.")
+    @Test
+    void retractPost1() {
+        // given
+        trendingService.recordPost(1L, SEOUL, VIEW);
+        trendingService.recordPost(2L, SEOUL, RECOMMEND);
+
+        // when
+        trendingService.retractPost(2L, SEOUL, RECOMMEND, LocalDateTime.now());
+
+        // then
+        assertThat(trendingService.getTrendingPostIds(SEOUL, 10).get(0)).isEqualTo(1L);
+    }
+
+    @DisplayName("반감기가 여러 번 지난 뒤 취소해도 원래 기록된 점수만큼만 빠진다.")
+    @Test
+    void retractPost2() {
+        // given
+        trendingRepository.deleteAll(TrendingKey.allKeys());
+        long halfLife = Duration.ofHours(12).toMillis();
+        long recordedAt = System.currentTimeMillis() - 2 * halfLife;
+        trendingRepository.increment(TrendingKey.postKeys(SEOUL), 1L, RECOMMEND.getWeight(), recordedAt, halfLife);
+        trendingService.recordPost(1L, SEOUL, VIEW);
+        Double viewScore = trendingRepository.getScore(TrendingKey.post(null), 1L) - RECOMMEND.getWeight();
+
+        // when
+        trendingService.retractPost(1L, SEOUL, RECOMMEND, toLocalDateTime(recordedAt));
+
+        // then
+        assertThat(trendingRepository.getScore(TrendingKey.post(null), 1L)).isCloseTo(viewScore, offset(0.01));
+        assertThat(trendingRepository.getScore(TrendingKey.post(SEOUL), 1L)).isCloseTo(viewScore, offset(0.01));
+    }
+
+    @DisplayName("취소로 점수가 0 이하가 되면 랭킹에서 빠지고, 없는 항목은 새로 만들지 않는다.")
+    @Test
+    void retractPost3() {
+        // given
+        trendingService.recordPost(1L, SEOUL, VIEW);
+        LocalDateTime recordedAt = LocalDateTime.now();
+
+        // when
+        trendingService.retractPost(1L, SEOUL, VIEW, recordedAt);
+        trendingService.retractPost(1L, SEOUL, VIEW, recordedAt);
+        trendingService.retractPost(2L, SEOUL, RECOMMEND, recordedAt);
+
+        // then
+        assertThat(trendingService.getTrendingPostIds(null, 10)).isEmpty();
+        assertThat(trendingRepository.getScore(TrendingKey.post(null), 2L)).isNull();
+    }
+
+    @DisplayName("지역이 바뀐 게시글은 이전 지역 랭킹에서 빠지고 전체 랭킹 점수는 유지된다.")
+    @Test
+    void relocatePost1() {
+        // given
+        trendingService.recordPost(1L, SEOUL, RECOMMEND);
+        Double score = trendingRepository.getScore(TrendingKey.post(null), 1L);
+
+        // when
+        trendingService.relocatePost(1L, SEOUL, BUSAN);
+
+        // then
+        assertThat(trendingService.getTrendingPostIds(SEOUL, 10)).isEmpty();
+        assertThat(trendingService.getTrendingPostIds(null, 10)).containsExactly(1L);
+        assertThat(trendingRepository.getScore(TrendingKey.post(null), 1L)).isEqualTo(score);
+        assertThat(trendingRepository.getScore(TrendingKey.post(BUSAN), 1L)).isEqualTo(score);
+    }
+
+    @DisplayName("지역과 종이 바뀐 상품은 쌓인 점수를 그대로 가지고 새 지역, 종 랭킹으로 옮겨진다.")
+    @Test
+    void relocateProduct1() {
+        // given
+        trendingService.recordProduct(1L, SEOUL, DOG, WISH);
+        trendingService.recordProduct(2L, BUSAN, CAT, VIEW);
+        Double score = trendingRepository.getScore(TrendingKey.product(null, null), 1L);
+
+        // when
+        trendingService.relocateProduct(1L, SEOUL, DOG, BUSAN, CAT);
+
+        // then
+        assertThat(trendingService.getTrendingProductIds(SEOUL, null, 10)).isEmpty();
+        assertThat(trendingService.getTrendingProductIds(null, DOG, 10)).isEmpty();
+        assertThat(trendingService.getTrendingProductIds(BUSAN, CAT, 10)).containsExactly(1L, 2L);
+        assertThat(trendingRepository.getScore(TrendingKey.product(BUSAN, null), 1L)).isEqualTo(score);
+        assertThat(trendingRepository.getScore(TrendingKey.product(null, CAT), 1L)).isEqualTo(score);
+    }
+
+    @DisplayName("트랜잭션 안에서 기록한 점수는 커밋된 뒤에 반영되고, 롤백되면 반영되지 않는다.")
+    @Test
+    void recordPost1() {
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            trendingService.recordPost(1L, SEOUL, RECOMMEND);
+            assertThat(trendingRepository.getScore(TrendingKey.post(null), 1L)).isNull();
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            trendingService.recordPost(2L, SEOUL, RECOMMEND);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(trendingService.getTrendingPostIds(null, 10)).containsExactly(1L);
+    }
+
+    @DisplayName("기준 시각을 옮기면 순위는 유지되고 점수는 반감기에 맞춰 줄어든다.")
+    @Test
+    void rebase1() {
+        // given
+        trendingService.recordPost(1L, SEOUL, RECOMMEND);
+        trendingService.recordPost(2L, SEOUL, COMMENT);
+        Double before = trendingRepository.getScore(TrendingKey.post(null), 1L);
+
+        // when
+        trendingService.rebase(System.currentTimeMillis() + Duration.ofHours(12).toMillis());
+
+        // then
+        Double after = trendingRepository.getScore(TrendingKey.post(null), 1L);
+        assertThat(after).isCloseTo(before / 2, offset(0.01));
+        assertThat(trendingService.getTrendingPostIds(null, 10)).containsExactly(1L, 2L);
+    }
+
+    @DisplayName("한 번에 조회할 수 있는 개수를 넘으면 예외를 던진다.")
+    @Test
+    void getTrendingPostIds2() {
+        // expected
+        assertThatThrownBy(() -> trendingService.getTrendingPostIds(null, TrendingService.MAX_SIZE + 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("조회 개수를 확인해주세요.");
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}